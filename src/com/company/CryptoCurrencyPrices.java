@@ -1,5 +1,7 @@
 package com.company;
 
+import com.company.api_call.quote_server.QuoteServer;
+import com.company.controller.headless.HeadlessController;
 import com.company.controller.main.MainController;
 
 /**
@@ -8,10 +10,39 @@ import com.company.controller.main.MainController;
 public final class CryptoCurrencyPrices {
 
     /**
-     * The main method which launches the application
+     * The flag that runs the application without a user interface
+     */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    /**
+     * The flag that turns on the quote server, optionally followed by =port
+     */
+    public static final String SERVE_FLAG = "--serve";
+
+    /**
+     * The main method which launches the application. With --headless, the endpoints are run without any window (and
+     * without loading Swing or AWT at all), and the prices are written to standard output. With --serve (or
+     * --serve=port), the quotes are also served over HTTP on the loopback address (see QuoteServer)
      * @param args Standard main method args
      */
     public static void main(final String[] args) {
+        boolean isHeadless = false;
+        for (final String arg : args) {
+            if (CryptoCurrencyPrices.HEADLESS_FLAG.equals(arg)) isHeadless = true;
+            else if (CryptoCurrencyPrices.SERVE_FLAG.equals(arg))
+                System.setProperty(QuoteServer.PORT_PROPERTY, "");
+            else if (arg.startsWith(CryptoCurrencyPrices.SERVE_FLAG + "="))
+                System.setProperty(QuoteServer.PORT_PROPERTY,
+                        arg.substring(CryptoCurrencyPrices.SERVE_FLAG.length() + 1));
+        }
+
+        if (isHeadless) {
+            // Only in case something does reach for AWT, so that it fails rather than looks for a display
+            System.setProperty("java.awt.headless", "true");
+            new HeadlessController().run();
+            return;
+        }
+
         final MainController controller = new MainController();
         controller.run();
     }
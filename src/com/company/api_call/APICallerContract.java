@@ -1,5 +1,7 @@
 package com.company.api_call;
 
+import com.company.api_call.http_transport.HttpTransportInterface;
+import com.company.api_call.quote_journal.QuoteJournalInterface;
 import com.company.tool.enums.Errors;
 import com.company.tool.enums.currency.CryptoCurrencies;
 import com.company.tool.enums.currency.FiatCurrencies;
@@ -11,17 +13,44 @@ import java.time.LocalDateTime;
  */
 public interface APICallerContract {
 
+    /**
+     * Notifies that an update of a pair has finished
+     * @param price The mantissa of the pair's latest price at the pair's scale (see FixedPointPrice), which is the one
+     *              held from before if the update failed, or FixedPointPrice.NO_PRICE if there has never been one
+     * @param isSuccessful If the update succeeded
+     * @param lastUpdated The time of the last successful update (null if it has never succeeded)
+     */
     void notifyPriceSet(final APICallerInterface endpoint, final CryptoCurrencies crypto, final FiatCurrencies fiat,
-                        final double price, final boolean isSuccessful,
+                        final long price, final boolean isSuccessful,
                         final LocalDateTime lastUpdated);
 
     void notifyUpdating(final APICallerInterface endpoint, final CryptoCurrencies crypto, final FiatCurrencies fiat,
                         final boolean isUpdating);
 
     /**
-     * Pops up a window that displays an error message
+     * Records an error for the main window to show. This is called from the fetch threads, so it must not block or
+     * build any components
      * @param error The type of error
      * @param name The name of whoever called this error
      */
     void errorDisplay(final Errors error, final String name, final CryptoCurrencies crypto, final FiatCurrencies fiat);
+
+    /**
+     * Records an error for a call that covered more than a single pair
+     * @param error The type of error
+     * @param name The name of whoever called this error
+     */
+    void errorDisplay(final Errors error, final String name);
+
+    /**
+     * Returns the HTTP transport that the API callers make their calls through
+     * @return The shared HTTP transport
+     */
+    HttpTransportInterface getHttpTransport();
+
+    /**
+     * Returns the journal that the API callers record their successful updates in
+     * @return The quote journal
+     */
+    QuoteJournalInterface getQuoteJournal();
 }
@@ -1,11 +1,15 @@
 package com.company.api_call;
 
+import com.company.api_call.circuit_breaker.CircuitBreakerInterface;
+import com.company.api_call.price_history.PriceHistoryInterface;
+import com.company.tool.enums.QuoteSide;
 import com.company.tool.enums.currency.CryptoCurrencies;
 import com.company.tool.enums.currency.FiatCurrencies;
 import com.company.tool.exception.currency_not_supported.CryptoCurrencyNotSupported;
 import com.company.tool.exception.currency_not_supported.FiatCurrencyNotSupported;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The abstract API caller interface for all classes which will call APIs
@@ -14,14 +18,31 @@ public interface APICallerInterface {
 
     /**
      * Returns the current price
-     * @return The current price
+     * @return The mantissa of the current price at the pair's scale (see FixedPointPrice), or
+     *         FixedPointPrice.NO_PRICE if the pair has never been successfully updated
      */
-    double getPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+    long getPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
 
     LocalDateTime getLastSuccessfulUpdated(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
 
+    /**
+     * Returns the time of the last successful update of a pair, without allocating
+     * @return The time (in epoch milliseconds) of the last successful update, or EndpointMemoryInterface.NEVER
+     */
+    long getLastSuccessfulUpdatedMillis(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
+    /**
+     * Reads the price, last successful update time and last update's outcome of a pair as one consistent snapshot,
+     * without allocating
+     * @param quote Where to read it, indexed by EndpointMemoryInterface.QUOTE_PRICE, QUOTE_LAST_UPDATED and
+     *              QUOTE_SUCCESSFUL (at least EndpointMemoryInterface.QUOTE_LENGTH long)
+     */
+    void getQuote(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long[] quote)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
     boolean isUpdating(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
 
@@ -43,11 +64,55 @@ public interface APICallerInterface {
     boolean canUseFiatCurrency(final FiatCurrencies fiatCurrency);
 
     /**
-     * Updates the price and notifies the controller
+     * Updates the price and notifies the controller. If an update for the same pair is already in flight, no new call
+     * is made and the in-flight update is joined instead
+     * @return The update, which completes with the mantissa of the new price. If the update failed (or the circuit
+     *         breaker is open) it completes with the last price held, or FixedPointPrice.NO_PRICE if there is none
      */
-    void updatePriceAndNotify(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+    CompletableFuture<Long> updatePriceAndNotify(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
 
+    /**
+     * Restores a price that was received before the application last shut down and notifies the controller. It is
+     * ignored if the endpoint already holds a newer price for the pair
+     * @param price The mantissa of the price, at the pair's scale
+     * @param lastSuccessfulUpdated The time (in epoch milliseconds) the price was received
+     */
+    void restorePrice(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long price,
+                      final long lastSuccessfulUpdated)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
+    /**
+     * Returns if the endpoint can update the price of every pair it accepts in a single call
+     * @return If the endpoint can update the price of every pair it accepts in a single call
+     */
+    boolean supportsBatchUpdate();
+
+    /**
+     * Returns the side of the market that the endpoint's prices are quoted on
+     * @return The side of the market that the endpoint's prices are quoted on
+     */
+    QuoteSide getQuoteSide();
+
+    /**
+     * Updates the price of every pair the endpoint accepts and notifies the controller of each one. If the endpoint
+     * supports batch updates this is done in a single call
+     * @return The update, which completes once every pair has been updated
+     */
+    CompletableFuture<Void> updateAllPricesAndNotify();
+
+    /**
+     * Returns the bounded history of the prices the endpoint has seen for each pair
+     * @return The price history of the endpoint
+     */
+    PriceHistoryInterface getPriceHistory();
+
+    /**
+     * Returns the circuit breaker that stops the endpoint's calls while it keeps failing
+     * @return The circuit breaker of the endpoint
+     */
+    CircuitBreakerInterface getCircuitBreaker();
+
     /**
      * Returns the name of the API endpoint
      * @return The name of the API endpoint
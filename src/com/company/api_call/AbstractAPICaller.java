@@ -1,26 +1,34 @@
 package com.company.api_call;
 
+import com.company.api_call.circuit_breaker.CircuitBreaker;
+import com.company.api_call.circuit_breaker.CircuitBreakerInterface;
 import com.company.api_call.endpoint_memory.EndpointMemory;
 import com.company.api_call.endpoint_memory.EndpointMemoryInterface;
+import com.company.api_call.json_path.JSONPathExtractor;
+import com.company.api_call.json_path.JSONPathExtractorInterface;
+import com.company.api_call.price_history.PriceHistory;
+import com.company.api_call.price_history.PriceHistoryInterface;
 import com.company.tool.enums.Errors;
+import com.company.tool.enums.QuoteSide;
 import com.company.tool.enums.currency.CryptoCurrencies;
-import com.company.tool.enums.currency.Currency;
 import com.company.tool.enums.currency.FiatCurrencies;
 import com.company.tool.exception.BadData;
 import com.company.tool.exception.currency_not_supported.CryptoCurrencyNotSupported;
 import com.company.tool.exception.currency_not_supported.FiatCurrencyNotSupported;
-import json_simple.JSONObject;
-import json_simple.parser.JSONParser;
+import com.company.tool.util.FixedPointPrice;
+import com.company.tool.util.Pair;
 import json_simple.parser.ParseException;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLConnection;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * The abstract class for API calls, which all API calls are based off of
@@ -51,8 +59,40 @@ public abstract class AbstractAPICaller implements APICallerInterface {
      */
     private final FiatCurrencies[] acceptedFiats;
 
+    /**
+     * The ordinals of the cryptocurrencies that this website can use
+     */
+    private final BitSet acceptedCryptoSet;
+
+    /**
+     * The ordinals of the fiat currencies that this website can use
+     */
+    private final BitSet acceptedFiatSet;
+
     private final EndpointMemoryInterface memory;
 
+    /**
+     * The bounded history of the prices this endpoint has seen
+     */
+    private final PriceHistoryInterface history;
+
+    /**
+     * The circuit breaker that stops the calls while this endpoint keeps failing
+     */
+    private final CircuitBreakerInterface circuitBreaker = new CircuitBreaker();
+
+    /**
+     * The updates that are currently in flight for each pair, so that callers asking for the same pair at the same
+     * time all share a single call
+     */
+    private final Map<Pair<CryptoCurrencies, FiatCurrencies>, CompletableFuture<Long>> inFlight =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The batch update that is currently in flight, if there is one
+     */
+    private final AtomicReference<CompletableFuture<Void>> batchInFlight = new AtomicReference<>();
+
 
     /* ************ *
      * Constructors *
@@ -70,11 +110,14 @@ public abstract class AbstractAPICaller implements APICallerInterface {
         // The order here is important
         this.acceptedCryptos = acceptedCryptos;
         this.acceptedFiats = acceptedFiats;
+        this.acceptedCryptoSet = AbstractAPICaller.toOrdinalSet(acceptedCryptos);
+        this.acceptedFiatSet = AbstractAPICaller.toOrdinalSet(acceptedFiats);
 
         this.controller = controller;
         this.name = name;
 
         this.memory = new EndpointMemory(this.acceptedCryptos, this.acceptedFiats);
+        this.history = new PriceHistory(this.acceptedCryptos, this.acceptedFiats);
     }
 
 
@@ -86,35 +129,79 @@ public abstract class AbstractAPICaller implements APICallerInterface {
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
 
     /**
-     * Gets the price from the JSON object which was returned from a call
-     *
-     * @param jsonObject The returned, parsed JSON object from the call
-     * @return The price extracted from the JSON object.
+     * Returns the path of the price in the JSON returned from a call, i.e. the keys leading from the root object to it
+     * (e.g. { "data", "amount" }). The price can be a number or a string holding one
+     * @return The path of the price
+     */
+    protected abstract String[] getPricePath(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
+    /**
+     * Returns if this endpoint can update every pair it accepts in a single call. Endpoints that can should override
+     * this along with createBatchURLStringForCall and getBatchPricePath
+     * @return If this endpoint can update every pair it accepts in a single call
+     */
+    @Override
+    public boolean supportsBatchUpdate() { return false; }
+
+    /**
+     * Returns the side of the market that the endpoint's prices are quoted on. Most endpoints quote a reference price,
+     * and the ones that quote a side of the market should override this
+     * @return The side of the market that the endpoint's prices are quoted on
      */
-    protected abstract double extractPrice(final JSONObject jsonObject, final CryptoCurrencies crypto,
-                                           final FiatCurrencies fiat)
-            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported, BadData;
+    @Override
+    public QuoteSide getQuoteSide() { return QuoteSide.MID; }
+
+    /**
+     * Creates the url for a single call that returns the prices of every combination of the given currencies
+     * @param cryptos The cryptocurrencies to get the prices of
+     * @param fiats The fiat currencies to get the prices in
+     * @return The url for the call
+     */
+    protected String createBatchURLStringForCall(final CryptoCurrencies[] cryptos, final FiatCurrencies[] fiats) {
+        throw new UnsupportedOperationException(this.getName() + " can't update its prices in a batch");
+    }
+
+    /**
+     * Returns the path of the price of a single pair in the JSON returned from a batch call
+     * @return The path of the price of the pair
+     */
+    protected String[] getBatchPricePath(final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+        throw new UnsupportedOperationException(this.getName() + " can't update its prices in a batch");
+    }
 
     @Override
     public boolean canUseCryptoCurrency(final CryptoCurrencies crypto) {
-        return Arrays.asList(this.acceptedCryptos).contains(crypto);
+        return this.acceptedCryptoSet.get(crypto.ordinal());
     }
 
     @Override
     public boolean canUseFiatCurrency(final FiatCurrencies fiat) {
-        return Arrays.asList(this.acceptedFiats).contains(fiat);
+        return this.acceptedFiatSet.get(fiat.ordinal());
+    }
+
+    /**
+     * Returns the ordinals of the given cryptocurrencies as a set, so that checking whether a cryptocurrency is one of
+     * them is a single bit lookup rather than a scan of the array
+     * @param currencies The cryptocurrencies
+     * @return The ordinals of the cryptocurrencies
+     */
+    protected static BitSet toOrdinalSet(final CryptoCurrencies[] currencies) {
+        final BitSet ordinals = new BitSet(CryptoCurrencies.count());
+        for (final CryptoCurrencies currency : currencies) ordinals.set(currency.ordinal());
+        return ordinals;
     }
 
     /**
-     * A method to avoid duplication in implementation of the "canUseCryptoCurrency" and "canUseFiatCurrency" methods
-     * that are in each of the children classes. This method is to only be called by the children classes
-     * @param acceptedCurrencies The array of accepted currencies for this endpoint
-     * @param attemptedCurrency The currency in question to see if it is in the list of accepted currencies for this
-     *                          endpoint
-     * @return If the attemptedCurrency is in the list of acceptedCurrencies
+     * Returns the ordinals of the given fiat currencies as a set
+     * @param currencies The fiat currencies
+     * @return The ordinals of the fiat currencies
+     * @see #toOrdinalSet(CryptoCurrencies[])
      */
-    protected static boolean canUseCurrency(final Currency[] acceptedCurrencies, final Currency attemptedCurrency) {
-        return Arrays.asList(acceptedCurrencies).contains(attemptedCurrency);
+    protected static BitSet toOrdinalSet(final FiatCurrencies[] currencies) {
+        final BitSet ordinals = new BitSet(FiatCurrencies.values().length);
+        for (final FiatCurrencies currency : currencies) ordinals.set(currency.ordinal());
+        return ordinals;
     }
 
     protected void throwIfNotAcceptedCurrency(final CryptoCurrencies crypto, final FiatCurrencies fiat)
@@ -126,11 +213,18 @@ public abstract class AbstractAPICaller implements APICallerInterface {
     @Override
     public String getName() { return this.name; }
 
-    /* TODO: This is where you left off. When we switch from one currency to the next, but don't refresh, we aren't
-     *   updating the values by getting the latest values.
+    @Override
+    public PriceHistoryInterface getPriceHistory() { return this.history; }
+
+    @Override
+    public CircuitBreakerInterface getCircuitBreaker() { return this.circuitBreaker; }
+
+    /**
+     * Returns the latest price held in memory. Every pair is kept warm by the prefetcher, so this is fresh without
+     * needing a refresh when switching from one currency to the next
      */
     @Override
-    public double getPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+    public long getPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported  {
         return this.memory.getPrice(crypto, fiat);
     }
@@ -141,6 +235,18 @@ public abstract class AbstractAPICaller implements APICallerInterface {
         return this.memory.getLastSuccessfulUpdated(crypto, fiat);
     }
 
+    @Override
+    public long getLastSuccessfulUpdatedMillis(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        return this.memory.getLastSuccessfulUpdatedMillis(crypto, fiat);
+    }
+
+    @Override
+    public void getQuote(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long[] quote)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        this.memory.getQuote(crypto, fiat, quote);
+    }
+
     @Override
     public boolean isUpdating(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
@@ -154,22 +260,147 @@ public abstract class AbstractAPICaller implements APICallerInterface {
     }
 
     /**
-     * Updates the price and notifies the controller
+     * Updates the price and notifies the controller. Only one update per pair is ever in flight: whoever asks for a
+     * pair that is already being updated gets the in-flight update back instead of making another call. A failed
+     * update is recorded as such and the last price held for the pair is returned, the same as while the circuit
+     * breaker is open, when no call is made at all
      */
     @Override
-    public void updatePriceAndNotify(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+    public CompletableFuture<Long> updatePriceAndNotify(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        this.throwIfNotAcceptedCurrency(crypto, fiat);
+        if (this.circuitBreaker.isOpen()) return CompletableFuture.completedFuture(this.memory.getPrice(crypto, fiat));
+
+        final Pair<CryptoCurrencies, FiatCurrencies> key = new Pair<>(crypto, fiat);
+        final CompletableFuture<Long> update = new CompletableFuture<>();
+        final CompletableFuture<Long> existing = this.inFlight.putIfAbsent(key, update);
+        if (existing != null) return existing;
 
-        this.setIsUpdatingAndNotify(crypto, fiat, true);
         try {
-            final double newPrice = this.getNewPrice(crypto, fiat);
+            this.setIsUpdatingAndNotify(crypto, fiat, true);
+            long newPrice;
+            try {
+                newPrice = this.getNewPrice(crypto, fiat);
+            } catch (final BadData ignored) {
+                // Recorded as a failed update, which keeps the last price held
+                newPrice = FixedPointPrice.NO_PRICE;
+            }
             this.setNewPriceAndNotify(crypto, fiat, newPrice);
-        } catch (final BadData exception) {
-            // TODO: The flow here is off. We're not properly updating the memory to say if it's
-            //  failed the update
-            this.setIsUpdatingAndNotify(crypto, fiat, false);
+            update.complete(this.memory.getPrice(crypto, fiat));
+        } catch (final CryptoCurrencyNotSupported | FiatCurrencyNotSupported | RuntimeException exception) {
+            update.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            this.abandonUpdateIfUnfinished(crypto, fiat);
+            this.inFlight.remove(key, update);
+        }
+
+        return update;
+    }
+
+    /**
+     * Records an update of a pair that ended without recording its outcome (i.e. an unexpected exception was thrown)
+     * as a failed one, so the pair is never left marked as updating
+     */
+    private void abandonUpdateIfUnfinished(final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+        try {
+            if (this.memory.isUpdating(crypto, fiat)) this.setNewPriceAndNotify(crypto, fiat, FixedPointPrice.NO_PRICE);
+        } catch (final CryptoCurrencyNotSupported | FiatCurrencyNotSupported exception) {
+            // Only accepted pairs are ever marked as updating, so this can't happen
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    @Override
+    public void restorePrice(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long price,
+                             final long lastSuccessfulUpdated)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        // Never clobber a price that's newer than the one being restored
+        if (!this.memory.restoreQuote(crypto, fiat, price, lastSuccessfulUpdated)) return;
+
+        this.history.append(crypto, fiat, lastSuccessfulUpdated, price);
+        this.controller.notifyPriceSet(this, crypto, fiat, price, true,
+                EndpointMemory.toLocalDateTime(lastSuccessfulUpdated));
+    }
+
+    /**
+     * Updates the price of every pair this endpoint accepts and notifies the controller of each one. Endpoints that
+     * support it do this in a single call, the rest fall back to one call per pair
+     */
+    @Override
+    public CompletableFuture<Void> updateAllPricesAndNotify() {
+        if (this.circuitBreaker.isOpen()) return CompletableFuture.completedFuture(null);
+        if (!this.supportsBatchUpdate()) return this.updateEachPriceAndNotify();
+
+        final CompletableFuture<Void> update = new CompletableFuture<>();
+        final CompletableFuture<Void> existing = this.batchInFlight.compareAndExchange(null, update);
+        if (existing != null) return existing;
+
+        try {
+            for (final CryptoCurrencies crypto : this.acceptedCryptos) {
+                for (final FiatCurrencies fiat : this.acceptedFiats) this.setIsUpdatingAndNotify(crypto, fiat, true);
+            }
+
+            final String[][] paths = new String[this.acceptedCryptos.length * this.acceptedFiats.length][];
+            final int[] scales = new int[paths.length];
+            int i = 0;
+            for (final CryptoCurrencies crypto : this.acceptedCryptos) {
+                for (final FiatCurrencies fiat : this.acceptedFiats) {
+                    paths[i] = this.getBatchPricePath(crypto, fiat);
+                    scales[i++] = FixedPointPrice.scaleOf(crypto, fiat);
+                }
+            }
+
+            final long[] prices = this.getRequestCall(
+                    this.createBatchURLStringForCall(this.acceptedCryptos, this.acceptedFiats),
+                    new JSONPathExtractor(paths, scales), null, null);
+
+            // Fan the single response out to every pair (the ones missing from it are marked as failed)
+            i = 0;
+            for (final CryptoCurrencies crypto : this.acceptedCryptos) {
+                for (final FiatCurrencies fiat : this.acceptedFiats) {
+                    final long price = prices == null ? FixedPointPrice.NO_PRICE : prices[i];
+                    i++;
+                    this.setNewPriceAndNotify(crypto, fiat, price);
+                }
+            }
+            update.complete(null);
+        } catch (final CryptoCurrencyNotSupported | FiatCurrencyNotSupported exception) {
+            // Every pair here comes from the accepted currencies, so this can't happen
+            update.completeExceptionally(exception);
+            throw new IllegalStateException(exception);
+        } catch (final RuntimeException exception) {
+            update.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            for (final CryptoCurrencies crypto : this.acceptedCryptos) {
+                for (final FiatCurrencies fiat : this.acceptedFiats) this.abandonUpdateIfUnfinished(crypto, fiat);
+            }
+            this.batchInFlight.compareAndSet(update, null);
         }
 
+        return update;
+    }
+
+    /**
+     * Updates the price of every pair this endpoint accepts one call at a time
+     * @return The updates of all the pairs combined
+     */
+    private CompletableFuture<Void> updateEachPriceAndNotify() {
+        final CompletableFuture<?>[] updates = new CompletableFuture<?>[this.acceptedCryptos.length *
+                this.acceptedFiats.length];
+        int i = 0;
+        for (final CryptoCurrencies crypto : this.acceptedCryptos) {
+            for (final FiatCurrencies fiat : this.acceptedFiats) {
+                try {
+                    updates[i++] = this.updatePriceAndNotify(crypto, fiat);
+                } catch (final CryptoCurrencyNotSupported | FiatCurrencyNotSupported exception) {
+                    // Every pair here comes from the accepted currencies, so this can't happen
+                    throw new IllegalStateException(exception);
+                }
+            }
+        }
+        return CompletableFuture.allOf(updates);
     }
 
     private void setIsUpdatingAndNotify(final CryptoCurrencies crypto, final FiatCurrencies fiat,
@@ -180,85 +411,126 @@ public abstract class AbstractAPICaller implements APICallerInterface {
         this.controller.notifyUpdating(this, crypto, fiat, isUpdating);
     }
 
-    private double getNewPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+    private long getNewPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported, BadData {
 
-        final JSONObject response = this.getRequestCall(crypto, fiat);
-        return this.extractPrice(response, crypto, fiat);
+        final String[] path = this.getPricePath(crypto, fiat);
+        final long[] prices = this.getRequestCall(this.createURLStringForCall(crypto, fiat),
+                new JSONPathExtractor(new String[][] { path }, new int[] { FixedPointPrice.scaleOf(crypto, fiat) }),
+                crypto, fiat);
+
+        if (prices == null || prices[0] == FixedPointPrice.NO_PRICE)
+            throw new BadData(new NoSuchElementException("No price at " + String.join(".", path)), this);
+        return prices[0];
     }
 
+    /**
+     * Records the outcome of an update and notifies the controller. A failed update keeps (and shows) the last price
+     * held for the pair
+     * @param price The mantissa of the new price, or FixedPointPrice.NO_PRICE if the update failed
+     */
     // TODO: Update this when price errors get updated
-    private void setNewPriceAndNotify(final CryptoCurrencies crypto, final FiatCurrencies fiat, final double price)
+    private void setNewPriceAndNotify(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long price)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
 
+        final long now = System.currentTimeMillis();
+        final boolean isSuccessful = FixedPointPrice.isPrice(price);
         this.memory.setUpdating(crypto, fiat, false);
-        if (price != -1) this.memory.setPrice(crypto, fiat, price);
-        if (price != -1) this.memory.setLastSuccessfulUpdated(crypto, fiat, LocalDateTime.now());
-        this.memory.setWasLastUpdateSuccessful(crypto, fiat, price != -1);
-        this.controller.notifyPriceSet(this, crypto, fiat, price, price != -1,
-                this.memory.getLastSuccessfulUpdated(crypto, fiat));
+        if (isSuccessful) this.memory.setQuote(crypto, fiat, price, now);
+        else this.memory.setWasLastUpdateSuccessful(crypto, fiat, false);
+        if (isSuccessful) this.history.append(crypto, fiat, now, price);
+        if (isSuccessful) this.controller.getQuoteJournal().append(this.getName(), crypto, fiat, price, now);
+
+        // Show the price and time the pair holds now as one snapshot, so they always belong together
+        final long[] quote = new long[EndpointMemoryInterface.QUOTE_LENGTH];
+        this.memory.getQuote(crypto, fiat, quote);
+        this.controller.notifyPriceSet(this, crypto, fiat, quote[EndpointMemoryInterface.QUOTE_PRICE], isSuccessful,
+                EndpointMemory.toLocalDateTime(quote[EndpointMemoryInterface.QUOTE_LAST_UPDATED]));
     }
 
     /**
-     * Hits the url and retrieves the JSON. If there is an error, it returns null
-     * @return The parsed JSON object returned as a result of the call. If there is an error, then it returns null
+     * Hits the url and extracts the prices from the JSON. If there is an error, it returns null. The outcome is
+     * recorded in the circuit breaker, and while the breaker is open the call is skipped
+     * @param url The url to hit
+     * @param extractor The extractor of the prices
+     * @param crypto The cryptocurrency the call is for (null if the call is a batch covering several)
+     * @param fiat The fiat currency the call is for (null if the call is a batch covering several)
+     * @return The prices extracted from the JSON returned as a result of the call. If there is an error, or the call
+     *         was skipped, then it returns null
      */
-    private JSONObject getRequestCall(final CryptoCurrencies crypto, final FiatCurrencies fiat)
-            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+    private long[] getRequestCall(final String url, final JSONPathExtractorInterface extractor,
+                                    final CryptoCurrencies crypto, final FiatCurrencies fiat) {
         /*
         Refer to:
-            https://docs.oracle.com/javase/tutorial/networking/urls/connecting.html
-            https://docs.oracle.com/javase/tutorial/networking/urls/readingWriting.html
-            https://docs.oracle.com/javase/tutorial/networking/urls/readingURL.html
-            https://stackoverflow.com/questions/2793150/how-to-use-java-net-urlconnection-to-fire-and-handle-http-requests
+            https://docs.oracle.com/en/java/javase/17/docs/api/java.net.http/java/net/http/HttpClient.html
          */
 
-        JSONObject jsonObject;
-        URLConnection connection;
-        BufferedReader in = null;
+        if (!this.circuitBreaker.tryAcquire()) return null;
+
+        long[] prices = null;
+        Errors error = null;
+        InputStream in = null;
+        final long start = System.nanoTime();
         try {
-            // Set up the connection and get the input stream
-            // TODO: Setup setConnectTimeout and steReadTimeout?
-            connection = new URL(this.createURLStringForCall(crypto, fiat)).openConnection();
-            connection.connect();
-            in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-            final JSONParser parser = new JSONParser();
-
-            jsonObject = (JSONObject) parser.parse(in);
+            // Make the call through the shared transport, which pools the connections and times the whole call out
+            in = this.controller.getHttpTransport().get(url);
+
+            // Only the prices are read out of the response's bytes, without decoding them or building the JSON tree
+            prices = extractor.extract(in);
         } catch (final MalformedURLException e) {
             // TODO: This really shouldn't happen
             // TODO: Should I make a distinct error for this?
-            this.controller.errorDisplay(Errors.ENDPOINT_UPDATE_ERROR, this.getName(), crypto, fiat);
+            error = Errors.ENDPOINT_UPDATE_ERROR;
             e.printStackTrace();
-
-            // TODO: Throw an error here?
-
-            jsonObject = null;
         } catch (final IOException e) {
-            // openConnection(), connection.connect(), or parser.parse(in) failed
-            this.controller.errorDisplay(Errors.ENDPOINT_UPDATE_ERROR, this.getName(), crypto, fiat);
+            // The call failed, timed out, or returned an error status, or extractor.extract(in) failed
+            error = Errors.ENDPOINT_UPDATE_ERROR;
             e.printStackTrace();
-
-            // TODO: Throw an error?
-
-            jsonObject = null;
         } catch (final ParseException e) {
-            // parser.parse(in) failed
-            this.controller.errorDisplay(Errors.PARSE_ERROR, this.getName(), crypto, fiat);
+            // extractor.extract(in) failed
+            error = Errors.PARSE_ERROR;
             e.printStackTrace();
-
-            // TODO: Throw an error?
-
-            jsonObject = null;
         }
         finally {
             try {
+                // The transport has already read the whole body, so this only releases the stream
                 if (in != null) in.close();
             } catch (final IOException ignored) {}
-            // TODO: Disconnect the connection here. (Do I need to cast as  HttpURLConnection/HttpsURLConnection) above
-            //  when I do .openConnection();
+
+            // Recorded even if something unexpected was thrown, as the breaker may be waiting on this call. A response
+            // without a single price (e.g. an error body sent with a 200) is a failure as well
+            final long latency = System.nanoTime() - start;
+            if (AbstractAPICaller.hasAnyPrice(prices)) this.circuitBreaker.recordSuccess(latency);
+            else this.circuitBreaker.recordFailure(latency);
+        }
+
+        // Only counted by the controller, so every error can be reported
+        if (error != null) this.reportError(error, crypto, fiat);
+
+        return prices;
+    }
+
+    /**
+     * Returns if the prices extracted from a response hold at least one price
+     * @param prices The mantissas extracted (null if the call failed)
+     * @return If any of the mantissas isn't NO_PRICE
+     */
+    private static boolean hasAnyPrice(final long[] prices) {
+        if (prices == null) return false;
+        for (final long price : prices) {
+            if (FixedPointPrice.isPrice(price)) return true;
         }
+        return false;
+    }
 
-        return jsonObject;
+    /**
+     * Reports an error from a call to the controller
+     * @param error The type of error
+     * @param crypto The cryptocurrency the call was for (null if the call was a batch covering several)
+     * @param fiat The fiat currency the call was for (null if the call was a batch covering several)
+     */
+    private void reportError(final Errors error, final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+        if (crypto == null || fiat == null) this.controller.errorDisplay(error, this.getName());
+        else this.controller.errorDisplay(error, this.getName(), crypto, fiat);
     }
 }
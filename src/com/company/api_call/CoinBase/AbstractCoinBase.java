@@ -4,10 +4,8 @@ import com.company.api_call.APICallerContract;
 import com.company.api_call.AbstractAPICaller;
 import com.company.tool.enums.currency.CryptoCurrencies;
 import com.company.tool.enums.currency.FiatCurrencies;
-import com.company.tool.exception.BadData;
 import com.company.tool.exception.currency_not_supported.CryptoCurrencyNotSupported;
 import com.company.tool.exception.currency_not_supported.FiatCurrencyNotSupported;
-import json_simple.JSONObject;
 
 /**
  * The basic class for all CoinBase requests
@@ -36,6 +34,11 @@ public abstract class AbstractCoinBase extends AbstractAPICaller {
      */
     private static final String BASE_URL = "https://api.coinbase.com/v2/prices/";
 
+    /**
+     * The path of the price in a CoinBase response
+     */
+    private static final String[] PRICE_PATH = { "data", "amount" };
+
     private final String urlExt;
 
 
@@ -61,15 +64,11 @@ public abstract class AbstractCoinBase extends AbstractAPICaller {
      * ************ */
 
     @Override
-    protected double extractPrice(final JSONObject jsonObject, final CryptoCurrencies crypto, final FiatCurrencies fiat)
-            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported, BadData {
+    protected String[] getPricePath(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
         super.throwIfNotAcceptedCurrency(crypto, fiat);
 
-        try {
-            return Double.parseDouble(((String) ((JSONObject) jsonObject.get("data")).get("amount")));
-        } catch (final Exception e) {
-            throw new BadData(e, this);
-        }
+        return AbstractCoinBase.PRICE_PATH;
     }
 
     @Override
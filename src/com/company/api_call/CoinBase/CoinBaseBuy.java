@@ -1,6 +1,7 @@
 package com.company.api_call.CoinBase;
 
 import com.company.api_call.APICallerContract;
+import com.company.tool.enums.QuoteSide;
 import com.company.tool.enums.currency.CryptoCurrencies;
 import com.company.tool.enums.currency.FiatCurrencies;
 import com.company.tool.exception.currency_not_supported.CryptoCurrencyNotSupported;
@@ -33,4 +34,12 @@ final public class CoinBaseBuy extends AbstractCoinBase {
     public CoinBaseBuy(final APICallerContract controller) {
         super("Buy", CoinBaseBuy.BUY_EXT, controller);
     }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public QuoteSide getQuoteSide() { return QuoteSide.BUY; }
 }
@@ -4,10 +4,10 @@ import com.company.api_call.APICallerContract;
 import com.company.api_call.AbstractAPICaller;
 import com.company.tool.enums.currency.CryptoCurrencies;
 import com.company.tool.enums.currency.FiatCurrencies;
-import com.company.tool.exception.BadData;
 import com.company.tool.exception.currency_not_supported.CryptoCurrencyNotSupported;
 import com.company.tool.exception.currency_not_supported.FiatCurrencyNotSupported;
-import json_simple.JSONObject;
+
+import java.util.Map;
 
 /**
  * The basic class for all CoinCap requests
@@ -39,6 +39,17 @@ final public class CoinCap extends AbstractAPICaller {
      */
     private final static FiatCurrencies[] ACCEPTED_FIAT_CURRENCIES = {FiatCurrencies.USD};
 
+    /**
+     * The path of the price in a CoinCap response
+     */
+    private final static String[] PRICE_PATH = { "data", "rateUsd" };
+
+    /**
+     * The id CoinCap knows each accepted cryptocurrency by, which isn't always its full name
+     */
+    private final static Map<CryptoCurrencies, String> ASSET_IDS = Map.of(CryptoCurrencies.BTC, "bitcoin",
+            CryptoCurrencies.ETH, "ethereum", CryptoCurrencies.LTC, "litecoin", CryptoCurrencies.XRP, "ripple");
+
 
     /* ************ *
      * Constructors *
@@ -63,20 +74,14 @@ final public class CoinCap extends AbstractAPICaller {
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
         super.throwIfNotAcceptedCurrency(crypto, fiat);
 
-        return CoinCap.BASE_URL + crypto.getFullName().toLowerCase();
+        return CoinCap.BASE_URL + CoinCap.ASSET_IDS.get(crypto);
     }
 
     @Override
-    protected double extractPrice(final JSONObject jsonObject, final CryptoCurrencies crypto, final FiatCurrencies fiat)
-            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported, BadData {
+    protected String[] getPricePath(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
         super.throwIfNotAcceptedCurrency(crypto, fiat);
 
-        try {
-            final JSONObject data = (JSONObject) jsonObject.get("data");
-
-            return Double.parseDouble((String) data.get("rateUsd"));
-        } catch (final Exception e) {
-            throw new BadData(e, this);
-        }
+        return CoinCap.PRICE_PATH;
     }
 }
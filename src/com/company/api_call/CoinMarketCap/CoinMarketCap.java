@@ -4,10 +4,8 @@ import com.company.api_call.APICallerContract;
 import com.company.api_call.AbstractAPICaller;
 import com.company.tool.enums.currency.CryptoCurrencies;
 import com.company.tool.enums.currency.FiatCurrencies;
-import com.company.tool.exception.BadData;
 import com.company.tool.exception.currency_not_supported.CryptoCurrencyNotSupported;
 import com.company.tool.exception.currency_not_supported.FiatCurrencyNotSupported;
-import json_simple.JSONObject;
 
 /**
  * The API endpoint for CoinMarketCap
@@ -73,21 +71,10 @@ final public class CoinMarketCap extends AbstractAPICaller {
     }
 
     @Override
-    protected double extractPrice(final JSONObject jsonObject, final CryptoCurrencies crypto, final FiatCurrencies fiat)
-            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported, BadData {
+    protected String[] getPricePath(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
         super.throwIfNotAcceptedCurrency(crypto, fiat);
 
-        try {
-            return (double)
-                    ((JSONObject)
-                            ((JSONObject)
-                                    ((JSONObject) jsonObject
-                                            .get("data"))
-                                            .get("quotes"))
-                                    .get(fiat.getAbbreviatedName()))
-                            .get("price");
-        } catch (final Exception e) {
-            throw new BadData(e, this);
-        }
+        return new String[] { "data", "quotes", fiat.getAbbreviatedName(), "price" };
     }
 }
@@ -4,10 +4,10 @@ import com.company.api_call.APICallerContract;
 import com.company.api_call.AbstractAPICaller;
 import com.company.tool.enums.currency.CryptoCurrencies;
 import com.company.tool.enums.currency.FiatCurrencies;
-import com.company.tool.exception.BadData;
 import com.company.tool.exception.currency_not_supported.CryptoCurrencyNotSupported;
 import com.company.tool.exception.currency_not_supported.FiatCurrencyNotSupported;
-import json_simple.JSONObject;
+
+import java.util.BitSet;
 
 /**
  * The class for the CryptoCompare endpoint
@@ -23,6 +23,11 @@ final public class CryptoCompare extends AbstractAPICaller {
      */
     private final static String BASE_URL = "https://min-api.cryptocompare.com/data/price";
 
+    /**
+     * The URL for CryptoCompare requests that cover several cryptocurrencies and fiat currencies at once
+     */
+    private final static String BATCH_URL = "https://min-api.cryptocompare.com/data/pricemulti";
+
     /**
      * The base name for the endpoint
      */
@@ -41,6 +46,18 @@ final public class CryptoCompare extends AbstractAPICaller {
             FiatCurrencies.EUR, FiatCurrencies.GBP, FiatCurrencies.JPY, FiatCurrencies.MXN, FiatCurrencies.NZD,
             FiatCurrencies.PLN, FiatCurrencies.SEK, FiatCurrencies.USD};
 
+    /**
+     * The ordinals of the accepted cryptocurrencies for CryptoCompare
+     */
+    private final static BitSet ACCEPTED_CRYPTOCURRENCY_SET =
+            AbstractAPICaller.toOrdinalSet(CryptoCompare.ACCEPTED_CRYPTOCURRENCIES);
+
+    /**
+     * The ordinals of the accepted fiat currencies for CryptoCompare
+     */
+    private final static BitSet ACCEPTED_FIAT_CURRENCY_SET =
+            AbstractAPICaller.toOrdinalSet(CryptoCompare.ACCEPTED_FIAT_CURRENCIES);
+
 
     /* ************ *
      * Constructors *
@@ -71,22 +88,38 @@ final public class CryptoCompare extends AbstractAPICaller {
     }
 
     @Override
-    protected double extractPrice(final JSONObject jsonObject, final CryptoCurrencies crypto,
-                                  final FiatCurrencies fiat)
-            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported, BadData {
+    protected String[] getPricePath(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
         super.throwIfNotAcceptedCurrency(crypto, fiat);
-        double price;
-        try {
-            // Ok, so I don't know why, but casting it to a regular 'double' wasn't working.
-            //  This works, so I'm leaving it
-            price = ((Double) jsonObject.get(fiat.getAbbreviatedName()));
-        } catch (final ClassCastException e) {
-            // Sometimes when the price has too many digits, it gets returned as a long
-            price = ((Long) jsonObject.get(fiat.getAbbreviatedName())).doubleValue();
-        } catch (final Exception e) {
-            throw new BadData(e, this);
+
+        return new String[] { fiat.getAbbreviatedName() };
+    }
+
+    @Override
+    public boolean supportsBatchUpdate() { return true; }
+
+    @Override
+    protected String createBatchURLStringForCall(final CryptoCurrencies[] cryptos, final FiatCurrencies[] fiats) {
+        final StringBuilder url = new StringBuilder(CryptoCompare.BATCH_URL).append("?fsyms=");
+        for (int i = 0; i < cryptos.length; i++) {
+            if (i > 0) url.append(',');
+            url.append(cryptos[i].getAbbreviatedName());
+        }
+        url.append("&tsyms=");
+        for (int i = 0; i < fiats.length; i++) {
+            if (i > 0) url.append(',');
+            url.append(fiats[i].getAbbreviatedName());
         }
-        return price;
+        return url.toString();
+    }
+
+    /**
+     * Returns the path of the price of a single pair in a pricemulti response, which holds an object of prices (keyed
+     * by fiat currency) for each cryptocurrency
+     */
+    @Override
+    protected String[] getBatchPricePath(final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+        return new String[] { crypto.getAbbreviatedName(), fiat.getAbbreviatedName() };
     }
 
     /**
@@ -96,7 +129,7 @@ final public class CryptoCompare extends AbstractAPICaller {
      */
     public static boolean endpointCanUseFiatCurrency(final FiatCurrencies fiatCurrency)
     {
-        return AbstractAPICaller.canUseCurrency(CryptoCompare.ACCEPTED_FIAT_CURRENCIES, fiatCurrency);
+        return CryptoCompare.ACCEPTED_FIAT_CURRENCY_SET.get(fiatCurrency.ordinal());
     }
 
     /**
@@ -106,6 +139,6 @@ final public class CryptoCompare extends AbstractAPICaller {
      */
     public static boolean endpointCanUseCryptoCurrency(final CryptoCurrencies cryptoCurrency)
     {
-        return AbstractAPICaller.canUseCurrency(CryptoCompare.ACCEPTED_CRYPTOCURRENCIES, cryptoCurrency);
+        return CryptoCompare.ACCEPTED_CRYPTOCURRENCY_SET.get(cryptoCurrency.ordinal());
     }
 }
@@ -0,0 +1,193 @@
+package com.company.api_call.auto_refresh;
+
+import com.company.api_call.APICallerInterface;
+import com.company.api_call.fetch_scheduler.FetchSchedulerInterface;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+import com.company.tool.exception.currency_not_supported.AbstractCurrencyNotSupported;
+import com.company.tool.util.ThreadPools;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the current pair of each endpoint on its own interval. Every poll is jittered, so that the endpoints drift
+ * apart instead of all firing at the same instant, and the polls only submit the fetches to the fetch scheduler (the
+ * timer thread itself never blocks on a call)
+ */
+final public class AutoRefreshScheduler implements AutoRefreshSchedulerInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The default time between polls of an endpoint
+     */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(15);
+
+    /**
+     * The default fraction of the interval that each poll is randomly moved by (in either direction)
+     */
+    public static final double DEFAULT_JITTER = 0.1;
+
+    /**
+     * The name of the timer thread
+     */
+    private static final String THREAD_NAME_PREFIX = "auto-refresh";
+
+    /**
+     * The endpoints to poll
+     */
+    private final List<APICallerInterface> endpoints;
+
+    /**
+     * The scheduler that the polls are submitted to
+     */
+    private final FetchSchedulerInterface fetchScheduler;
+
+    /**
+     * The time (in milliseconds) between polls of each endpoint
+     */
+    private final Map<APICallerInterface, Long> intervals = new ConcurrentHashMap<>();
+
+    /**
+     * The fraction of the interval that each poll is randomly moved by
+     */
+    private final double jitter;
+
+    /**
+     * The thread that times the polls
+     */
+    private ScheduledExecutorService timer;
+
+    /**
+     * The cryptocurrency to poll
+     */
+    private volatile CryptoCurrencies currentCrypto;
+
+    /**
+     * The fiat currency to poll
+     */
+    private volatile FiatCurrencies currentFiat;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the AutoRefreshScheduler with the default interval and jitter
+     * @param endpoints The endpoints to poll
+     * @param fetchScheduler The scheduler that the polls are submitted to
+     */
+    public AutoRefreshScheduler(final List<APICallerInterface> endpoints,
+                                final FetchSchedulerInterface fetchScheduler) {
+        this(endpoints, fetchScheduler, AutoRefreshScheduler.DEFAULT_INTERVAL, AutoRefreshScheduler.DEFAULT_JITTER);
+    }
+
+    /**
+     * The constructor for the AutoRefreshScheduler
+     * @param endpoints The endpoints to poll
+     * @param fetchScheduler The scheduler that the polls are submitted to
+     * @param interval The time between polls of each endpoint (until it is changed with setInterval)
+     * @param jitter The fraction of the interval that each poll is randomly moved by (between 0 and 1)
+     */
+    public AutoRefreshScheduler(final List<APICallerInterface> endpoints,
+                                final FetchSchedulerInterface fetchScheduler, final Duration interval,
+                                final double jitter) {
+        if (jitter < 0 || jitter >= 1) throw new IllegalArgumentException("The jitter must be in [0, 1)");
+
+        this.endpoints = new ArrayList<>(endpoints);
+        this.fetchScheduler = fetchScheduler;
+        this.jitter = jitter;
+
+        for (final APICallerInterface endpoint : this.endpoints) this.setInterval(endpoint, interval);
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public synchronized void start() {
+        if (this.timer != null) return;
+
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                ThreadPools.daemonThreadFactory(AutoRefreshScheduler.THREAD_NAME_PREFIX));
+        for (final APICallerInterface endpoint : this.endpoints) this.scheduleNextPoll(this.timer, endpoint);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (this.timer == null) return;
+
+        this.timer.shutdownNow();
+        this.timer = null;
+    }
+
+    @Override
+    public void setCurrentPair(final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+        this.currentCrypto = crypto;
+        this.currentFiat = fiat;
+    }
+
+    @Override
+    public void setInterval(final APICallerInterface endpoint, final Duration interval) {
+        if (interval.isNegative() || interval.isZero())
+            throw new IllegalArgumentException("The interval must be positive");
+        this.intervals.put(endpoint, interval.toMillis());
+    }
+
+    @Override
+    public Duration getInterval(final APICallerInterface endpoint) {
+        return Duration.ofMillis(this.intervals.get(endpoint));
+    }
+
+    /**
+     * Schedules the next poll of an endpoint, one jittered interval from now
+     * @param timer The timer to schedule the poll on
+     * @param endpoint The endpoint to poll
+     */
+    private void scheduleNextPoll(final ScheduledExecutorService timer, final APICallerInterface endpoint) {
+        final long interval = this.intervals.get(endpoint);
+        final long offset = (long) (interval * this.jitter * ThreadLocalRandom.current().nextDouble(-1, 1));
+        try {
+            timer.schedule(() -> this.poll(timer, endpoint), interval + offset, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException ignored) {
+            // The scheduler has been shut down
+        }
+    }
+
+    /**
+     * Submits a fetch of the current pair for the endpoint, and then schedules its next poll
+     * @param timer The timer the poll is running on
+     * @param endpoint The endpoint to poll
+     */
+    private void poll(final ScheduledExecutorService timer, final APICallerInterface endpoint) {
+        final CryptoCurrencies crypto = this.currentCrypto;
+        final FiatCurrencies fiat = this.currentFiat;
+
+        if (crypto != null && fiat != null
+                && endpoint.canUseCryptoCurrency(crypto) && endpoint.canUseFiatCurrency(fiat)) {
+            this.fetchScheduler.submit(endpoint, () -> {
+                try {
+                    endpoint.updatePriceAndNotify(crypto, fiat);
+                } catch (final AbstractCurrencyNotSupported ignored) {
+                    // The pair was checked against the endpoint before being polled, so this can't happen
+                }
+            });
+        }
+
+        this.scheduleNextPoll(timer, endpoint);
+    }
+}
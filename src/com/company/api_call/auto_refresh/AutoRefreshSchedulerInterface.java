@@ -0,0 +1,45 @@
+package com.company.api_call.auto_refresh;
+
+import com.company.api_call.APICallerInterface;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+
+import java.time.Duration;
+
+/**
+ * The interface for the scheduler that automatically refreshes the current pair of each endpoint
+ */
+public interface AutoRefreshSchedulerInterface {
+
+    /**
+     * Starts polling every endpoint
+     */
+    void start();
+
+    /**
+     * Stops polling. Fetches that have already been submitted still run
+     */
+    void shutdown();
+
+    /**
+     * Sets the pair that is polled
+     * @param crypto The cryptocurrency to poll
+     * @param fiat The fiat currency to poll
+     */
+    void setCurrentPair(final CryptoCurrencies crypto, final FiatCurrencies fiat);
+
+    /**
+     * Sets how often a single endpoint is polled. The change takes effect after the endpoint's next poll
+     * @param endpoint The endpoint
+     * @param interval The time between polls of the endpoint
+     */
+    void setInterval(final APICallerInterface endpoint, final Duration interval);
+
+    /**
+     * Returns how often the given endpoint is polled
+     * @param endpoint The endpoint
+     * @return The time between polls of the endpoint
+     */
+    Duration getInterval(final APICallerInterface endpoint);
+
+}
@@ -0,0 +1,118 @@
+package com.company.api_call.capability_index;
+
+import com.company.api_call.APICallerInterface;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+import com.company.tool.util.Pair;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The index of which endpoints can serve which pairs, worked out once from the endpoints' accepted currencies. Each
+ * currency maps to the set of endpoints (by position) that accept it, and the endpoints of every pair that at least one
+ * of them serves are kept ready as a list, so asking who serves a pair never touches an endpoint. The endpoints'
+ * accepted currencies are fixed, so the index never changes once built
+ */
+final public class CapabilityIndex implements CapabilityIndexInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The positions of the endpoints that accept each cryptocurrency, indexed by ordinal (null if none do)
+     */
+    private final BitSet[] endpointsByCrypto = new BitSet[CryptoCurrencies.count()];
+
+    /**
+     * The positions of the endpoints that accept each fiat currency, indexed by ordinal (null if none do)
+     */
+    private final BitSet[] endpointsByFiat = new BitSet[FiatCurrencies.values().length];
+
+    /**
+     * The endpoints of every pair that at least one endpoint serves
+     */
+    private final Map<Pair<CryptoCurrencies, FiatCurrencies>, List<APICallerInterface>> endpointsByPair =
+            new HashMap<>();
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the CapabilityIndex
+     * @param endpoints The endpoints to index
+     */
+    public CapabilityIndex(final List<? extends APICallerInterface> endpoints) {
+        final CryptoCurrencies[] cryptos = CryptoCurrencies.values();
+        final FiatCurrencies[] fiats = FiatCurrencies.values();
+
+        for (int position = 0; position < endpoints.size(); position++) {
+            final APICallerInterface endpoint = endpoints.get(position);
+            for (final CryptoCurrencies crypto : cryptos) {
+                if (endpoint.canUseCryptoCurrency(crypto))
+                    CapabilityIndex.add(this.endpointsByCrypto, crypto.ordinal(), position);
+            }
+            for (final FiatCurrencies fiat : fiats) {
+                if (endpoint.canUseFiatCurrency(fiat))
+                    CapabilityIndex.add(this.endpointsByFiat, fiat.ordinal(), position);
+            }
+        }
+
+        for (final CryptoCurrencies crypto : cryptos) {
+            if (this.endpointsByCrypto[crypto.ordinal()] == null) continue;
+            for (final FiatCurrencies fiat : fiats) {
+                if (this.endpointsByFiat[fiat.ordinal()] == null) continue;
+
+                final BitSet served = (BitSet) this.endpointsByCrypto[crypto.ordinal()].clone();
+                served.and(this.endpointsByFiat[fiat.ordinal()]);
+                if (served.isEmpty()) continue;
+
+                final List<APICallerInterface> pairEndpoints = new ArrayList<>(served.cardinality());
+                for (int position = served.nextSetBit(0); position >= 0; position = served.nextSetBit(position + 1))
+                    pairEndpoints.add(endpoints.get(position));
+                this.endpointsByPair.put(new Pair<>(crypto, fiat), Collections.unmodifiableList(pairEndpoints));
+            }
+        }
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Marks an endpoint as accepting a currency
+     * @param endpointsByCurrency The positions of the endpoints that accept each currency
+     * @param ordinal The ordinal of the currency
+     * @param position The position of the endpoint
+     */
+    private static void add(final BitSet[] endpointsByCurrency, final int ordinal, final int position) {
+        if (endpointsByCurrency[ordinal] == null) endpointsByCurrency[ordinal] = new BitSet();
+        endpointsByCurrency[ordinal].set(position);
+    }
+
+    @Override
+    public List<APICallerInterface> getEndpoints(final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+        if (!this.isServed(crypto)) return Collections.emptyList();
+
+        final List<APICallerInterface> endpoints = this.endpointsByPair.get(new Pair<>(crypto, fiat));
+        return endpoints == null ? Collections.emptyList() : endpoints;
+    }
+
+    @Override
+    public boolean isServed(final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+        return !this.getEndpoints(crypto, fiat).isEmpty();
+    }
+
+    @Override
+    public boolean isServed(final CryptoCurrencies crypto) {
+        return this.endpointsByCrypto[crypto.ordinal()] != null;
+    }
+}
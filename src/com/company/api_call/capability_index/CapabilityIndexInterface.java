@@ -0,0 +1,37 @@
+package com.company.api_call.capability_index;
+
+import com.company.api_call.APICallerInterface;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+
+import java.util.List;
+
+/**
+ * The interface for the index of which endpoints can serve which pairs
+ */
+public interface CapabilityIndexInterface {
+
+    /**
+     * Returns the endpoints that can serve a pair, in the order the endpoints were given in
+     * @param crypto The cryptocurrency of the pair
+     * @param fiat The fiat currency of the pair
+     * @return The endpoints that can serve the pair (empty if none can)
+     */
+    List<APICallerInterface> getEndpoints(final CryptoCurrencies crypto, final FiatCurrencies fiat);
+
+    /**
+     * Returns if any endpoint can serve a pair
+     * @param crypto The cryptocurrency of the pair
+     * @param fiat The fiat currency of the pair
+     * @return If any endpoint can serve the pair
+     */
+    boolean isServed(final CryptoCurrencies crypto, final FiatCurrencies fiat);
+
+    /**
+     * Returns if any endpoint can serve a cryptocurrency, in any fiat currency
+     * @param crypto The cryptocurrency
+     * @return If any endpoint can serve the cryptocurrency
+     */
+    boolean isServed(final CryptoCurrencies crypto);
+
+}
@@ -0,0 +1,264 @@
+package com.company.api_call.circuit_breaker;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A circuit breaker for a single endpoint. While closed, it keeps the outcomes of the last few calls, and once enough
+ * of them failed (a call that took too long counts as failed) it opens and skips every call for a backoff. The backoff
+ * doubles each time the breaker opens again without having closed in between, up to a maximum, and is jittered so
+ * that the endpoints that went down together don't all come back at the same instant. Once the backoff runs out, a
+ * single trial call is let through: if it succeeds the breaker closes, otherwise it opens again
+ */
+final public class CircuitBreaker implements CircuitBreakerInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The default number of most recent calls whose outcomes are kept
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 10;
+
+    /**
+     * The default number of calls that need to be in the window before the breaker can open
+     */
+    public static final int DEFAULT_MINIMUM_CALLS = 4;
+
+    /**
+     * The default fraction of the calls in the window that have to fail to open the breaker
+     */
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+
+    /**
+     * The default time after which a call counts as failed even if it succeeded
+     */
+    public static final Duration DEFAULT_SLOW_CALL_THRESHOLD = Duration.ofSeconds(4);
+
+    /**
+     * The default backoff the first time the breaker opens
+     */
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(5);
+
+    /**
+     * The default longest backoff
+     */
+    public static final Duration DEFAULT_MAXIMUM_BACKOFF = Duration.ofMinutes(5);
+
+    /**
+     * The default fraction of the backoff that it is randomly moved by (in either direction)
+     */
+    public static final double DEFAULT_JITTER = 0.2;
+
+    /**
+     * If each of the calls in the window failed, as a ring
+     */
+    private final boolean[] window;
+
+    /**
+     * The number of calls in the window that need to fail to open the breaker
+     */
+    private final int minimumCalls;
+
+    /**
+     * The fraction of the calls in the window that have to fail to open the breaker
+     */
+    private final double failureRateThreshold;
+
+    /**
+     * The time (in nanoseconds) after which a call counts as failed
+     */
+    private final long slowCallThresholdNanos;
+
+    /**
+     * The backoff (in milliseconds) the first time the breaker opens
+     */
+    private final long initialBackoffMillis;
+
+    /**
+     * The longest backoff (in milliseconds)
+     */
+    private final long maximumBackoffMillis;
+
+    /**
+     * The fraction of the backoff that it is randomly moved by
+     */
+    private final double jitter;
+
+    /**
+     * The state of the breaker
+     */
+    private State state = State.CLOSED;
+
+    /**
+     * The position in the window that the next call's outcome goes in
+     */
+    private int next = 0;
+
+    /**
+     * The number of calls in the window
+     */
+    private int calls = 0;
+
+    /**
+     * The number of calls in the window that failed
+     */
+    private int failures = 0;
+
+    /**
+     * The backoff (in milliseconds, before jitter) of the next time the breaker opens
+     */
+    private long backoffMillis;
+
+    /**
+     * When (in milliseconds since the epoch) the breaker lets a trial call through, while it's open
+     */
+    private long retryAtMillis = 0;
+
+    /**
+     * If the trial call is in flight, while the breaker is half open
+     */
+    private boolean isTrialInFlight = false;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the CircuitBreaker with the default settings
+     */
+    public CircuitBreaker() {
+        this(CircuitBreaker.DEFAULT_WINDOW_SIZE, CircuitBreaker.DEFAULT_MINIMUM_CALLS,
+                CircuitBreaker.DEFAULT_FAILURE_RATE_THRESHOLD, CircuitBreaker.DEFAULT_SLOW_CALL_THRESHOLD,
+                CircuitBreaker.DEFAULT_INITIAL_BACKOFF, CircuitBreaker.DEFAULT_MAXIMUM_BACKOFF,
+                CircuitBreaker.DEFAULT_JITTER);
+    }
+
+    /**
+     * The constructor for the CircuitBreaker
+     * @param windowSize The number of most recent calls whose outcomes are kept
+     * @param minimumCalls The number of calls that need to be in the window before the breaker can open
+     * @param failureRateThreshold The fraction of the calls in the window that have to fail to open the breaker
+     * @param slowCallThreshold The time after which a call counts as failed even if it succeeded
+     * @param initialBackoff The backoff the first time the breaker opens
+     * @param maximumBackoff The longest backoff
+     * @param jitter The fraction of the backoff that it is randomly moved by (between 0 and 1)
+     */
+    public CircuitBreaker(final int windowSize, final int minimumCalls, final double failureRateThreshold,
+                          final Duration slowCallThreshold, final Duration initialBackoff,
+                          final Duration maximumBackoff, final double jitter) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize)
+            throw new IllegalArgumentException("The minimum calls must be in [1, window size]");
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1)
+            throw new IllegalArgumentException("The failure rate threshold must be in (0, 1]");
+        if (jitter < 0 || jitter >= 1) throw new IllegalArgumentException("The jitter must be in [0, 1)");
+
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maximumBackoffMillis = maximumBackoff.toMillis();
+        this.jitter = jitter;
+        this.backoffMillis = this.initialBackoffMillis;
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public synchronized boolean tryAcquire() {
+        switch (this.state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() < this.retryAtMillis) return false;
+                this.state = State.HALF_OPEN;
+                this.retryAtMillis = 0;
+                this.isTrialInFlight = true;
+                return true;
+            default:
+                // Only the one trial call goes through while half open
+                if (this.isTrialInFlight) return false;
+                this.isTrialInFlight = true;
+                return true;
+        }
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return this.state == State.OPEN && System.currentTimeMillis() < this.retryAtMillis;
+    }
+
+    @Override
+    public boolean recordSuccess(final long latencyNanos) {
+        return this.record(latencyNanos >= this.slowCallThresholdNanos);
+    }
+
+    @Override
+    public boolean recordFailure(final long latencyNanos) {
+        return this.record(true);
+    }
+
+    /**
+     * Records the outcome of a call
+     * @param hasFailed If the call failed (or was too slow)
+     * @return If the call opened the breaker
+     */
+    private synchronized boolean record(final boolean hasFailed) {
+        if (this.state == State.HALF_OPEN) {
+            this.isTrialInFlight = false;
+            if (hasFailed) {
+                this.open();
+                return true;
+            }
+            this.close();
+            return false;
+        }
+
+        // A call that was let through before the breaker opened has nothing left to decide
+        if (this.state == State.OPEN) return false;
+
+        if (this.calls == this.window.length && this.window[this.next]) this.failures--;
+        if (this.calls < this.window.length) this.calls++;
+        this.window[this.next] = hasFailed;
+        if (hasFailed) this.failures++;
+        this.next = (this.next + 1) % this.window.length;
+
+        if (this.calls < this.minimumCalls || this.failures < this.failureRateThreshold * this.calls) return false;
+        this.open();
+        return true;
+    }
+
+    /**
+     * Opens the breaker for the next backoff, and doubles the one after it
+     */
+    private void open() {
+        final double offset = this.jitter == 0 ? 0 : ThreadLocalRandom.current().nextDouble(-this.jitter, this.jitter);
+        this.state = State.OPEN;
+        this.retryAtMillis = System.currentTimeMillis() + Math.round(this.backoffMillis * (1 + offset));
+        this.backoffMillis = Math.min(this.backoffMillis * 2, this.maximumBackoffMillis);
+    }
+
+    /**
+     * Closes the breaker, forgetting the calls before it opened and resetting the backoff
+     */
+    private void close() {
+        this.state = State.CLOSED;
+        this.next = 0;
+        this.calls = 0;
+        this.failures = 0;
+        this.backoffMillis = this.initialBackoffMillis;
+    }
+
+    @Override
+    public synchronized State getState() { return this.state; }
+
+    @Override
+    public synchronized long getRetryAtMillis() { return this.retryAtMillis; }
+
+}
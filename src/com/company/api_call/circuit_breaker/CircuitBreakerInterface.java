@@ -0,0 +1,67 @@
+package com.company.api_call.circuit_breaker;
+
+/**
+ * The interface for the circuit breaker of an endpoint, which stops calls to it while it keeps failing
+ */
+public interface CircuitBreakerInterface {
+
+    /**
+     * The states of a circuit breaker
+     */
+    enum State {
+        /**
+         * Calls go through, and their outcomes are counted
+         */
+        CLOSED,
+
+        /**
+         * Calls are skipped until the backoff runs out
+         */
+        OPEN,
+
+        /**
+         * The backoff has run out, and a single trial call decides whether the breaker closes or opens again
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Asks to make a call. Every call that is allowed must have its outcome recorded with recordSuccess or
+     * recordFailure
+     * @return If the call may be made (false if it should be skipped)
+     */
+    boolean tryAcquire();
+
+    /**
+     * Returns if calls are being skipped, without asking to make one
+     * @return If the breaker is open and its backoff hasn't run out
+     */
+    boolean isOpen();
+
+    /**
+     * Records a call that succeeded. A call that succeeded but was too slow counts as a failure
+     * @param latencyNanos How long the call took, in nanoseconds
+     * @return If the call opened the breaker
+     */
+    boolean recordSuccess(final long latencyNanos);
+
+    /**
+     * Records a call that failed
+     * @param latencyNanos How long the call took, in nanoseconds
+     * @return If the call opened the breaker
+     */
+    boolean recordFailure(final long latencyNanos);
+
+    /**
+     * Returns the state of the breaker
+     * @return The state of the breaker
+     */
+    State getState();
+
+    /**
+     * Returns when the breaker lets a trial call through, if it's open
+     * @return The time (in milliseconds since the epoch) of the next trial call, or 0 if the breaker isn't open
+     */
+    long getRetryAtMillis();
+
+}
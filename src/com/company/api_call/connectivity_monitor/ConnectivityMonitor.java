@@ -0,0 +1,174 @@
+package com.company.api_call.connectivity_monitor;
+
+import com.company.api_call.http_transport.HttpTransportInterface;
+import com.company.tool.util.ThreadPools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Knows whether the internet can be reached from how the real calls to the endpoints went, rather than by hitting a
+ * site of its own every time it's asked. It listens to the HTTP transport: any response, even an HTTP error, shows the
+ * network is up, and a call that gets no response at all shows it may be down. The internet counts as reachable if a
+ * response came back within the time to live, or if the last thing heard was a response (one endpoint being down
+ * doesn't make the rest unreachable). Once nothing has been heard for the time to live, the next question starts a
+ * single cheap call in the background, whose outcome reaches the monitor through the transport like any other
+ */
+final public class ConnectivityMonitor implements ConnectivityMonitorInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The default time that an outcome is trusted for
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    /**
+     * The default url that the probes hit, which returns a tiny body
+     */
+    public static final String DEFAULT_PROBE_URL = "https://api.coinbase.com/v2/time";
+
+    /**
+     * The name of the thread that runs the probes
+     */
+    private static final String THREAD_NAME_PREFIX = "connectivity-probe";
+
+    /**
+     * The time of an outcome that has never happened
+     */
+    private static final long NEVER = Long.MIN_VALUE;
+
+    /**
+     * The transport that the probes are made through
+     */
+    private final HttpTransportInterface transport;
+
+    /**
+     * The url that the probes hit
+     */
+    private final String probeUrl;
+
+    /**
+     * The time (in nanoseconds) that an outcome is trusted for
+     */
+    private final long ttlNanos;
+
+    /**
+     * The thread that runs the probes
+     */
+    private final ExecutorService prober =
+            Executors.newSingleThreadExecutor(ThreadPools.daemonThreadFactory(ConnectivityMonitor.THREAD_NAME_PREFIX));
+
+    /**
+     * If a probe is running, so that only one ever is
+     */
+    private final AtomicBoolean isProbing = new AtomicBoolean(false);
+
+    /**
+     * The time (System.nanoTime) of the last response
+     */
+    private volatile long lastResponse = ConnectivityMonitor.NEVER;
+
+    /**
+     * The time (System.nanoTime) of the last call that got no response
+     */
+    private volatile long lastFailure = ConnectivityMonitor.NEVER;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the ConnectivityMonitor with the default probe url and time to live. It still has to be added
+     * as a listener of the transport to hear about the calls
+     * @param transport The transport that the probes are made through
+     */
+    public ConnectivityMonitor(final HttpTransportInterface transport) {
+        this(transport, ConnectivityMonitor.DEFAULT_PROBE_URL, ConnectivityMonitor.DEFAULT_TTL);
+    }
+
+    /**
+     * The constructor for the ConnectivityMonitor. It still has to be added as a listener of the transport to hear
+     * about the calls
+     * @param transport The transport that the probes are made through
+     * @param probeUrl The url that the probes hit
+     * @param ttl The time that an outcome is trusted for
+     */
+    public ConnectivityMonitor(final HttpTransportInterface transport, final String probeUrl, final Duration ttl) {
+        this.transport = transport;
+        this.probeUrl = probeUrl;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public boolean isConnected() {
+        final long now = System.nanoTime();
+        final long lastResponse = this.lastResponse;
+        final long lastFailure = this.lastFailure;
+
+        if (!this.isFresh(lastResponse, now) && !this.isFresh(lastFailure, now)) this.probe();
+
+        if (lastFailure == ConnectivityMonitor.NEVER) return true;
+        if (lastResponse == ConnectivityMonitor.NEVER) return false;
+        return this.isFresh(lastResponse, now) || lastResponse - lastFailure >= 0;
+    }
+
+    /**
+     * Returns if an outcome happened within the time to live
+     * @param time The time (System.nanoTime) of the outcome
+     * @param now The current time (System.nanoTime)
+     * @return If the outcome happened within the time to live
+     */
+    private boolean isFresh(final long time, final long now) {
+        return time != ConnectivityMonitor.NEVER && now - time < this.ttlNanos;
+    }
+
+    @Override
+    public void probe() {
+        if (!this.isProbing.compareAndSet(false, true)) return;
+
+        try {
+            this.prober.execute(() -> {
+                // The outcome reaches the monitor through the transport's listeners
+                try (final InputStream body = this.transport.get(this.probeUrl)) {
+                    body.readAllBytes();
+                } catch (final IOException e) {
+                    // Already heard about through the transport
+                } finally {
+                    this.isProbing.set(false);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            // Shut down
+            this.isProbing.set(false);
+        }
+    }
+
+    @Override
+    public void responseReceived(final String url) {
+        this.lastResponse = System.nanoTime();
+    }
+
+    @Override
+    public void connectionFailed(final String url, final IOException exception) {
+        this.lastFailure = System.nanoTime();
+    }
+
+    @Override
+    public void shutdown() {
+        this.prober.shutdown();
+    }
+}
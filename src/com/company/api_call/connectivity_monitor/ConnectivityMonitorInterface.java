@@ -0,0 +1,28 @@
+package com.company.api_call.connectivity_monitor;
+
+import com.company.api_call.http_transport.HttpTransportListener;
+
+/**
+ * The interface for the monitor that knows whether the internet can be reached, from how the calls to the endpoints
+ * went. Asking it never blocks
+ */
+public interface ConnectivityMonitorInterface extends HttpTransportListener {
+
+    /**
+     * Returns if the internet can be reached, as far as is known. If nothing has been heard for a while, a probe is
+     * started in the background, and its outcome shows up in a later call
+     * @return If the internet can be reached (true if nothing has been heard yet)
+     */
+    boolean isConnected();
+
+    /**
+     * Starts a probe in the background, unless one is already running
+     */
+    void probe();
+
+    /**
+     * Stops the thread that runs the probes. A probe that is running is left to finish
+     */
+    void shutdown();
+
+}
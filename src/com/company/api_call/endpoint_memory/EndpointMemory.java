@@ -1,111 +1,286 @@
 package com.company.api_call.endpoint_memory;
 
-import com.company.api_call.endpoint_data.EndpointData;
-import com.company.api_call.endpoint_data.EndpointDataInterface;
 import com.company.tool.enums.currency.CryptoCurrencies;
 import com.company.tool.enums.currency.FiatCurrencies;
 import com.company.tool.exception.currency_not_supported.CryptoCurrencyNotSupported;
 import com.company.tool.exception.currency_not_supported.FiatCurrencyNotSupported;
-import com.company.tool.util.Pair;
+import com.company.tool.util.FixedPointPrice;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
 
+/**
+ * The memory of an endpoint, laid out as dense arrays indexed by the row of the cryptocurrency and the ordinal of
+ * the fiat currency. Prices are held as fixed-point mantissas at the pair's scale and times as epoch milliseconds,
+ * all in atomic arrays, so that the fetch threads and the UI thread can read and write it without any locks, and a
+ * lookup allocates nothing. The price, time and outcome of a pair are written together under a per-pair version stamp
+ * (a seqlock), so a reader never sees a new price with an old time or the reverse
+ */
 final public class EndpointMemory implements EndpointMemoryInterface {
 
-    private final Map<Pair<CryptoCurrencies, FiatCurrencies>, EndpointDataInterface> endpointDataMap;
+    /* ************ *
+     *    Fields    *
+     * ************ */
 
-    private final CryptoCurrencies[] acceptedCryptos;
+    /**
+     * The number of fiat currencies, which is the stride of a cryptocurrency's row in the arrays
+     */
+    private static final int FIAT_COUNT = FiatCurrencies.values().length;
 
-    private final FiatCurrencies[] acceptedFiats;
+    /**
+     * The flag set while a pair is being updated
+     */
+    private static final int UPDATING = 1;
 
+    /**
+     * The flag set when the last update of a pair was successful
+     */
+    private static final int LAST_UPDATE_SUCCESSFUL = 1 << 1;
 
+    /**
+     * The row of each cryptocurrency this memory holds, indexed by ordinal (-1 for the ones it doesn't hold). Only the
+     * accepted cryptocurrencies get a row, so the arrays stay small however many cryptocurrencies there are
+     */
+    private final int[] cryptoRows = new int[CryptoCurrencies.count()];
+
+    /**
+     * The fiat currencies this memory holds, indexed by ordinal
+     */
+    private final boolean[] acceptedFiats = new boolean[EndpointMemory.FIAT_COUNT];
+
+    /**
+     * The mantissa of the price of each pair (NO_PRICE if it has never been set)
+     */
+    private final AtomicLongArray prices;
+
+    /**
+     * The time (in epoch milliseconds) of the last successful update of each pair
+     */
+    private final AtomicLongArray lastSuccessfulUpdates;
+
+    /**
+     * The flags of each pair
+     */
+    private final AtomicIntegerArray flags;
+
+    /**
+     * The version stamp of each pair, which is odd while its price, time and outcome are being written
+     */
+    private final AtomicIntegerArray versions;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the EndpointMemory
+     * @param acceptedCryptos The cryptocurrencies this memory holds
+     * @param acceptedFiats The fiat currencies this memory holds
+     */
     public EndpointMemory(final CryptoCurrencies[] acceptedCryptos, final FiatCurrencies[] acceptedFiats) {
-        this.endpointDataMap = new HashMap<>();
-        this.acceptedCryptos = acceptedCryptos;
-        this.acceptedFiats = acceptedFiats;
+        Arrays.fill(this.cryptoRows, -1);
+        for (int row = 0; row < acceptedCryptos.length; row++) this.cryptoRows[acceptedCryptos[row].ordinal()] = row;
+        for (final FiatCurrencies fiat : acceptedFiats) this.acceptedFiats[fiat.ordinal()] = true;
 
-        for (final CryptoCurrencies crypto : this.acceptedCryptos) {
-            for (final FiatCurrencies fiat : this.acceptedFiats) {
-                this.endpointDataMap.put(new Pair<>(crypto, fiat), new EndpointData());
-            }
+        this.prices = new AtomicLongArray(acceptedCryptos.length * EndpointMemory.FIAT_COUNT);
+        this.lastSuccessfulUpdates = new AtomicLongArray(acceptedCryptos.length * EndpointMemory.FIAT_COUNT);
+        this.flags = new AtomicIntegerArray(acceptedCryptos.length * EndpointMemory.FIAT_COUNT);
+        this.versions = new AtomicIntegerArray(acceptedCryptos.length * EndpointMemory.FIAT_COUNT);
+
+        for (int i = 0; i < this.prices.length(); i++) {
+            this.prices.set(i, FixedPointPrice.NO_PRICE);
+            this.lastSuccessfulUpdates.set(i, EndpointMemoryInterface.NEVER);
         }
     }
 
 
-    private EndpointDataInterface getDataFromMap(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Returns the index of a pair in the arrays
+     * @param crypto The cryptocurrency of the pair
+     * @param fiat The fiat currency of the pair
+     * @return The index of the pair
+     */
+    private int indexOf(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
-        try {
-            return this.endpointDataMap.get(new Pair<>(crypto, fiat));
-        } catch (final NullPointerException e) {
-            if (!Arrays.asList(this.acceptedCryptos).contains(crypto)) throw new CryptoCurrencyNotSupported(crypto);
-            if (!Arrays.asList(this.acceptedFiats).contains(fiat)) throw new FiatCurrencyNotSupported(fiat);
-            throw e; // TODO: This isn't good, but I don't know what else to do here...
+        final int row = this.cryptoRows[crypto.ordinal()];
+        if (row < 0) throw new CryptoCurrencyNotSupported(crypto);
+        if (!this.acceptedFiats[fiat.ordinal()]) throw new FiatCurrencyNotSupported(fiat);
+        return row * EndpointMemory.FIAT_COUNT + fiat.ordinal();
+    }
+
+    /**
+     * Sets or clears a flag of a pair
+     * @param index The index of the pair
+     * @param flag The flag to set or clear
+     * @param isSet If the flag should be set
+     */
+    private void setFlag(final int index, final int flag, final boolean isSet) {
+        int current;
+        do {
+            current = this.flags.get(index);
+        } while (!this.flags.compareAndSet(index, current, isSet ? current | flag : current & ~flag));
+    }
+
+    /**
+     * Starts writing the price, time or outcome of a pair, waiting for any other writer of the pair to finish first
+     * @param index The index of the pair
+     * @return The (odd) version stamp of the write, to hand to endWrite
+     */
+    private int beginWrite(final int index) {
+        int version;
+        while (true) {
+            version = this.versions.get(index);
+            if ((version & 1) == 0 && this.versions.compareAndSet(index, version, version + 1)) return version + 1;
+            Thread.onSpinWait();
         }
     }
 
+    /**
+     * Finishes writing the price, time or outcome of a pair, which publishes it to the readers
+     * @param index The index of the pair
+     * @param version The version stamp returned by beginWrite
+     */
+    private void endWrite(final int index, final int version) {
+        this.versions.set(index, version + 1);
+    }
+
+    /**
+     * Converts the time of a successful update to a local date and time
+     * @param lastUpdated The time (in epoch milliseconds), or NEVER
+     * @return The local date and time, or null if it is NEVER
+     */
+    public static LocalDateTime toLocalDateTime(final long lastUpdated) {
+        if (lastUpdated == EndpointMemoryInterface.NEVER) return null;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(lastUpdated), ZoneId.systemDefault());
+    }
+
     @Override
-    public double getPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+    public void getQuote(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long[] quote)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        final int index = this.indexOf(crypto, fiat);
+        int version;
+        do {
+            version = this.versions.get(index);
+            if ((version & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            quote[EndpointMemoryInterface.QUOTE_PRICE] = this.prices.get(index);
+            quote[EndpointMemoryInterface.QUOTE_LAST_UPDATED] = this.lastSuccessfulUpdates.get(index);
+            quote[EndpointMemoryInterface.QUOTE_SUCCESSFUL] =
+                    (this.flags.get(index) & EndpointMemory.LAST_UPDATE_SUCCESSFUL) != 0 ? 1 : 0;
+        } while ((version & 1) != 0 || this.versions.get(index) != version);
+    }
+
+    @Override
+    public void setQuote(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long price,
+                         final long lastSuccessfulUpdated)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        final int index = this.indexOf(crypto, fiat);
+        final int version = this.beginWrite(index);
+        this.prices.set(index, price);
+        this.lastSuccessfulUpdates.set(index, lastSuccessfulUpdated);
+        this.setFlag(index, EndpointMemory.LAST_UPDATE_SUCCESSFUL, true);
+        this.endWrite(index, version);
+    }
+
+    @Override
+    public boolean restoreQuote(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long price,
+                                final long lastSuccessfulUpdated)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        final int index = this.indexOf(crypto, fiat);
+        final int version = this.beginWrite(index);
         try {
-            return this.getDataFromMap(crypto, fiat).getPrice();
-        } catch (final NullPointerException exception) {
-            return 0;
+            if (this.lastSuccessfulUpdates.get(index) >= lastSuccessfulUpdated) return false;
+
+            this.prices.set(index, price);
+            this.lastSuccessfulUpdates.set(index, lastSuccessfulUpdated);
+            this.setFlag(index, EndpointMemory.LAST_UPDATE_SUCCESSFUL, true);
+            return true;
+        } finally {
+            this.endWrite(index, version);
         }
     }
 
     @Override
-    public void setPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat, final double price)
+    public long getPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
-        this.getDataFromMap(crypto, fiat).setPrice(price);
+        return this.prices.get(this.indexOf(crypto, fiat));
     }
 
     @Override
-    public boolean isUpdating(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+    public void setPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long price)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
-        return this.getDataFromMap(crypto, fiat).isUpdating();
+        final int index = this.indexOf(crypto, fiat);
+        final int version = this.beginWrite(index);
+        this.prices.set(index, price);
+        this.endWrite(index, version);
     }
 
     @Override
-    public void setUpdating(final CryptoCurrencies crypto, final FiatCurrencies fiat, boolean isUpdating)
+    public boolean isUpdating(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
-        try {
-            this.getDataFromMap(crypto, fiat).setUpdating(isUpdating);
-        } catch (final NullPointerException ignored) {
-            // TODO: Figure out what to do here (my god this whole thing is one large spaghetti mess)
-        }
+        return (this.flags.get(this.indexOf(crypto, fiat)) & EndpointMemory.UPDATING) != 0;
+    }
 
+    @Override
+    public void setUpdating(final CryptoCurrencies crypto, final FiatCurrencies fiat, final boolean isUpdating)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        this.setFlag(this.indexOf(crypto, fiat), EndpointMemory.UPDATING, isUpdating);
     }
 
     @Override
     public LocalDateTime getLastSuccessfulUpdated(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
-        try {
-            return this.getDataFromMap(crypto, fiat).getLastSuccessfulUpdate();
-        } catch (final NullPointerException exception) {
-            return LocalDateTime.MIN;
-        }
+        return EndpointMemory.toLocalDateTime(this.getLastSuccessfulUpdatedMillis(crypto, fiat));
     }
 
     @Override
     public void setLastSuccessfulUpdated(final CryptoCurrencies crypto, final FiatCurrencies fiat,
                                          final LocalDateTime lastUpdated)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
-        this.getDataFromMap(crypto, fiat).setLastSuccessfulUpdate(lastUpdated);
+        this.setLastSuccessfulUpdatedMillis(crypto, fiat, lastUpdated == null ? EndpointMemoryInterface.NEVER :
+                lastUpdated.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @Override
+    public long getLastSuccessfulUpdatedMillis(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        return this.lastSuccessfulUpdates.get(this.indexOf(crypto, fiat));
+    }
+
+    @Override
+    public void setLastSuccessfulUpdatedMillis(final CryptoCurrencies crypto, final FiatCurrencies fiat,
+                                               final long lastUpdated)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        final int index = this.indexOf(crypto, fiat);
+        final int version = this.beginWrite(index);
+        this.lastSuccessfulUpdates.set(index, lastUpdated);
+        this.endWrite(index, version);
     }
 
     @Override
     public boolean wasLastUpdateSuccessful(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
-        return this.getDataFromMap(crypto, fiat).wasLastUpdateSuccessful();
+        return (this.flags.get(this.indexOf(crypto, fiat)) & EndpointMemory.LAST_UPDATE_SUCCESSFUL) != 0;
     }
 
     @Override
     public void setWasLastUpdateSuccessful(final CryptoCurrencies crypto, final FiatCurrencies fiat,
                                            final boolean successful)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
-        this.getDataFromMap(crypto, fiat).setWasLastUpdateSuccessful(successful);
+        final int index = this.indexOf(crypto, fiat);
+        final int version = this.beginWrite(index);
+        this.setFlag(index, EndpointMemory.LAST_UPDATE_SUCCESSFUL, successful);
+        this.endWrite(index, version);
     }
 }
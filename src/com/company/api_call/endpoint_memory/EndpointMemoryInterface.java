@@ -9,10 +9,62 @@ import java.time.LocalDateTime;
 
 public interface EndpointMemoryInterface {
 
-    double getPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+    /**
+     * The last successful update time (in epoch milliseconds) of a pair that has never been successfully updated
+     */
+    long NEVER = Long.MIN_VALUE;
+
+    /**
+     * The index of the price's mantissa in a quote read by getQuote
+     */
+    int QUOTE_PRICE = 0;
+
+    /**
+     * The index of the last successful update time (in epoch milliseconds) in a quote read by getQuote
+     */
+    int QUOTE_LAST_UPDATED = 1;
+
+    /**
+     * The index of the last update's outcome (1 if it was successful, 0 if not) in a quote read by getQuote
+     */
+    int QUOTE_SUCCESSFUL = 2;
+
+    /**
+     * The length of the array a quote is read into
+     */
+    int QUOTE_LENGTH = 3;
+
+    /**
+     * Reads the price, last successful update time and last update's outcome of a pair as one consistent snapshot
+     * @param quote Where to read it, indexed by QUOTE_PRICE, QUOTE_LAST_UPDATED and QUOTE_SUCCESSFUL
+     */
+    void getQuote(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long[] quote)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
+    /**
+     * Records a successful update of a pair: its price, time and outcome are written together
+     * @param price The mantissa of the price
+     * @param lastSuccessfulUpdated The time (in epoch milliseconds) of the update
+     */
+    void setQuote(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long price,
+                  final long lastSuccessfulUpdated)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
 
-    void setPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat, final double price)
+    /**
+     * Records a price received earlier as a successful update of a pair, unless the pair already holds a price that's
+     * at least as new. The check and the write are a single step, so a concurrent update is never clobbered
+     * @param price The mantissa of the price
+     * @param lastSuccessfulUpdated The time (in epoch milliseconds) the price was received
+     * @return If the price was restored
+     */
+    boolean restoreQuote(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long price,
+                         final long lastSuccessfulUpdated)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
+    long getPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
+    void setPrice(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long price)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
 
     boolean isUpdating(final CryptoCurrencies crypto, final FiatCurrencies fiat)
@@ -27,6 +79,17 @@ public interface EndpointMemoryInterface {
     void setLastSuccessfulUpdated(final CryptoCurrencies crypto, final FiatCurrencies fiat, final LocalDateTime lastUpdated)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
 
+    /**
+     * Returns the time of the last successful update of a pair, without allocating
+     * @return The time (in epoch milliseconds) of the last successful update, or NEVER
+     */
+    long getLastSuccessfulUpdatedMillis(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
+    void setLastSuccessfulUpdatedMillis(final CryptoCurrencies crypto, final FiatCurrencies fiat,
+                                        final long lastUpdated)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
     boolean wasLastUpdateSuccessful(final CryptoCurrencies crypto, final FiatCurrencies fiat)
             throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
 
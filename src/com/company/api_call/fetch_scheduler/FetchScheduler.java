@@ -0,0 +1,295 @@
+package com.company.api_call.fetch_scheduler;
+
+import com.company.api_call.APICallerInterface;
+import com.company.tool.util.ThreadPools;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the fetches for the API endpoints on a bounded, reusable pool of threads (virtual threads when the JDK has them,
+ * a fixed pool of platform threads otherwise). Each endpoint can only have so many fetches running at once, and the
+ * number of fetches waiting to run is capped, so that a slow endpoint can't pile up an unbounded amount of work.
+ */
+final public class FetchScheduler implements FetchSchedulerInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The default number of platform threads used when virtual threads aren't available
+     */
+    public static final int DEFAULT_POOL_SIZE = 8;
+
+    /**
+     * The default number of fetches that can be running for a single endpoint at once
+     */
+    public static final int DEFAULT_PER_ENDPOINT_LIMIT = 2;
+
+    /**
+     * The default number of fetches that can be waiting to run at once
+     */
+    public static final int DEFAULT_MAX_QUEUE_DEPTH = 64;
+
+    /**
+     * The default number of spots in the queue that background fetches can't take
+     */
+    public static final int DEFAULT_RESERVED_QUEUE_DEPTH = 16;
+
+    /**
+     * The prefix of the names of the platform threads
+     */
+    private static final String THREAD_NAME_PREFIX = "fetch";
+
+    /**
+     * The executor that the fetches are run on
+     */
+    private final ExecutorService executor;
+
+    /**
+     * If the executor runs the fetches on virtual threads
+     */
+    private final boolean usesVirtualThreads;
+
+    /**
+     * The number of fetches that can be running for a single endpoint at once
+     */
+    private final int perEndpointLimit;
+
+    /**
+     * The number of fetches that can be waiting to run at once
+     */
+    private final int maxQueueDepth;
+
+    /**
+     * The number of spots in the queue that background fetches can't take, so that they're always left for the
+     * fetches that somebody is waiting on
+     */
+    private final int reservedQueueDepth;
+
+    /**
+     * The lane of each endpoint, which holds the fetches waiting behind the endpoint's concurrency limit
+     */
+    private final Map<APICallerInterface, Lane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * The number of fetches that are currently running
+     */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * The number of fetches that have been accepted but haven't started running yet
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * The number of fetches that have been rejected
+     */
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * The number of fetches that have finished running
+     */
+    private final AtomicLong completed = new AtomicLong();
+
+    /**
+     * If the scheduler has been shut down
+     */
+    private volatile boolean isShutdown = false;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the FetchScheduler with the default limits
+     */
+    public FetchScheduler() {
+        this(FetchScheduler.DEFAULT_POOL_SIZE, FetchScheduler.DEFAULT_PER_ENDPOINT_LIMIT,
+                FetchScheduler.DEFAULT_MAX_QUEUE_DEPTH, FetchScheduler.DEFAULT_RESERVED_QUEUE_DEPTH);
+    }
+
+    /**
+     * The constructor for the FetchScheduler
+     * @param poolSize The number of platform threads to use when virtual threads aren't available
+     * @param perEndpointLimit The number of fetches that can be running for a single endpoint at once
+     * @param maxQueueDepth The number of fetches that can be waiting to run at once
+     * @param reservedQueueDepth The number of spots in the queue that background fetches can't take
+     */
+    public FetchScheduler(final int poolSize, final int perEndpointLimit, final int maxQueueDepth,
+                          final int reservedQueueDepth) {
+        if (poolSize < 1 || perEndpointLimit < 1 || maxQueueDepth < 1)
+            throw new IllegalArgumentException("The fetch scheduler's limits must all be positive");
+        if (reservedQueueDepth < 0 || reservedQueueDepth >= maxQueueDepth)
+            throw new IllegalArgumentException("The reserved queue depth must leave room for background fetches");
+
+        final ExecutorService virtualExecutor = ThreadPools.newVirtualThreadExecutor();
+        this.usesVirtualThreads = virtualExecutor != null;
+        this.executor = this.usesVirtualThreads ? virtualExecutor : Executors.newFixedThreadPool(poolSize,
+                ThreadPools.daemonThreadFactory(FetchScheduler.THREAD_NAME_PREFIX));
+
+        this.perEndpointLimit = perEndpointLimit;
+        this.maxQueueDepth = maxQueueDepth;
+        this.reservedQueueDepth = reservedQueueDepth;
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public boolean submit(final APICallerInterface endpoint, final Runnable fetch) {
+        return this.submit(endpoint, fetch, this.maxQueueDepth);
+    }
+
+    @Override
+    public boolean submitBackground(final APICallerInterface endpoint, final Runnable fetch) {
+        return this.submit(endpoint, fetch, this.maxQueueDepth - this.reservedQueueDepth);
+    }
+
+    /**
+     * Submits a fetch, as long as fewer than the given number of fetches are waiting to run
+     * @param endpoint The endpoint that the fetch hits
+     * @param fetch The work to run
+     * @param queueDepth The number of fetches that can be waiting to run once this one has been accepted
+     * @return If the fetch was accepted
+     */
+    private boolean submit(final APICallerInterface endpoint, final Runnable fetch, final int queueDepth) {
+        if (this.isShutdown) return this.reject();
+
+        // Reserve a spot in the queue before doing anything else
+        if (this.queued.incrementAndGet() > queueDepth) {
+            this.queued.decrementAndGet();
+            return this.reject();
+        }
+
+        final Lane lane = this.lanes.computeIfAbsent(endpoint, key -> new Lane());
+        synchronized (lane) {
+            if (lane.running >= this.perEndpointLimit) {
+                lane.waiting.addLast(fetch);
+                return true;
+            }
+            lane.running++;
+        }
+
+        return this.dispatch(lane, fetch);
+    }
+
+    /**
+     * Hands a fetch that has a running spot in its lane off to the executor
+     * @param lane The lane of the endpoint that the fetch is for
+     * @param fetch The fetch to run
+     * @return If the executor accepted the fetch
+     */
+    private boolean dispatch(final Lane lane, final Runnable fetch) {
+        try {
+            this.executor.execute(() -> this.run(lane, fetch));
+            return true;
+        } catch (final RejectedExecutionException e) {
+            // The executor has been shut down underneath us
+            this.queued.decrementAndGet();
+            synchronized (lane) {
+                lane.running--;
+            }
+            return this.reject();
+        }
+    }
+
+    /**
+     * Runs the fetch, and then hands the lane's next waiting fetch (if there is one) to the executor
+     * @param lane The lane of the endpoint that the fetch is for
+     * @param fetch The fetch to run
+     */
+    private void run(final Lane lane, final Runnable fetch) {
+        this.queued.decrementAndGet();
+        this.active.incrementAndGet();
+        try {
+            fetch.run();
+        } catch (final RuntimeException e) {
+            // A single bad fetch shouldn't take the worker down with it
+            e.printStackTrace();
+        } finally {
+            this.active.decrementAndGet();
+            this.completed.incrementAndGet();
+        }
+
+        final Runnable next;
+        synchronized (lane) {
+            next = this.isShutdown ? null : lane.waiting.pollFirst();
+            if (next == null) lane.running--;
+        }
+        if (next != null) this.dispatch(lane, next);
+    }
+
+    /**
+     * Counts a rejected fetch
+     * @return false, so that it can be returned straight from submit
+     */
+    private boolean reject() {
+        this.rejected.incrementAndGet();
+        return false;
+    }
+
+    @Override
+    public int getActiveCount() { return this.active.get(); }
+
+    @Override
+    public int getQueuedCount() { return this.queued.get(); }
+
+    @Override
+    public long getRejectedCount() { return this.rejected.get(); }
+
+    @Override
+    public long getCompletedCount() { return this.completed.get(); }
+
+    @Override
+    public boolean usesVirtualThreads() { return this.usesVirtualThreads; }
+
+    @Override
+    public void shutdown() {
+        this.isShutdown = true;
+        for (final Lane lane : this.lanes.values()) {
+            synchronized (lane) {
+                this.queued.addAndGet(-lane.waiting.size());
+                lane.waiting.clear();
+            }
+        }
+        this.executor.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "FetchScheduler[active=" + this.getActiveCount() + ", queued=" + this.getQueuedCount() + ", rejected="
+                + this.getRejectedCount() + ", completed=" + this.getCompletedCount() + "]";
+    }
+
+
+    /* ************ *
+     *    Classes   *
+     * ************ */
+
+    /**
+     * The fetches that are running and waiting for a single endpoint. Guarded by its own monitor
+     */
+    private static final class Lane {
+
+        /**
+         * The fetches waiting for one of the endpoint's running fetches to finish
+         */
+        private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+
+        /**
+         * The number of fetches for the endpoint that have been handed to the executor
+         */
+        private int running = 0;
+    }
+}
@@ -0,0 +1,63 @@
+package com.company.api_call.fetch_scheduler;
+
+import com.company.api_call.APICallerInterface;
+
+/**
+ * The interface for the scheduler that runs the work of fetching prices from the API endpoints
+ */
+public interface FetchSchedulerInterface {
+
+    /**
+     * Submits a fetch for the given endpoint. The fetch is run right away if the endpoint is below its concurrency
+     * limit, otherwise it waits behind the endpoint's other fetches. If the queue is full the fetch is rejected
+     * @param endpoint The endpoint that the fetch hits
+     * @param fetch The work to run
+     * @return If the fetch was accepted
+     */
+    boolean submit(final APICallerInterface endpoint, final Runnable fetch);
+
+    /**
+     * Submits a fetch that nobody is waiting on, like a prefetch. It's run the same way as any other fetch, but it's
+     * rejected once the queue is down to the spots reserved for the fetches that somebody is waiting on
+     * @param endpoint The endpoint that the fetch hits
+     * @param fetch The work to run
+     * @return If the fetch was accepted
+     */
+    boolean submitBackground(final APICallerInterface endpoint, final Runnable fetch);
+
+    /**
+     * Returns the number of fetches that are currently running
+     * @return The number of fetches that are currently running
+     */
+    int getActiveCount();
+
+    /**
+     * Returns the number of fetches that have been accepted, but have not started running yet
+     * @return The number of fetches that are waiting to run
+     */
+    int getQueuedCount();
+
+    /**
+     * Returns the number of fetches that have been rejected since the scheduler was created
+     * @return The number of rejected fetches
+     */
+    long getRejectedCount();
+
+    /**
+     * Returns the number of fetches that have finished running since the scheduler was created
+     * @return The number of completed fetches
+     */
+    long getCompletedCount();
+
+    /**
+     * Returns if the fetches are run on virtual threads (otherwise they are run on a fixed pool of platform threads)
+     * @return If the fetches are run on virtual threads
+     */
+    boolean usesVirtualThreads();
+
+    /**
+     * Stops accepting new fetches and drops the ones that are still waiting to run
+     */
+    void shutdown();
+
+}
@@ -0,0 +1,227 @@
+package com.company.api_call.http_transport;
+
+import javax.net.ssl.SSLSession;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The HTTP transport shared by all the API callers. It sits on a single HttpClient, which keeps its connections alive
+ * and pools them per host (and speaks HTTP/2 to the hosts that support it), so that a refresh doesn't pay for a new
+ * TLS handshake on every call
+ */
+final public class HttpTransport implements HttpTransportInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The default time allowed to establish a connection
+     */
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * The default time allowed for the whole response, body included, to come back once the request has been sent
+     */
+    public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * The client that all the calls are made through
+     */
+    private final HttpClient client;
+
+    /**
+     * The time allowed to establish a connection
+     */
+    private final Duration connectTimeout;
+
+    /**
+     * The time allowed for the whole response, body included, to come back once the request has been sent
+     */
+    private final Duration readTimeout;
+
+    /**
+     * The ids of the TLS sessions that responses have come back over. A response over a session that isn't in here
+     * had to do a handshake, one over a session that is in here reused a connection. Keyed by id rather than by the
+     * session itself, as the client hands every response a fresh wrapper of its session that only equals itself
+     */
+    private final Set<ByteBuffer> seenSessions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The number of requests that got a response
+     */
+    private final AtomicLong requests = new AtomicLong();
+
+    /**
+     * The number of responses that came back over a new TLS session
+     */
+    private final AtomicLong handshakes = new AtomicLong();
+
+    /**
+     * The number of responses that came back over an already established TLS session
+     */
+    private final AtomicLong reusedConnections = new AtomicLong();
+
+    /**
+     * The number of requests that failed
+     */
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * The listeners that hear how every call went. Added to rarely and read on every call, hence copy on write
+     */
+    private final List<HttpTransportListener> listeners = new CopyOnWriteArrayList<>();
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the HttpTransport with the default timeouts
+     */
+    public HttpTransport() {
+        this(HttpTransport.DEFAULT_CONNECT_TIMEOUT, HttpTransport.DEFAULT_READ_TIMEOUT);
+    }
+
+    /**
+     * The constructor for the HttpTransport
+     * @param connectTimeout The time allowed to establish a connection
+     * @param readTimeout The time allowed for the whole response, body included, to come back
+     */
+    public HttpTransport(final Duration connectTimeout, final Duration readTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(this.connectTimeout)
+                .build();
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public InputStream get(final String url) throws IOException {
+        final HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(this.readTimeout)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+        } catch (final IllegalArgumentException e) {
+            this.failures.incrementAndGet();
+            throw new MalformedURLException(e.getMessage());
+        }
+
+        // The request's own timeout only covers the wait for the headers, so the whole exchange, body included, is
+        // given the same deadline here: a provider that stalls halfway through the body can't hang the caller
+        final CompletableFuture<HttpResponse<byte[]>> pending =
+                this.client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        final HttpResponse<byte[]> response;
+        try {
+            response = pending.get(this.readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            pending.cancel(true);
+            Thread.currentThread().interrupt();
+            this.failures.incrementAndGet();
+            throw new InterruptedIOException("Interrupted while waiting on " + url);
+        } catch (final TimeoutException e) {
+            pending.cancel(true);
+            throw this.failed(url, new HttpTimeoutException(url + " didn't respond within " + this.readTimeout));
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw this.failed(url, cause instanceof IOException ? (IOException) cause : new IOException(cause));
+        }
+
+        this.requests.incrementAndGet();
+        for (final HttpTransportListener listener : this.listeners) listener.responseReceived(url);
+        this.countConnection(response.sslSession());
+
+        if (response.statusCode() >= 400) {
+            this.failures.incrementAndGet();
+            throw new IOException(url + " returned HTTP " + response.statusCode());
+        }
+
+        return new ByteArrayInputStream(response.body());
+    }
+
+    /**
+     * Counts a call that failed and tells the listeners about it
+     * @param url The url that was hit
+     * @param e Why the call failed
+     * @return The exception, to be thrown
+     */
+    private IOException failed(final String url, final IOException e) {
+        this.failures.incrementAndGet();
+        for (final HttpTransportListener listener : this.listeners) listener.connectionFailed(url, e);
+        return e;
+    }
+
+    @Override
+    public void addListener(final HttpTransportListener listener) { this.listeners.add(listener); }
+
+    /**
+     * Counts whether a response came back over a new TLS session or an existing one
+     * @param session The TLS session that the response came back over (empty if the call wasn't over TLS). A session
+     *                without an id can't be told apart from the others, so it's counted as a handshake
+     */
+    private void countConnection(final Optional<SSLSession> session) {
+        if (session.isEmpty()) return;
+
+        // The id is copied, as the session is free to reuse the array it hands out
+        final byte[] id = session.get().getId();
+        if (id == null || id.length == 0 || this.seenSessions.add(ByteBuffer.wrap(id.clone())))
+            this.handshakes.incrementAndGet();
+        else this.reusedConnections.incrementAndGet();
+    }
+
+    @Override
+    public Duration getConnectTimeout() { return this.connectTimeout; }
+
+    @Override
+    public Duration getReadTimeout() { return this.readTimeout; }
+
+    @Override
+    public long getRequestCount() { return this.requests.get(); }
+
+    @Override
+    public long getHandshakeCount() { return this.handshakes.get(); }
+
+    @Override
+    public long getReusedConnectionCount() { return this.reusedConnections.get(); }
+
+    @Override
+    public long getFailureCount() { return this.failures.get(); }
+
+    @Override
+    public String toString() {
+        return "HttpTransport[requests=" + this.getRequestCount() + ", handshakes=" + this.getHandshakeCount()
+                + ", reused=" + this.getReusedConnectionCount() + ", failures=" + this.getFailureCount() + "]";
+    }
+}
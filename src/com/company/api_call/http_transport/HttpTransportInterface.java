@@ -0,0 +1,63 @@
+package com.company.api_call.http_transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+/**
+ * The interface for the shared HTTP transport that all the API callers make their calls through
+ */
+public interface HttpTransportInterface {
+
+    /**
+     * Makes a GET request to the given url and returns the body of the response, which has been read in full within
+     * the read timeout, so reading the stream never blocks on the network
+     * @param url The url to hit
+     * @return The body of the response
+     * @throws IOException If the url is bad, the call fails or times out, or the response is an HTTP error
+     */
+    InputStream get(final String url) throws IOException;
+
+    /**
+     * Adds a listener that hears how every later call went
+     * @param listener The listener
+     */
+    void addListener(final HttpTransportListener listener);
+
+    /**
+     * Returns the time allowed to establish a connection
+     * @return The time allowed to establish a connection
+     */
+    Duration getConnectTimeout();
+
+    /**
+     * Returns the time allowed for the whole response, body included, to come back once the request has been sent
+     * @return The time allowed for a response to come back
+     */
+    Duration getReadTimeout();
+
+    /**
+     * Returns the number of requests that got a response
+     * @return The number of requests that got a response
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of responses that came back over a newly negotiated TLS session
+     * @return The number of TLS handshakes
+     */
+    long getHandshakeCount();
+
+    /**
+     * Returns the number of responses that came back over an already established TLS session
+     * @return The number of reused connections
+     */
+    long getReusedConnectionCount();
+
+    /**
+     * Returns the number of requests that failed, either with an exception or an HTTP error status
+     * @return The number of failed requests
+     */
+    long getFailureCount();
+
+}
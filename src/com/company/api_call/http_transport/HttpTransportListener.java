@@ -0,0 +1,24 @@
+package com.company.api_call.http_transport;
+
+import java.io.IOException;
+
+/**
+ * Whoever wants to hear how the calls made through an HttpTransportInterface went needs to implement these methods.
+ * They are called on the thread that made the call, so they must be quick and must not block
+ */
+public interface HttpTransportListener {
+
+    /**
+     * Called when a call got a response back, whatever its status
+     * @param url The url that was hit
+     */
+    void responseReceived(final String url);
+
+    /**
+     * Called when a call got no response back, i.e. the connection couldn't be made or the response timed out
+     * @param url The url that was hit
+     * @param exception Why the call failed
+     */
+    void connectionFailed(final String url, final IOException exception);
+
+}
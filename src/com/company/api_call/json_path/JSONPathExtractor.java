@@ -0,0 +1,228 @@
+package com.company.api_call.json_path;
+
+import com.company.tool.util.FixedPointPrice;
+import json_simple.parser.DecimalParser;
+import json_simple.parser.JSONParser;
+import json_simple.parser.ParseException;
+import json_simple.parser.RawContentHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Extracts numbers out of a JSON document by their paths (the keys leading to them, e.g. data.amount), using the
+ * parser's streaming mode over the raw bytes of the document. Only the keys on the way down are kept, never the
+ * objects, and parsing stops as soon as every path has been found. The parser (and its buffers) is reused across the
+ * calls made on a thread. A number given as a string (e.g. "amount": "123.45") is parsed as well, since some endpoints
+ * quote their prices. Either way the number is converted straight from its text to a fixed-point number, so a bare
+ * number and a quoted one are exact and round the same. Paths only go through objects: nothing inside an array is
+ * ever matched
+ */
+final public class JSONPathExtractor implements JSONPathExtractorInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The paths to extract
+     */
+    private final String[][] paths;
+
+    /**
+     * The scale that the number at each path is extracted at
+     */
+    private final int[] scales;
+
+    /**
+     * The length of the longest path, past which the keys aren't tracked
+     */
+    private final int maxDepth;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the JSONPathExtractor
+     * @param paths The paths to extract, each one being the keys leading from the root object to a number
+     * @param scales The scale (number of decimal places) to extract the number at each path at
+     */
+    public JSONPathExtractor(final String[][] paths, final int[] scales) {
+        if (paths.length != scales.length) throw new IllegalArgumentException("Every path needs a scale");
+
+        this.scales = Arrays.copyOf(scales, scales.length);
+        this.paths = new String[paths.length][];
+        int maxDepth = 0;
+        for (int i = 0; i < paths.length; i++) {
+            if (paths[i].length == 0) throw new IllegalArgumentException("A path needs at least one key");
+            this.paths[i] = Arrays.copyOf(paths[i], paths[i].length);
+            maxDepth = Math.max(maxDepth, paths[i].length);
+        }
+        this.maxDepth = maxDepth;
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public long[] extract(final InputStream in) throws IOException, ParseException {
+        final Handler handler = new Handler();
+        final JSONParser parser = JSONParser.getThreadLocalParser();
+        try {
+            parser.parse(in, handler);
+        } finally {
+            // Don't hold on to the response until the thread's next parse
+            parser.reset((InputStream) null);
+        }
+        return handler.values;
+    }
+
+    /**
+     * Converts a primitive from the parser into a fixed-point number. A number or string whose text is at hand is
+     * converted from that text, so it's exact. Otherwise a fractional JSON number has already been made into a double
+     * by the parser, so it's only as exact as that double is
+     * @param value The primitive
+     * @param text The bytes holding the text of the primitive
+     * @param offset The index of the first byte of the text
+     * @param length The number of bytes of the text, or -1 if it isn't at hand
+     * @param scale The scale of the fixed-point number
+     * @return The mantissa, or NO_PRICE if the primitive isn't a number or the number doesn't fit at the scale
+     */
+    private static long toFixedPoint(final Object value, final byte[] text, final int offset, final int length,
+                                     final int scale) {
+        if (length >= 0 && (value instanceof Number || value instanceof String)) {
+            final long mantissa = DecimalParser.parseScaled(text, offset, length, scale);
+            return mantissa == DecimalParser.INVALID ? FixedPointPrice.NO_PRICE : mantissa;
+        }
+        if (value instanceof Long) return FixedPointPrice.fromLong((Long) value, scale);
+        if (value instanceof Number) return FixedPointPrice.fromDouble(((Number) value).doubleValue(), scale);
+        if (value instanceof String) {
+            final long mantissa = DecimalParser.parseScaled((String) value, scale);
+            return mantissa == DecimalParser.INVALID ? FixedPointPrice.NO_PRICE : mantissa;
+        }
+        return FixedPointPrice.NO_PRICE;
+    }
+
+
+    /* ************ *
+     *    Classes   *
+     * ************ */
+
+    /**
+     * The state of a single extraction: the keys leading to the current value and what has been found so far
+     */
+    private final class Handler implements RawContentHandler {
+
+        /**
+         * The key at each depth leading to the current value (null for the elements of an array)
+         */
+        private final String[] keys = new String[JSONPathExtractor.this.maxDepth];
+
+        /**
+         * The mantissa of the number at each path
+         */
+        private final long[] values = new long[JSONPathExtractor.this.paths.length];
+
+        /**
+         * If each path has been found
+         */
+        private final boolean[] found = new boolean[JSONPathExtractor.this.paths.length];
+
+        /**
+         * The number of paths found
+         */
+        private int foundCount = 0;
+
+        /**
+         * The number of objects and arrays the current value is nested in
+         */
+        private int depth = 0;
+
+        /**
+         * The constructor for a Handler
+         */
+        private Handler() {
+            Arrays.fill(this.values, FixedPointPrice.NO_PRICE);
+        }
+
+        @Override
+        public void startJSON() { }
+
+        @Override
+        public void endJSON() { }
+
+        @Override
+        public boolean startObject() {
+            this.depth++;
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            this.depth--;
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(final String key) {
+            if (this.depth <= this.keys.length) this.keys[this.depth - 1] = key;
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() { return true; }
+
+        @Override
+        public boolean startArray() {
+            this.depth++;
+            if (this.depth <= this.keys.length) this.keys[this.depth - 1] = null;
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            this.depth--;
+            return true;
+        }
+
+        @Override
+        public boolean primitive(final Object value) {
+            return this.primitive(value, null, 0, -1);
+        }
+
+        @Override
+        public boolean primitive(final Object value, final byte[] text, final int offset, final int length) {
+            if (this.depth == 0 || this.depth > this.keys.length) return true;
+
+            final String[][] paths = JSONPathExtractor.this.paths;
+            for (int i = 0; i < paths.length; i++) {
+                if (this.found[i] || paths[i].length != this.depth || !this.isAt(paths[i])) continue;
+
+                this.values[i] = JSONPathExtractor.toFixedPoint(value, text, offset, length,
+                        JSONPathExtractor.this.scales[i]);
+                this.found[i] = true;
+                this.foundCount++;
+            }
+
+            // Stop reading once there's nothing left to find
+            return this.foundCount < paths.length;
+        }
+
+        /**
+         * Returns if the current value is at the given path
+         * @param path The path, which is as long as the current depth
+         * @return If the current value is at the path
+         */
+        private boolean isAt(final String[] path) {
+            for (int i = 0; i < path.length; i++) {
+                if (!path[i].equals(this.keys[i])) return false;
+            }
+            return true;
+        }
+    }
+}
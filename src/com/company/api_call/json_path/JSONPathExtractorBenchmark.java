@@ -0,0 +1,172 @@
+package com.company.api_call.json_path;
+
+import com.company.tool.util.FixedPointPrice;
+import json_simple.JSONObject;
+import json_simple.parser.DecimalParser;
+import json_simple.parser.JSONParser;
+import json_simple.parser.ParseException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A microbenchmark of the price parsing path, run by hand with its main method. It compares DecimalParser against
+ * Double.parseDouble for the price text alone, and the JSONPathExtractor against parsing the whole response into
+ * objects, on a response shaped like CoinBase's. Each measurement is warmed up first, and the results are summed into
+ * a checksum that is printed so the work can't be optimised away. The numbers are only a rough guide (there is no
+ * fork or statistics, as there would be with JMH), so compare them between runs on the same machine
+ */
+final class JSONPathExtractorBenchmark {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The number of calls made before each measurement, so the JIT has compiled the path being measured
+     */
+    private static final int WARMUP_ITERATIONS = 200_000;
+
+    /**
+     * The number of calls measured
+     */
+    private static final int ITERATIONS = 1_000_000;
+
+    /**
+     * The scale the prices are parsed at
+     */
+    private static final int SCALE = 2;
+
+    /**
+     * The price texts parsed by the decimal benchmarks
+     */
+    private static final String[] PRICES = { "63123.45", "0.285", "1.005", "2451.9876", "117.3", "98765432.1" };
+
+    /**
+     * The bytes of the price texts
+     */
+    private static final byte[][] PRICE_BYTES = new byte[JSONPathExtractorBenchmark.PRICES.length][];
+
+    /**
+     * The bytes of the response parsed by the extraction benchmarks
+     */
+    private static final byte[] RESPONSE = ("{\"data\":{\"base\":\"BTC\",\"currency\":\"USD\",\"amount\":\"63123.45\"},"
+            + "\"warnings\":[{\"id\":\"missing_version\",\"message\":\"Please supply API version (YYYY-MM-DD)\"}]}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    static {
+        for (int i = 0; i < JSONPathExtractorBenchmark.PRICES.length; i++)
+            JSONPathExtractorBenchmark.PRICE_BYTES[i] = JSONPathExtractorBenchmark.PRICES[i]
+                    .getBytes(StandardCharsets.US_ASCII);
+    }
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The benchmark is only run through main
+     */
+    private JSONPathExtractorBenchmark() { }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Runs every benchmark and prints the time per call of each one
+     * @param args Unused
+     */
+    public static void main(final String[] args) throws IOException, ParseException {
+        JSONPathExtractorBenchmark.run("DecimalParser.parseScaled(byte[])",
+                JSONPathExtractorBenchmark::parseScaledBytes);
+        JSONPathExtractorBenchmark.run("DecimalParser.parseScaled(String)",
+                JSONPathExtractorBenchmark::parseScaledText);
+        JSONPathExtractorBenchmark.run("Double.parseDouble + fromDouble", JSONPathExtractorBenchmark::parseDouble);
+        JSONPathExtractorBenchmark.run("JSONPathExtractor.extract", JSONPathExtractorBenchmark::extract);
+        JSONPathExtractorBenchmark.run("JSONParser.parse into objects", JSONPathExtractorBenchmark::parseObjects);
+    }
+
+    /**
+     * Warms up and then measures a benchmark, and prints its time per call
+     * @param name The name of the benchmark
+     * @param benchmark The benchmark
+     */
+    private static void run(final String name, final Benchmark benchmark) throws IOException, ParseException {
+        long checksum = 0;
+        for (int i = 0; i < JSONPathExtractorBenchmark.WARMUP_ITERATIONS; i++) checksum += benchmark.call(i);
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < JSONPathExtractorBenchmark.ITERATIONS; i++) checksum += benchmark.call(i);
+        final long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-36s %8.1f ns/call (checksum %d)%n", name,
+                elapsed / (double) JSONPathExtractorBenchmark.ITERATIONS, checksum);
+    }
+
+    /**
+     * Parses a price from its bytes, as the extractor does
+     */
+    private static long parseScaledBytes(final int i) {
+        final byte[] price = JSONPathExtractorBenchmark.PRICE_BYTES[i % JSONPathExtractorBenchmark.PRICES.length];
+        return DecimalParser.parseScaled(price, 0, price.length, JSONPathExtractorBenchmark.SCALE);
+    }
+
+    /**
+     * Parses a price from its text
+     */
+    private static long parseScaledText(final int i) {
+        final String price = JSONPathExtractorBenchmark.PRICES[i % JSONPathExtractorBenchmark.PRICES.length];
+        return DecimalParser.parseScaled(price, JSONPathExtractorBenchmark.SCALE);
+    }
+
+    /**
+     * Parses a price through a double, as was done before DecimalParser
+     */
+    private static long parseDouble(final int i) {
+        return FixedPointPrice.fromDouble(
+                Double.parseDouble(JSONPathExtractorBenchmark.PRICES[i % JSONPathExtractorBenchmark.PRICES.length]),
+                JSONPathExtractorBenchmark.SCALE);
+    }
+
+    /**
+     * Extracts the price from the response with a new JSONPathExtractor, as an endpoint does for each call
+     */
+    private static long extract(final int i) throws IOException, ParseException {
+        final JSONPathExtractor extractor = new JSONPathExtractor(new String[][] { { "data", "amount" } },
+                new int[] { JSONPathExtractorBenchmark.SCALE });
+        return extractor.extract(new ByteArrayInputStream(JSONPathExtractorBenchmark.RESPONSE))[0];
+    }
+
+    /**
+     * Parses the whole response into objects and then converts the price, as was done before the extractor
+     */
+    private static long parseObjects(final int i) throws IOException, ParseException {
+        final JSONObject response = (JSONObject) JSONParser.getThreadLocalParser()
+                .parse(new ByteArrayInputStream(JSONPathExtractorBenchmark.RESPONSE));
+        final String amount = (String) ((JSONObject) response.get("data")).get("amount");
+        return FixedPointPrice.fromDouble(Double.parseDouble(amount), JSONPathExtractorBenchmark.SCALE);
+    }
+
+
+    /* ************ *
+     *    Classes   *
+     * ************ */
+
+    /**
+     * A single call of a benchmark
+     */
+    @FunctionalInterface
+    private interface Benchmark {
+
+        /**
+         * Makes the call
+         * @param i The index of the call
+         * @return A result to add to the checksum
+         */
+        long call(final int i) throws IOException, ParseException;
+    }
+}
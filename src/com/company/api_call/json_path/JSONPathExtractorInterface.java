@@ -0,0 +1,24 @@
+package com.company.api_call.json_path;
+
+import json_simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The interface for extracting numbers out of a JSON response by their paths, without parsing the whole response
+ */
+public interface JSONPathExtractorInterface {
+
+    /**
+     * Reads the numbers at the extractor's paths out of a JSON document, as fixed-point mantissas at each path's scale.
+     * Reading stops as soon as every path has been found, so the rest of the document is never parsed
+     * @param in The JSON document, encoded as UTF-8
+     * @return The mantissa of the number at each path, in the order of the paths (FixedPointPrice.NO_PRICE for a path
+     *         that is missing, isn't a number, or whose number doesn't fit at its scale)
+     * @throws IOException If the document couldn't be read
+     * @throws ParseException If the document isn't valid JSON (up to where reading stopped)
+     */
+    long[] extract(final InputStream in) throws IOException, ParseException;
+
+}
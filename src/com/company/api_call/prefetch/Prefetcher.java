@@ -0,0 +1,326 @@
+package com.company.api_call.prefetch;
+
+import com.company.api_call.APICallerInterface;
+import com.company.api_call.endpoint_memory.EndpointMemoryInterface;
+import com.company.api_call.fetch_scheduler.FetchSchedulerInterface;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+import com.company.tool.exception.currency_not_supported.AbstractCurrencyNotSupported;
+import com.company.tool.util.ThreadPools;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps every pair that the endpoints support warm in their memory, so that switching currencies shows a fresh price
+ * without waiting on a call. The pair being viewed is kept within the freshness budget. Every other pair starts with
+ * double that budget, which doubles again each time it's prefetched without anyone viewing it (up to a maximum).
+ * Endpoints that support batch updates refresh all their stale pairs with a single call. Prefetches are submitted as
+ * background fetches, so they never take the room kept for the fetches the user asks for, and a pair isn't submitted
+ * again while its prefetch is still waiting to run.
+ */
+final public class Prefetcher implements PrefetcherInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The default age at which the price of the viewed pair is refreshed
+     */
+    public static final Duration DEFAULT_FRESHNESS_BUDGET = Duration.ofSeconds(30);
+
+    /**
+     * The default longest age that the price of a pair nobody is viewing is backed off to
+     */
+    public static final Duration DEFAULT_MAX_IDLE_BUDGET = Duration.ofMinutes(10);
+
+    /**
+     * The default time between checks for stale pairs
+     */
+    public static final Duration DEFAULT_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+    /**
+     * The name of the prefetching thread
+     */
+    private static final String THREAD_NAME_PREFIX = "prefetch";
+
+    /**
+     * The pending entry of an endpoint's batch update, which can't be mistaken for a pair
+     */
+    private static final int BATCH = -1;
+
+    /**
+     * The number of fiat currencies, which the pairs are numbered by
+     */
+    private static final int FIAT_COUNT = FiatCurrencies.values().length;
+
+    /**
+     * The endpoints to keep warm
+     */
+    private final List<APICallerInterface> endpoints;
+
+    /**
+     * The scheduler that the prefetches are submitted to
+     */
+    private final FetchSchedulerInterface fetchScheduler;
+
+    /**
+     * The age (in milliseconds) at which the price of the viewed pair is refreshed
+     */
+    private final long freshnessBudget;
+
+    /**
+     * The longest age (in milliseconds) that the price of a pair nobody is viewing is backed off to
+     */
+    private final long maxIdleBudget;
+
+    /**
+     * The time (in milliseconds) between checks for stale pairs
+     */
+    private final long checkInterval;
+
+    /**
+     * The current budget (in milliseconds) of each pair for each endpoint, indexed by the currencies' ordinals. Only
+     * touched by the prefetching thread
+     */
+    private final Map<APICallerInterface, long[][]> budgets = new HashMap<>();
+
+    /**
+     * The pairs of each endpoint (as given by pairOf) whose prefetch has been accepted but hasn't finished running,
+     * and BATCH while a batch update is. Added to by the prefetching thread and removed from by the fetch threads
+     */
+    private final Map<APICallerInterface, Set<Integer>> pending = new HashMap<>();
+
+    /**
+     * The thread that checks for stale pairs
+     */
+    private ScheduledExecutorService timer;
+
+    /**
+     * The cryptocurrency being viewed
+     */
+    private volatile CryptoCurrencies viewedCrypto;
+
+    /**
+     * The fiat currency being viewed
+     */
+    private volatile FiatCurrencies viewedFiat;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the Prefetcher with the default budgets
+     * @param endpoints The endpoints to keep warm
+     * @param fetchScheduler The scheduler that the prefetches are submitted to
+     */
+    public Prefetcher(final List<APICallerInterface> endpoints, final FetchSchedulerInterface fetchScheduler) {
+        this(endpoints, fetchScheduler, Prefetcher.DEFAULT_FRESHNESS_BUDGET, Prefetcher.DEFAULT_MAX_IDLE_BUDGET,
+                Prefetcher.DEFAULT_CHECK_INTERVAL);
+    }
+
+    /**
+     * The constructor for the Prefetcher
+     * @param endpoints The endpoints to keep warm
+     * @param fetchScheduler The scheduler that the prefetches are submitted to
+     * @param freshnessBudget The age at which the price of the viewed pair is refreshed
+     * @param maxIdleBudget The longest age that the price of a pair nobody is viewing is backed off to
+     * @param checkInterval The time between checks for stale pairs
+     */
+    public Prefetcher(final List<APICallerInterface> endpoints, final FetchSchedulerInterface fetchScheduler,
+                      final Duration freshnessBudget, final Duration maxIdleBudget, final Duration checkInterval) {
+        this.endpoints = new ArrayList<>(endpoints);
+        this.fetchScheduler = fetchScheduler;
+        this.freshnessBudget = freshnessBudget.toMillis();
+        this.maxIdleBudget = Math.max(maxIdleBudget.toMillis(), this.freshnessBudget);
+        this.checkInterval = checkInterval.toMillis();
+
+        for (final APICallerInterface endpoint : this.endpoints) {
+            this.budgets.put(endpoint, new long[CryptoCurrencies.count()][]);
+            this.pending.put(endpoint, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public synchronized void start() {
+        if (this.timer != null) return;
+
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                ThreadPools.daemonThreadFactory(Prefetcher.THREAD_NAME_PREFIX));
+        this.timer.scheduleWithFixedDelay(this::prefetchStalePairs, 0, this.checkInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (this.timer == null) return;
+
+        this.timer.shutdownNow();
+        this.timer = null;
+    }
+
+    @Override
+    public void setViewedPair(final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+        this.viewedCrypto = crypto;
+        this.viewedFiat = fiat;
+    }
+
+    /**
+     * Submits a prefetch for every pair whose price has outlived its budget
+     */
+    private void prefetchStalePairs() {
+        try {
+            final long now = System.currentTimeMillis();
+            for (final APICallerInterface endpoint : this.endpoints) this.prefetchStalePairs(endpoint, now);
+        } catch (final RuntimeException e) {
+            // Don't let one bad check cancel every check after it
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Submits a prefetch for every pair of a single endpoint whose price has outlived its budget, and that doesn't
+     * already have one waiting to run. Endpoints that support batch updates get a single prefetch covering all their
+     * pairs. A pair is only backed off once its prefetch has been accepted, and once the scheduler starts turning
+     * prefetches down the rest of the endpoint's pairs are left for the next check
+     * @param endpoint The endpoint to check
+     * @param now The time (in epoch milliseconds) of the check
+     */
+    private void prefetchStalePairs(final APICallerInterface endpoint, final long now) {
+        final Set<Integer> endpointPending = this.pending.get(endpoint);
+        // A batch update covers every pair, so there's nothing to add until the one that's waiting has run
+        if (endpointPending.contains(Prefetcher.BATCH)) return;
+
+        final long[][] endpointBudgets = this.budgets.get(endpoint);
+        final CryptoCurrencies viewedCrypto = this.viewedCrypto;
+        final FiatCurrencies viewedFiat = this.viewedFiat;
+        final List<Integer> staleIdlePairs = new ArrayList<>();
+        boolean isAnyStale = false;
+
+        for (final CryptoCurrencies crypto : CryptoCurrencies.values()) {
+            if (!endpoint.canUseCryptoCurrency(crypto)) continue;
+            for (final FiatCurrencies fiat : FiatCurrencies.values()) {
+                if (!endpoint.canUseFiatCurrency(fiat)) continue;
+
+                final boolean isViewed = crypto == viewedCrypto && fiat == viewedFiat;
+                // A row is only made for the cryptocurrencies the endpoint actually uses
+                if (endpointBudgets[crypto.ordinal()] == null)
+                    endpointBudgets[crypto.ordinal()] = new long[FiatCurrencies.values().length];
+                final long[] cryptoBudgets = endpointBudgets[crypto.ordinal()];
+                if (isViewed || cryptoBudgets[fiat.ordinal()] == 0)
+                    cryptoBudgets[fiat.ordinal()] = isViewed ? this.freshnessBudget : this.freshnessBudget * 2;
+
+                final int pair = Prefetcher.pairOf(crypto, fiat);
+                if (endpointPending.contains(pair)) continue;
+                if (!this.isStale(endpoint, crypto, fiat, now, cryptoBudgets[fiat.ordinal()])) continue;
+
+                if (endpoint.supportsBatchUpdate()) {
+                    isAnyStale = true;
+                    if (!isViewed) staleIdlePairs.add(pair);
+                    continue;
+                }
+
+                endpointPending.add(pair);
+                if (!this.fetchScheduler.submitBackground(endpoint, () -> {
+                    try {
+                        this.prefetch(endpoint, crypto, fiat);
+                    } finally {
+                        endpointPending.remove(pair);
+                    }
+                })) {
+                    endpointPending.remove(pair);
+                    return;
+                }
+                // Back off the pairs that nobody is looking at
+                if (!isViewed) this.backOff(endpointBudgets, pair);
+            }
+        }
+
+        if (!isAnyStale) return;
+
+        endpointPending.add(Prefetcher.BATCH);
+        if (!this.fetchScheduler.submitBackground(endpoint, () -> {
+            try {
+                endpoint.updateAllPricesAndNotify();
+            } finally {
+                endpointPending.remove(Prefetcher.BATCH);
+            }
+        })) {
+            endpointPending.remove(Prefetcher.BATCH);
+            return;
+        }
+        for (final int pair : staleIdlePairs) this.backOff(endpointBudgets, pair);
+    }
+
+    /**
+     * Doubles the budget of a pair that nobody is looking at, up to the maximum
+     * @param endpointBudgets The budgets of the endpoint the pair belongs to
+     * @param pair The pair, as given by pairOf
+     */
+    private void backOff(final long[][] endpointBudgets, final int pair) {
+        final long[] cryptoBudgets = endpointBudgets[pair / Prefetcher.FIAT_COUNT];
+        final int fiat = pair % Prefetcher.FIAT_COUNT;
+        cryptoBudgets[fiat] = Math.min(cryptoBudgets[fiat] * 2, this.maxIdleBudget);
+    }
+
+    /**
+     * Returns a single number that stands for a pair
+     * @param crypto The cryptocurrency of the pair
+     * @param fiat The fiat currency of the pair
+     * @return The number of the pair, which is never negative
+     */
+    private static int pairOf(final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+        return crypto.ordinal() * Prefetcher.FIAT_COUNT + fiat.ordinal();
+    }
+
+    /**
+     * Returns if the price of a pair is older than its budget (and isn't already being updated)
+     * @param endpoint The endpoint the pair belongs to
+     * @param crypto The cryptocurrency of the pair
+     * @param fiat The fiat currency of the pair
+     * @param now The time (in epoch milliseconds) of the check
+     * @param budget The budget (in milliseconds) of the pair
+     * @return If the price of the pair needs to be prefetched
+     */
+    private boolean isStale(final APICallerInterface endpoint, final CryptoCurrencies crypto,
+                            final FiatCurrencies fiat, final long now, final long budget) {
+        try {
+            if (endpoint.isUpdating(crypto, fiat)) return false;
+
+            final long lastUpdated = endpoint.getLastSuccessfulUpdatedMillis(crypto, fiat);
+            return lastUpdated == EndpointMemoryInterface.NEVER || now - lastUpdated >= budget;
+        } catch (final AbstractCurrencyNotSupported e) {
+            return false;
+        }
+    }
+
+    /**
+     * Prefetches the price of a single pair
+     * @param endpoint The endpoint to prefetch from
+     * @param crypto The cryptocurrency of the pair
+     * @param fiat The fiat currency of the pair
+     */
+    private void prefetch(final APICallerInterface endpoint, final CryptoCurrencies crypto,
+                          final FiatCurrencies fiat) {
+        try {
+            endpoint.updatePriceAndNotify(crypto, fiat);
+        } catch (final AbstractCurrencyNotSupported ignored) {
+            // The pairs were checked against the endpoint before being prefetched, so this can't happen
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.api_call.prefetch;
+
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+
+/**
+ * The interface for the prefetcher, which keeps the prices of every pair warm in the endpoints' memory
+ */
+public interface PrefetcherInterface {
+
+    /**
+     * Starts prefetching in the background
+     */
+    void start();
+
+    /**
+     * Stops prefetching. Fetches that have already been submitted still run
+     */
+    void stop();
+
+    /**
+     * Sets the pair that is currently being viewed. It is kept within the freshness budget, while the pairs that nobody
+     * is viewing are backed off
+     * @param crypto The cryptocurrency being viewed
+     * @param fiat The fiat currency being viewed
+     */
+    void setViewedPair(final CryptoCurrencies crypto, final FiatCurrencies fiat);
+
+}
@@ -0,0 +1,241 @@
+package com.company.api_call.price_history;
+
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+import com.company.tool.exception.currency_not_supported.CryptoCurrencyNotSupported;
+import com.company.tool.exception.currency_not_supported.FiatCurrencyNotSupported;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The history of the prices an endpoint has seen, held as a fixed-capacity ring buffer of primitive (time, price)
+ * samples per pair, the prices being fixed-point mantissas at the pair's scale. A pair's ring is allocated the first
+ * time a price is recorded for it, after which recording never allocates, and the memory used stays bounded no matter
+ * how long the application runs
+ */
+final public class PriceHistory implements PriceHistoryInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The default number of samples held per pair
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The number of fiat currencies, which is the stride of a cryptocurrency's row
+     */
+    private static final int FIAT_COUNT = FiatCurrencies.values().length;
+
+    /**
+     * The row of each cryptocurrency this history holds, indexed by ordinal (-1 for the ones it doesn't hold). Only the
+     * accepted cryptocurrencies get a row, so the arrays stay small however many cryptocurrencies there are
+     */
+    private final int[] cryptoRows = new int[CryptoCurrencies.count()];
+
+    /**
+     * The fiat currencies this history holds, indexed by ordinal
+     */
+    private final boolean[] acceptedFiats = new boolean[PriceHistory.FIAT_COUNT];
+
+    /**
+     * The ring of each pair (null until its first sample)
+     */
+    private final AtomicReferenceArray<Ring> rings;
+
+    /**
+     * The number of samples held per pair
+     */
+    private final int capacity;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the PriceHistory with the default capacity
+     * @param acceptedCryptos The cryptocurrencies this history holds
+     * @param acceptedFiats The fiat currencies this history holds
+     */
+    public PriceHistory(final CryptoCurrencies[] acceptedCryptos, final FiatCurrencies[] acceptedFiats) {
+        this(acceptedCryptos, acceptedFiats, PriceHistory.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * The constructor for the PriceHistory
+     * @param acceptedCryptos The cryptocurrencies this history holds
+     * @param acceptedFiats The fiat currencies this history holds
+     * @param capacity The number of samples held per pair
+     */
+    public PriceHistory(final CryptoCurrencies[] acceptedCryptos, final FiatCurrencies[] acceptedFiats,
+                        final int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("The capacity must be positive");
+
+        Arrays.fill(this.cryptoRows, -1);
+        for (int row = 0; row < acceptedCryptos.length; row++) this.cryptoRows[acceptedCryptos[row].ordinal()] = row;
+        for (final FiatCurrencies fiat : acceptedFiats) this.acceptedFiats[fiat.ordinal()] = true;
+        this.rings = new AtomicReferenceArray<>(acceptedCryptos.length * PriceHistory.FIAT_COUNT);
+        this.capacity = capacity;
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Returns the index of a pair's ring
+     * @param crypto The cryptocurrency of the pair
+     * @param fiat The fiat currency of the pair
+     * @return The index of the pair
+     */
+    private int indexOf(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        final int row = this.cryptoRows[crypto.ordinal()];
+        if (row < 0) throw new CryptoCurrencyNotSupported(crypto);
+        if (!this.acceptedFiats[fiat.ordinal()]) throw new FiatCurrencyNotSupported(fiat);
+        return row * PriceHistory.FIAT_COUNT + fiat.ordinal();
+    }
+
+    @Override
+    public void append(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long timestamp,
+                       final long price)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        final int index = this.indexOf(crypto, fiat);
+
+        Ring ring = this.rings.get(index);
+        if (ring == null) {
+            this.rings.compareAndSet(index, null, new Ring(this.capacity));
+            ring = this.rings.get(index);
+        }
+        ring.append(timestamp, price);
+    }
+
+    @Override
+    public int size(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        final Ring ring = this.rings.get(this.indexOf(crypto, fiat));
+        return ring == null ? 0 : ring.size();
+    }
+
+    @Override
+    public int getCapacity() { return this.capacity; }
+
+    @Override
+    public int getRange(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long from, final long to,
+                        final long[] timestamps, final long[] prices)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported {
+        final Ring ring = this.rings.get(this.indexOf(crypto, fiat));
+        return ring == null ? 0 : ring.copyRange(from, to, timestamps, prices);
+    }
+
+
+    /* ************ *
+     *    Classes   *
+     * ************ */
+
+    /**
+     * The samples of a single pair. Guarded by its own monitor. The samples are kept in time order (a time that goes
+     * backwards, e.g. because the clock was changed, is clamped to the time before it), so ranges are binary searched
+     */
+    private static final class Ring {
+
+        /**
+         * The times of the samples
+         */
+        private final long[] timestamps;
+
+        /**
+         * The prices of the samples
+         */
+        private final long[] prices;
+
+        /**
+         * The physical index that the next sample is written to
+         */
+        private int head = 0;
+
+        /**
+         * The number of samples held
+         */
+        private int count = 0;
+
+        /**
+         * The constructor for a Ring
+         * @param capacity The number of samples held
+         */
+        private Ring(final int capacity) {
+            this.timestamps = new long[capacity];
+            this.prices = new long[capacity];
+        }
+
+        /**
+         * Records a sample, overwriting the oldest one if the ring is full
+         * @param timestamp The time of the sample
+         * @param price The price of the sample
+         */
+        private synchronized void append(final long timestamp, final long price) {
+            final long latest = this.count == 0 ? Long.MIN_VALUE : this.timestamps[this.physical(this.count - 1)];
+
+            this.timestamps[this.head] = Math.max(timestamp, latest);
+            this.prices[this.head] = price;
+            this.head = (this.head + 1) % this.timestamps.length;
+            if (this.count < this.timestamps.length) this.count++;
+        }
+
+        /**
+         * Returns the number of samples held
+         * @return The number of samples held
+         */
+        private synchronized int size() { return this.count; }
+
+        /**
+         * Copies the samples within [from, to] out of the ring, oldest first, keeping the most recent if they don't fit
+         * @return The number of samples copied
+         */
+        private synchronized int copyRange(final long from, final long to, final long[] timestamps,
+                                           final long[] prices) {
+            if (from > to) return 0;
+
+            final int start = this.firstAtOrAfter(from);
+            final int end = this.firstAtOrAfter(to == Long.MAX_VALUE ? to : to + 1);
+            final int copied = Math.min(end - start, timestamps.length);
+
+            for (int i = 0; i < copied; i++) {
+                final int physical = this.physical(end - copied + i);
+                timestamps[i] = this.timestamps[physical];
+                prices[i] = this.prices[physical];
+            }
+            return copied;
+        }
+
+        /**
+         * Returns the logical index (0 being the oldest) of the first sample at or after the given time
+         * @param timestamp The time to search for
+         * @return The logical index, or count if every sample is before the time
+         */
+        private int firstAtOrAfter(final long timestamp) {
+            int low = 0;
+            int high = this.count;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (this.timestamps[this.physical(middle)] < timestamp) low = middle + 1;
+                else high = middle;
+            }
+            return low;
+        }
+
+        /**
+         * Converts a logical index (0 being the oldest sample) into its index in the arrays
+         * @param logical The logical index
+         * @return The index in the arrays
+         */
+        private int physical(final int logical) {
+            return (this.head - this.count + logical + this.timestamps.length) % this.timestamps.length;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.company.api_call.price_history;
+
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+import com.company.tool.exception.currency_not_supported.CryptoCurrencyNotSupported;
+import com.company.tool.exception.currency_not_supported.FiatCurrencyNotSupported;
+
+/**
+ * The interface for the bounded history of the prices an endpoint has seen for each pair
+ */
+public interface PriceHistoryInterface {
+
+    /**
+     * Records a price. Once a pair's history is full, the oldest sample is overwritten
+     * @param timestamp The time (in epoch milliseconds) of the price
+     * @param price The mantissa of the price, at the pair's scale (see FixedPointPrice)
+     */
+    void append(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long timestamp, final long price)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
+    /**
+     * Returns the number of samples held for a pair
+     * @return The number of samples held for the pair
+     */
+    int size(final CryptoCurrencies crypto, final FiatCurrencies fiat)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
+    /**
+     * Returns the most samples that are held for a single pair
+     * @return The capacity of each pair's history
+     */
+    int getCapacity();
+
+    /**
+     * Copies the samples of a pair whose times are within [from, to] into the given arrays, oldest first. If there are
+     * more samples in the range than fit in the arrays, the most recent ones are copied
+     * @param from The start (inclusive, in epoch milliseconds) of the range
+     * @param to The end (inclusive, in epoch milliseconds) of the range
+     * @param timestamps The array to copy the times into
+     * @param prices The array to copy the mantissas of the prices into (must be at least as long as timestamps)
+     * @return The number of samples copied
+     */
+    int getRange(final CryptoCurrencies crypto, final FiatCurrencies fiat, final long from, final long to,
+                 final long[] timestamps, final long[] prices)
+            throws CryptoCurrencyNotSupported, FiatCurrencyNotSupported;
+
+}
@@ -0,0 +1,456 @@
+package com.company.api_call.quote_journal;
+
+import com.company.api_call.APICallerInterface;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+import com.company.tool.exception.currency_not_supported.AbstractCurrencyNotSupported;
+import com.company.tool.util.FixedPointPrice;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An append-only journal of quotes, written to memory-mapped segment files. Each quote is a fixed-size record whose
+ * commit marker is written last, so a crash can at worst lose the record being written. When a segment fills up, a new
+ * one is started holding only the latest quote of each (endpoint, pair), and the old one is deleted, so the journal
+ * stays bounded. The same compaction is done on startup, after which the latest quotes can be replayed into memory.
+ * A price is stored as its fixed-point mantissa along with its scale, so it is replayed exactly even if the pair's
+ * scale has changed since.
+ * Only one process can have the journal open at a time: it holds a lock on a file in the directory for as long as it
+ * does, and any other process that opens the same directory meanwhile leaves the journal alone.
+ * If the journal can't be opened, it does nothing (the application still runs, it just won't remember its prices)
+ */
+final public class QuoteJournal implements QuoteJournalInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The default directory that the journal is kept in
+     */
+    public static final Path DEFAULT_DIRECTORY =
+            Paths.get(System.getProperty("user.home"), ".crypto_currency_prices", "journal");
+
+    /**
+     * The default number of records in a segment
+     */
+    public static final int DEFAULT_SEGMENT_RECORDS = 4096;
+
+    /**
+     * The size (in bytes) of a record
+     */
+    private static final int RECORD_SIZE = 64;
+
+    /**
+     * The marker at the start of every record that has been completely written. Records written with any other marker
+     * (including those from before prices were fixed-point) are dropped by the compaction on startup
+     */
+    private static final int COMMITTED = 0x51554F32;
+
+    /**
+     * The offset and length of the endpoint's name within a record
+     */
+    private static final int NAME_OFFSET = 4, NAME_LENGTH = 24;
+
+    /**
+     * The offset and length of the cryptocurrency within a record
+     */
+    private static final int CRYPTO_OFFSET = 28, CRYPTO_LENGTH = 12;
+
+    /**
+     * The offset and length of the fiat currency within a record
+     */
+    private static final int FIAT_OFFSET = 40, FIAT_LENGTH = 4;
+
+    /**
+     * The offset of the scale of the price within a record
+     */
+    private static final int SCALE_OFFSET = 44;
+
+    /**
+     * The offset of the mantissa of the price within a record
+     */
+    private static final int PRICE_OFFSET = 48;
+
+    /**
+     * The offset of the time within a record
+     */
+    private static final int TIME_OFFSET = 56;
+
+    /**
+     * The start of the name of every segment file
+     */
+    private static final String SEGMENT_PREFIX = "quotes.";
+
+    /**
+     * The end of the name of every segment file
+     */
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    /**
+     * The name of the file that the process with the journal open holds a lock on
+     */
+    private static final String LOCK_FILE = "journal.lock";
+
+    /**
+     * The directory that the journal is kept in
+     */
+    private final Path directory;
+
+    /**
+     * The number of records in a segment (a compacted segment is made bigger if it needs to be)
+     */
+    private final int segmentRecords;
+
+    /**
+     * The offset of the latest record of each (endpoint, pair) in the current segment
+     */
+    private final Map<String, Integer> latestOffsets = new HashMap<>();
+
+    /**
+     * The channel of the lock file (null if the journal isn't open)
+     */
+    private FileChannel lockChannel;
+
+    /**
+     * The segment being written to (null if the journal couldn't be opened or has been closed)
+     */
+    private MappedByteBuffer segment;
+
+    /**
+     * The number of the segment being written to
+     */
+    private long segmentNumber;
+
+    /**
+     * The offset that the next record is written at
+     */
+    private int position;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the QuoteJournal in the default directory
+     */
+    public QuoteJournal() {
+        this(QuoteJournal.DEFAULT_DIRECTORY, QuoteJournal.DEFAULT_SEGMENT_RECORDS);
+    }
+
+    /**
+     * The constructor for the QuoteJournal. Opens the journal and compacts whatever was left in it
+     * @param directory The directory that the journal is kept in
+     * @param segmentRecords The number of records in a segment
+     */
+    public QuoteJournal(final Path directory, final int segmentRecords) {
+        if (segmentRecords < 1) throw new IllegalArgumentException("A segment must hold at least one record");
+
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+
+        try {
+            this.open();
+        } catch (final IOException e) {
+            e.printStackTrace();
+            this.segment = null;
+            this.unlock();
+        }
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Locks the directory, then reads every segment left in it, writes the latest record of each (endpoint, pair) into
+     * a new segment and deletes the old ones. If another process holds the lock its segments are left alone, and the
+     * journal stays closed
+     */
+    private void open() throws IOException {
+        Files.createDirectories(this.directory);
+        if (!this.lock()) {
+            System.err.println("The quote journal in " + this.directory + " is in use by another process, so quotes "
+                    + "won't be journaled or replayed");
+            return;
+        }
+
+        final List<Path> oldSegments = this.listSegments();
+        final Map<String, byte[]> latest = new LinkedHashMap<>();
+        long lastNumber = 0;
+        for (final Path path : oldSegments) {
+            lastNumber = Math.max(lastNumber, QuoteJournal.segmentNumberOf(path));
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                final MappedByteBuffer old = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                for (int offset = 0; QuoteJournal.isCommitted(old, offset); offset += QuoteJournal.RECORD_SIZE) {
+                    final byte[] record = new byte[QuoteJournal.RECORD_SIZE];
+                    old.get(offset, record);
+                    latest.put(QuoteJournal.keyOf(old, offset), record);
+                }
+            }
+        }
+
+        this.startSegment(lastNumber + 1, latest.size());
+        for (final Map.Entry<String, byte[]> entry : latest.entrySet()) {
+            this.segment.put(this.position, entry.getValue());
+            this.latestOffsets.put(entry.getKey(), this.position);
+            this.position += QuoteJournal.RECORD_SIZE;
+        }
+        this.segment.force();
+
+        for (final Path path : oldSegments) Files.deleteIfExists(path);
+    }
+
+    /**
+     * Maps a new, empty segment and makes it the one being written to
+     * @param number The number of the segment
+     * @param carriedRecords The number of records that are about to be carried over into it
+     */
+    private void startSegment(final long number, final int carriedRecords) throws IOException {
+        final int records = Math.max(this.segmentRecords, carriedRecords * 2);
+        final Path path = this.directory.resolve(QuoteJournal.SEGMENT_PREFIX + number + QuoteJournal.SEGMENT_SUFFIX);
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            this.segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) records * QuoteJournal.RECORD_SIZE);
+        }
+        this.segmentNumber = number;
+        this.position = 0;
+    }
+
+    /**
+     * Starts a new segment holding only the latest record of each (endpoint, pair), and deletes the full one
+     */
+    private void rotate() throws IOException {
+        final MappedByteBuffer full = this.segment;
+        final Path fullPath = this.directory.resolve(
+                QuoteJournal.SEGMENT_PREFIX + this.segmentNumber + QuoteJournal.SEGMENT_SUFFIX);
+        final byte[] record = new byte[QuoteJournal.RECORD_SIZE];
+
+        this.startSegment(this.segmentNumber + 1, this.latestOffsets.size());
+        for (final Map.Entry<String, Integer> entry : this.latestOffsets.entrySet()) {
+            full.get(entry.getValue(), record);
+            this.segment.put(this.position, record);
+            entry.setValue(this.position);
+            this.position += QuoteJournal.RECORD_SIZE;
+        }
+        this.segment.force();
+
+        Files.deleteIfExists(fullPath);
+    }
+
+    @Override
+    public synchronized void append(final String endpointName, final CryptoCurrencies crypto,
+                                    final FiatCurrencies fiat, final long price, final long timestamp) {
+        if (this.segment == null) return;
+
+        try {
+            if (this.position + QuoteJournal.RECORD_SIZE > this.segment.capacity()) this.rotate();
+        } catch (final IOException e) {
+            // Stop journaling rather than fail the update
+            e.printStackTrace();
+            this.segment = null;
+            return;
+        }
+
+        final int offset = this.position;
+        QuoteJournal.putString(this.segment, offset + QuoteJournal.NAME_OFFSET, endpointName, QuoteJournal.NAME_LENGTH);
+        QuoteJournal.putString(this.segment, offset + QuoteJournal.CRYPTO_OFFSET, crypto.getAbbreviatedName(),
+                QuoteJournal.CRYPTO_LENGTH);
+        QuoteJournal.putString(this.segment, offset + QuoteJournal.FIAT_OFFSET, fiat.getAbbreviatedName(),
+                QuoteJournal.FIAT_LENGTH);
+        this.segment.putInt(offset + QuoteJournal.SCALE_OFFSET, FixedPointPrice.scaleOf(crypto, fiat));
+        this.segment.putLong(offset + QuoteJournal.PRICE_OFFSET, price);
+        this.segment.putLong(offset + QuoteJournal.TIME_OFFSET, timestamp);
+        // The marker goes last, so a record is only ever read back once it's whole
+        this.segment.putInt(offset, QuoteJournal.COMMITTED);
+
+        this.latestOffsets.put(QuoteJournal.keyOf(this.segment, offset), offset);
+        this.position += QuoteJournal.RECORD_SIZE;
+    }
+
+    @Override
+    public synchronized void replay(final Iterable<? extends APICallerInterface> endpoints) {
+        if (this.segment == null) return;
+
+        // The names are matched the same way they were written, i.e. truncated to fit the record
+        final Map<String, APICallerInterface> endpointsByName = new HashMap<>();
+        for (final APICallerInterface endpoint : endpoints) {
+            endpointsByName.put(QuoteJournal.truncate(endpoint.getName(), QuoteJournal.NAME_LENGTH), endpoint);
+        }
+
+        for (final int offset : this.latestOffsets.values()) {
+            final APICallerInterface endpoint = endpointsByName.get(
+                    QuoteJournal.getString(this.segment, offset + QuoteJournal.NAME_OFFSET, QuoteJournal.NAME_LENGTH));
+            final CryptoCurrencies crypto = CryptoCurrencies.toCryptoCurrency(QuoteJournal.getString(
+                    this.segment, offset + QuoteJournal.CRYPTO_OFFSET, QuoteJournal.CRYPTO_LENGTH));
+            final FiatCurrencies fiat = FiatCurrencies.toFiatCurrency(
+                    QuoteJournal.getString(this.segment, offset + QuoteJournal.FIAT_OFFSET, QuoteJournal.FIAT_LENGTH));
+
+            // The endpoint or currency may have been removed since the quote was written
+            if (endpoint == null || crypto == null || fiat == null) continue;
+            if (!endpoint.canUseCryptoCurrency(crypto) || !endpoint.canUseFiatCurrency(fiat)) continue;
+
+            final int scale = this.segment.getInt(offset + QuoteJournal.SCALE_OFFSET);
+            if (scale < 0 || scale > FixedPointPrice.MAX_SCALE) continue;
+            final long price = FixedPointPrice.rescale(this.segment.getLong(offset + QuoteJournal.PRICE_OFFSET), scale,
+                    FixedPointPrice.scaleOf(crypto, fiat));
+            if (!FixedPointPrice.isPrice(price)) continue;
+
+            try {
+                endpoint.restorePrice(crypto, fiat, price, this.segment.getLong(offset + QuoteJournal.TIME_OFFSET));
+            } catch (final AbstractCurrencyNotSupported ignored) {
+                // The pair was checked against the endpoint above, so this can't happen
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.segment != null) this.segment.force();
+        this.segment = null;
+        this.unlock();
+    }
+
+    /**
+     * Takes the lock on the directory, which is held until the journal is closed
+     * @return If the lock was taken (false if another process, or another journal in this one, holds it)
+     */
+    private boolean lock() throws IOException {
+        final FileChannel channel = FileChannel.open(this.directory.resolve(QuoteJournal.LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (final OverlappingFileLockException e) {
+            // Held by another journal in this process
+            lock = null;
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+        if (lock == null) {
+            channel.close();
+            return false;
+        }
+
+        this.lockChannel = channel;
+        return true;
+    }
+
+    /**
+     * Releases the lock on the directory, if it's held. Closing the channel releases its lock
+     */
+    private void unlock() {
+        if (this.lockChannel == null) return;
+
+        try {
+            this.lockChannel.close();
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+        this.lockChannel = null;
+    }
+
+    /**
+     * Returns the segment files in the directory, oldest first
+     * @return The segment files in the directory
+     */
+    private List<Path> listSegments() throws IOException {
+        final List<Path> segments = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory,
+                QuoteJournal.SEGMENT_PREFIX + "*" + QuoteJournal.SEGMENT_SUFFIX)) {
+            for (final Path path : stream) {
+                if (QuoteJournal.segmentNumberOf(path) >= 0) segments.add(path);
+            }
+        }
+        segments.sort((first, second) ->
+                Long.compare(QuoteJournal.segmentNumberOf(first), QuoteJournal.segmentNumberOf(second)));
+        return segments;
+    }
+
+    /**
+     * Returns the number of a segment file
+     * @param path The segment file
+     * @return The number of the segment, or -1 if the file isn't named like a segment
+     */
+    private static long segmentNumberOf(final Path path) {
+        final String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(QuoteJournal.SEGMENT_PREFIX.length(),
+                    name.length() - QuoteJournal.SEGMENT_SUFFIX.length()));
+        } catch (final NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns if there is a completely written record at the given offset
+     * @param buffer The segment
+     * @param offset The offset of the record
+     * @return If there is a completely written record at the offset
+     */
+    private static boolean isCommitted(final MappedByteBuffer buffer, final int offset) {
+        return offset + QuoteJournal.RECORD_SIZE <= buffer.capacity()
+                && buffer.getInt(offset) == QuoteJournal.COMMITTED;
+    }
+
+    /**
+     * Returns the (endpoint, pair) key of a record
+     * @param buffer The segment
+     * @param offset The offset of the record
+     * @return The key of the record
+     */
+    private static String keyOf(final MappedByteBuffer buffer, final int offset) {
+        return QuoteJournal.getString(buffer, offset + QuoteJournal.NAME_OFFSET, QuoteJournal.NAME_LENGTH) + '/'
+                + QuoteJournal.getString(buffer, offset + QuoteJournal.CRYPTO_OFFSET, QuoteJournal.CRYPTO_LENGTH) + '/'
+                + QuoteJournal.getString(buffer, offset + QuoteJournal.FIAT_OFFSET, QuoteJournal.FIAT_LENGTH);
+    }
+
+    /**
+     * Writes a string into a fixed-length, zero-padded field (truncating it if it's too long)
+     */
+    private static void putString(final MappedByteBuffer buffer, final int offset, final String value,
+                                  final int length) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        final int written = Math.min(bytes.length, length);
+        buffer.put(offset, bytes, 0, written);
+        for (int i = written; i < length; i++) buffer.put(offset + i, (byte) 0);
+    }
+
+    /**
+     * Reads a string out of a fixed-length, zero-padded field
+     */
+    private static String getString(final MappedByteBuffer buffer, final int offset, final int length) {
+        final byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        int end = 0;
+        while (end < length && bytes[end] != 0) end++;
+        return new String(bytes, 0, end, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a string as it reads back after being written into a field of the given length
+     */
+    private static String truncate(final String value, final int length) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return new String(Arrays.copyOf(bytes, Math.min(bytes.length, length)), StandardCharsets.UTF_8);
+    }
+}
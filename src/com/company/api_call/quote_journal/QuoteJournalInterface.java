@@ -0,0 +1,35 @@
+package com.company.api_call.quote_journal;
+
+import com.company.api_call.APICallerInterface;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+
+/**
+ * The interface for the on-disk journal of the quotes the endpoints have received, which lets the last known prices
+ * survive a restart
+ */
+public interface QuoteJournalInterface {
+
+    /**
+     * Records a successfully updated price
+     * @param endpointName The name of the endpoint the price came from
+     * @param crypto The cryptocurrency of the price
+     * @param fiat The fiat currency of the price
+     * @param price The mantissa of the price, at the pair's scale (see FixedPointPrice)
+     * @param timestamp The time (in epoch milliseconds) of the update
+     */
+    void append(final String endpointName, final CryptoCurrencies crypto, final FiatCurrencies fiat,
+                final long price, final long timestamp);
+
+    /**
+     * Restores the last known price of every pair in the journal into the endpoint it came from
+     * @param endpoints The endpoints to restore the prices into
+     */
+    void replay(final Iterable<? extends APICallerInterface> endpoints);
+
+    /**
+     * Flushes the journal to disk and stops recording
+     */
+    void close();
+
+}
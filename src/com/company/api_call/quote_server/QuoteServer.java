@@ -0,0 +1,625 @@
+package com.company.api_call.quote_server;
+
+import com.company.api_call.APICallerInterface;
+import com.company.api_call.endpoint_memory.EndpointMemoryInterface;
+import com.company.tool.enums.QuoteSide;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+import com.company.tool.exception.currency_not_supported.AbstractCurrencyNotSupported;
+import com.company.tool.util.FixedPointPrice;
+import com.company.tool.util.ThreadPools;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import json_simple.JSONValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A local HTTP server that hands the quotes held in the endpoints' memory to other processes on the machine, so they
+ * don't each hit the providers themselves. Every response is served from memory, without a call upstream:
+ * <ul>
+ *     <li>GET /quote/{endpoint}/{crypto}/{fiat}: the quote of a single endpoint for a pair</li>
+ *     <li>GET /quotes: every quote that any endpoint holds</li>
+ *     <li>GET /best/{crypto}/{fiat}?side=buy|sell&amp;maxAge={seconds}: the lowest price to buy a pair at (the default
+ *     side), or the highest to sell it at. Buying compares the buy and reference (mid) quotes, selling the sell and
+ *     reference quotes, so a quote is never offered for the opposite side. Only the quotes whose last update
+ *     succeeded, whose endpoint's circuit breaker is closed and that are no older than maxAge (two minutes by
+ *     default) count</li>
+ * </ul>
+ * Every response carries an ETag taken from everything that is sent, and a Last-Modified taken from the times of the
+ * quotes' last successful updates, so a poller that sends them back gets a 304 with no body until a quote changes. The
+ * server only listens on the loopback address, and runs each request on a virtual thread where the JDK has them
+ */
+final public class QuoteServer implements QuoteServerInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The system property that turns the server on, holding the port to listen on
+     */
+    public static final String PORT_PROPERTY = "quote_server.port";
+
+    /**
+     * The port listened on when the server is turned on without one
+     */
+    public static final int DEFAULT_PORT = 8787;
+
+    /**
+     * The path of the quote of a single endpoint
+     */
+    private static final String QUOTE_PATH = "/quote/";
+
+    /**
+     * The path of every quote
+     */
+    private static final String QUOTES_PATH = "/quotes";
+
+    /**
+     * The path of the best price of a pair
+     */
+    private static final String BEST_PATH = "/best/";
+
+    /**
+     * The name of the threads that handle the requests when virtual threads aren't available
+     */
+    private static final String THREAD_NAME_PREFIX = "quote-server";
+
+    /**
+     * The number of platform threads that handle the requests when virtual threads aren't available
+     */
+    private static final int POOL_SIZE = 4;
+
+    /**
+     * The format of the Last-Modified and If-Modified-Since headers
+     */
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    /**
+     * The default age (in seconds) past which a quote doesn't count towards the best price
+     */
+    public static final long DEFAULT_BEST_MAX_AGE = 120;
+
+    /**
+     * The endpoints whose quotes are served
+     */
+    private final List<APICallerInterface> endpoints;
+
+    /**
+     * The endpoints by name
+     */
+    private final Map<String, APICallerInterface> endpointsByName = new HashMap<>();
+
+    /**
+     * The pairs that each endpoint accepts, in the order of the endpoints
+     */
+    private final List<List<Pair>> acceptedPairs = new ArrayList<>();
+
+    /**
+     * The port to listen on
+     */
+    private int port;
+
+    /**
+     * The server (null while not serving)
+     */
+    private HttpServer server;
+
+    /**
+     * The threads that handle the requests (null while not serving)
+     */
+    private ExecutorService executor;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the QuoteServer
+     * @param endpoints The endpoints whose quotes are served
+     * @param port The port to listen on (0 picks a free one)
+     */
+    public QuoteServer(final List<? extends APICallerInterface> endpoints, final int port) {
+        this.endpoints = new ArrayList<>(endpoints);
+        this.port = port;
+
+        final CryptoCurrencies[] cryptos = CryptoCurrencies.values();
+        final FiatCurrencies[] fiats = FiatCurrencies.values();
+        for (final APICallerInterface endpoint : this.endpoints) {
+            this.endpointsByName.put(endpoint.getName(), endpoint);
+
+            final List<Pair> pairs = new ArrayList<>();
+            for (final CryptoCurrencies crypto : cryptos) {
+                if (!endpoint.canUseCryptoCurrency(crypto)) continue;
+                for (final FiatCurrencies fiat : fiats) {
+                    if (endpoint.canUseFiatCurrency(fiat)) pairs.add(new Pair(crypto, fiat));
+                }
+            }
+            this.acceptedPairs.add(pairs);
+        }
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Returns a server for the endpoints if it's turned on with the system property
+     * @param endpoints The endpoints whose quotes are served
+     * @return The server, which still has to be started, or null if it isn't turned on
+     */
+    public static QuoteServerInterface fromSystemProperty(final List<? extends APICallerInterface> endpoints) {
+        final String port = System.getProperty(QuoteServer.PORT_PROPERTY);
+        if (port == null) return null;
+
+        try {
+            return new QuoteServer(endpoints, port.isEmpty() ? QuoteServer.DEFAULT_PORT : Integer.parseInt(port));
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(QuoteServer.PORT_PROPERTY + " must be a port, not " + port, e);
+        }
+    }
+
+    @Override
+    public synchronized void start() throws IOException {
+        if (this.server != null) return;
+
+        final HttpServer server = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), this.port), 0);
+        server.createContext(QuoteServer.QUOTE_PATH, this.handler(this::handleQuote, false));
+        server.createContext(QuoteServer.QUOTES_PATH, this.handler(this::handleQuotes, true));
+        server.createContext(QuoteServer.BEST_PATH, this.handler(this::handleBest, false));
+
+        final ExecutorService virtualExecutor = ThreadPools.newVirtualThreadExecutor();
+        this.executor = virtualExecutor != null ? virtualExecutor : Executors.newFixedThreadPool(QuoteServer.POOL_SIZE,
+                ThreadPools.daemonThreadFactory(QuoteServer.THREAD_NAME_PREFIX));
+        server.setExecutor(this.executor);
+        server.start();
+
+        this.server = server;
+        this.port = server.getAddress().getPort();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (this.server == null) return;
+
+        this.server.stop(0);
+        this.executor.shutdown();
+        this.server = null;
+        this.executor = null;
+    }
+
+    @Override
+    public synchronized int getPort() { return this.port; }
+
+    /**
+     * Wraps a route in the handling every request shares: only GET and HEAD are allowed, a malformed request is a 400,
+     * and whatever else goes wrong is a 500 rather than a dropped connection. The exchange is only closed once the
+     * response has been sent
+     * @param route The route, which returns the quotes to send
+     * @param isList If the quotes are sent as a list, rather than as a single quote
+     * @return The handler
+     */
+    private HttpHandler handler(final Route route, final boolean isList) {
+        return exchange -> {
+            try {
+                final String method = exchange.getRequestMethod();
+                if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                    exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                    QuoteServer.send(exchange, 405, "{\"error\":\"Only GET and HEAD are allowed\"}");
+                    return;
+                }
+
+                final String[] parts = QuoteServer.splitPath(exchange);
+                final List<Quote> quotes = route.quotes(exchange, parts);
+                if (quotes == null) {
+                    QuoteServer.send(exchange, 404, "{\"error\":\"Not found\"}");
+                    return;
+                }
+
+                QuoteServer.respond(exchange, quotes, isList);
+            } catch (final BadRequest e) {
+                QuoteServer.send(exchange, 400, "{\"error\":\"" + JSONValue.escape(e.getMessage()) + "\"}");
+            } catch (final RuntimeException e) {
+                e.printStackTrace();
+                QuoteServer.send(exchange, 500, "{\"error\":\"Internal error\"}");
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    /**
+     * Splits the path of a request into its segments, after the one that names the route
+     * @param exchange The request
+     * @return The segments (already decoded)
+     */
+    private static String[] splitPath(final HttpExchange exchange) {
+        final String path = exchange.getRequestURI().getPath();
+        final String route = exchange.getHttpContext().getPath();
+        final String rest = path.length() > route.length() ? path.substring(route.length()) : "";
+        final String trimmed = rest.startsWith("/") ? rest.substring(1) : rest;
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/", -1);
+    }
+
+    /**
+     * Returns the quote of a single endpoint for a pair
+     * @param exchange The request
+     * @param parts The endpoint, crypto and fiat
+     * @return The quote, or null if there's no such endpoint or it doesn't accept the pair
+     */
+    private List<Quote> handleQuote(final HttpExchange exchange, final String[] parts) {
+        if (parts.length != 3) return null;
+
+        final APICallerInterface endpoint = this.endpointsByName.get(parts[0]);
+        final CryptoCurrencies crypto = CryptoCurrencies.toCryptoCurrency(parts[1]);
+        final FiatCurrencies fiat = FiatCurrencies.toFiatCurrency(parts[2]);
+        if (endpoint == null || crypto == null || fiat == null) return null;
+        if (!endpoint.canUseCryptoCurrency(crypto) || !endpoint.canUseFiatCurrency(fiat)) return null;
+
+        return List.of(Quote.read(endpoint, crypto, fiat));
+    }
+
+    /**
+     * Returns every quote that any endpoint holds
+     * @param exchange The request
+     * @param parts Nothing
+     * @return The quotes
+     */
+    private List<Quote> handleQuotes(final HttpExchange exchange, final String[] parts) {
+        if (parts.length != 0) return null;
+
+        final List<Quote> quotes = new ArrayList<>();
+        for (int i = 0; i < this.endpoints.size(); i++) {
+            for (final Pair pair : this.acceptedPairs.get(i)) {
+                final Quote quote = Quote.read(this.endpoints.get(i), pair.crypto, pair.fiat);
+                if (FixedPointPrice.isPrice(quote.price)) quotes.add(quote);
+            }
+        }
+        return quotes;
+    }
+
+    /**
+     * Returns the best price of a pair across the endpoints, out of the quotes that count for the side (see the class)
+     * @param exchange The request, whose side query parameter is buy (the lowest price) or sell (the highest), and
+     *                 whose maxAge query parameter is the oldest (in seconds) a quote can be
+     * @param parts The crypto and fiat
+     * @return The quote with the best price, or null if no endpoint holds a price for the pair that counts
+     */
+    private List<Quote> handleBest(final HttpExchange exchange, final String[] parts) {
+        if (parts.length != 2) return null;
+
+        final CryptoCurrencies crypto = CryptoCurrencies.toCryptoCurrency(parts[0]);
+        final FiatCurrencies fiat = FiatCurrencies.toFiatCurrency(parts[1]);
+        if (crypto == null || fiat == null) return null;
+
+        final Map<String, String> query = QuoteServer.parseQuery(exchange);
+        final String side = query.getOrDefault("side", "buy");
+        if (!"buy".equals(side) && !"sell".equals(side)) throw new BadRequest("side must be buy or sell");
+        final QuoteSide excludedSide = "sell".equals(side) ? QuoteSide.BUY : QuoteSide.SELL;
+        final long maxAge;
+        try {
+            maxAge = Long.parseLong(query.getOrDefault("maxAge", Long.toString(QuoteServer.DEFAULT_BEST_MAX_AGE)));
+        } catch (final NumberFormatException e) {
+            throw new BadRequest("maxAge must be a number of seconds");
+        }
+        if (maxAge < 0) throw new BadRequest("maxAge must be a number of seconds");
+        final long oldest = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(maxAge);
+
+        // Every price of the pair has the same scale, so the mantissas compare like the prices
+        Quote best = null;
+        for (final APICallerInterface endpoint : this.endpoints) {
+            if (endpoint.getQuoteSide() == excludedSide || endpoint.getCircuitBreaker().isOpen()) continue;
+            if (!endpoint.canUseCryptoCurrency(crypto) || !endpoint.canUseFiatCurrency(fiat)) continue;
+
+            final Quote quote = Quote.read(endpoint, crypto, fiat);
+            if (!FixedPointPrice.isPrice(quote.price) || !quote.wasLastUpdateSuccessful) continue;
+            if (quote.lastUpdated == EndpointMemoryInterface.NEVER || quote.lastUpdated < oldest) continue;
+            if (best == null || ("sell".equals(side) ? quote.price > best.price : quote.price < best.price))
+                best = quote;
+        }
+        return best == null ? null : List.of(best);
+    }
+
+    /**
+     * Parses the query of a request into its parameters. A parameter given more than once keeps its first value
+     * @param exchange The request
+     * @return The decoded parameters, by name
+     */
+    private static Map<String, String> parseQuery(final HttpExchange exchange) {
+        final Map<String, String> parameters = new HashMap<>();
+        final String query = exchange.getRequestURI().getRawQuery();
+        if (query == null || query.isEmpty()) return parameters;
+
+        for (final String parameter : query.split("&")) {
+            if (parameter.isEmpty()) continue;
+            final int equals = parameter.indexOf('=');
+            final String name = equals < 0 ? parameter : parameter.substring(0, equals);
+            final String value = equals < 0 ? "" : parameter.substring(equals + 1);
+            try {
+                parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                        URLDecoder.decode(value, StandardCharsets.UTF_8));
+            } catch (final IllegalArgumentException e) {
+                throw new BadRequest("The query is malformed");
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Sends the quotes, or a 304 if the client already has them
+     * @param exchange The request
+     * @param quotes The quotes
+     * @param isList If the quotes are sent as a list, rather than as a single quote
+     * @throws IOException If the response can't be sent
+     */
+    private static void respond(final HttpExchange exchange, final List<Quote> quotes, final boolean isList)
+            throws IOException {
+        // Tagged by everything that is sent, so the tag changes exactly when a quote does
+        long lastModified = EndpointMemoryInterface.NEVER;
+        boolean isEverySuccessful = true;
+        long tag = quotes.size();
+        for (final Quote quote : quotes) {
+            lastModified = Math.max(lastModified, quote.lastUpdated);
+            isEverySuccessful &= quote.wasLastUpdateSuccessful;
+            tag = 31 * tag + quote.endpoint.getName().hashCode();
+            tag = 31 * tag + quote.crypto.ordinal();
+            tag = 31 * tag + quote.fiat.ordinal();
+            tag = 31 * tag + quote.lastUpdated;
+            tag = 31 * tag + quote.price;
+            tag = 31 * tag + (quote.wasLastUpdateSuccessful ? 1 : 0);
+        }
+        final String etag = "\"" + Long.toHexString(tag) + "\"";
+
+        final Headers headers = exchange.getResponseHeaders();
+        headers.set("ETag", etag);
+        headers.set("Cache-Control", "no-cache");
+        if (lastModified != EndpointMemoryInterface.NEVER)
+            headers.set("Last-Modified", QuoteServer.HTTP_DATE.format(
+                    ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastModified), ZoneOffset.UTC)));
+
+        if (QuoteServer.isNotModified(exchange.getRequestHeaders(), etag, lastModified, isEverySuccessful)) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        final StringBuilder body = new StringBuilder();
+        if (isList) body.append('[');
+        for (int i = 0; i < quotes.size(); i++) {
+            if (i > 0) body.append(',');
+            quotes.get(i).appendJson(body);
+        }
+        if (isList) body.append(']');
+        QuoteServer.send(exchange, 200, body.toString());
+    }
+
+    /**
+     * Returns if the client already has what would be sent: if it sent If-None-Match, that has to hold the tag,
+     * otherwise If-Modified-Since has to be no earlier than the last update (to the second, which is all the header
+     * holds). The time of the last successful update doesn't move when an update fails, so If-Modified-Since is only
+     * trusted while every quote's last update succeeded
+     * @param request The headers of the request
+     * @param etag The tag of what would be sent
+     * @param lastModified The time (in epoch milliseconds) of the last update of what would be sent
+     * @param isEverySuccessful If the last update of every quote that would be sent succeeded
+     * @return If a 304 can be sent instead
+     */
+    private static boolean isNotModified(final Headers request, final String etag, final long lastModified,
+                                         final boolean isEverySuccessful) {
+        final String ifNoneMatch = request.getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (final String candidate : ifNoneMatch.split(",")) {
+                final String trimmed = candidate.trim();
+                if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) return true;
+            }
+            return false;
+        }
+
+        final String ifModifiedSince = request.getFirst("If-Modified-Since");
+        if (ifModifiedSince == null || lastModified == EndpointMemoryInterface.NEVER || !isEverySuccessful)
+            return false;
+        try {
+            final long since = ZonedDateTime.parse(ifModifiedSince, QuoteServer.HTTP_DATE).toInstant().toEpochMilli();
+            return lastModified / 1000 <= since / 1000;
+        } catch (final DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Sends a JSON response
+     * @param exchange The request
+     * @param status The status code
+     * @param body The body
+     * @throws IOException If the response can't be sent
+     */
+    private static void send(final HttpExchange exchange, final int status, final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+
+        // A HEAD gets the headers of the GET, without the body
+        final boolean isHead = "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, isHead ? -1 : bytes.length);
+        if (isHead) return;
+        try (final OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+
+    /* ************ *
+     *    Classes   *
+     * ************ */
+
+    /**
+     * A route of the server
+     */
+    @FunctionalInterface
+    private interface Route {
+
+        /**
+         * Returns the quotes that answer a request
+         * @param exchange The request
+         * @param parts The segments of the path after the route
+         * @return The quotes, or null if the request doesn't name anything that's served
+         */
+        List<Quote> quotes(final HttpExchange exchange, final String[] parts);
+    }
+
+    /**
+     * Thrown by a route when the request is malformed, which is answered with a 400
+     */
+    private static final class BadRequest extends RuntimeException {
+
+        /**
+         * The constructor for a BadRequest
+         * @param message What is wrong with the request, which is sent back
+         */
+        private BadRequest(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * A pair of currencies
+     */
+    private static final class Pair {
+
+        /**
+         * The cryptocurrency
+         */
+        private final CryptoCurrencies crypto;
+
+        /**
+         * The fiat currency
+         */
+        private final FiatCurrencies fiat;
+
+        /**
+         * The constructor for a Pair
+         * @param crypto The cryptocurrency
+         * @param fiat The fiat currency
+         */
+        private Pair(final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+            this.crypto = crypto;
+            this.fiat = fiat;
+        }
+    }
+
+    /**
+     * A quote as read from an endpoint's memory
+     */
+    private static final class Quote {
+
+        /**
+         * The endpoint
+         */
+        private final APICallerInterface endpoint;
+
+        /**
+         * The cryptocurrency
+         */
+        private final CryptoCurrencies crypto;
+
+        /**
+         * The fiat currency
+         */
+        private final FiatCurrencies fiat;
+
+        /**
+         * The mantissa of the price (FixedPointPrice.NO_PRICE if there is none)
+         */
+        private final long price;
+
+        /**
+         * The time (in epoch milliseconds) of the last successful update (EndpointMemoryInterface.NEVER if none)
+         */
+        private final long lastUpdated;
+
+        /**
+         * If the last update succeeded
+         */
+        private final boolean wasLastUpdateSuccessful;
+
+        /**
+         * The constructor for a Quote
+         * @param endpoint The endpoint
+         * @param crypto The cryptocurrency
+         * @param fiat The fiat currency
+         * @param price The mantissa of the price
+         * @param lastUpdated The time of the last successful update
+         * @param wasLastUpdateSuccessful If the last update succeeded
+         */
+        private Quote(final APICallerInterface endpoint, final CryptoCurrencies crypto, final FiatCurrencies fiat,
+                      final long price, final long lastUpdated, final boolean wasLastUpdateSuccessful) {
+            this.endpoint = endpoint;
+            this.crypto = crypto;
+            this.fiat = fiat;
+            this.price = price;
+            this.lastUpdated = lastUpdated;
+            this.wasLastUpdateSuccessful = wasLastUpdateSuccessful;
+        }
+
+        /**
+         * Reads the quote of a pair out of an endpoint's memory
+         * @param endpoint The endpoint, which has to accept the pair
+         * @param crypto The cryptocurrency
+         * @param fiat The fiat currency
+         * @return The quote
+         */
+        private static Quote read(final APICallerInterface endpoint, final CryptoCurrencies crypto,
+                                  final FiatCurrencies fiat) {
+            final long[] quote = new long[EndpointMemoryInterface.QUOTE_LENGTH];
+            try {
+                endpoint.getQuote(crypto, fiat, quote);
+                return new Quote(endpoint, crypto, fiat, quote[EndpointMemoryInterface.QUOTE_PRICE],
+                        quote[EndpointMemoryInterface.QUOTE_LAST_UPDATED],
+                        quote[EndpointMemoryInterface.QUOTE_SUCCESSFUL] != 0);
+            } catch (final AbstractCurrencyNotSupported e) {
+                // Only the pairs the endpoint accepts are read, so this can't happen
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Writes the quote as a JSON object, with the price as an exact decimal (null if there is none)
+         * @param json Where to write it
+         */
+        private void appendJson(final StringBuilder json) {
+            json.append("{\"endpoint\":\"").append(JSONValue.escape(this.endpoint.getName()))
+                    .append("\",\"crypto\":\"").append(JSONValue.escape(this.crypto.getAbbreviatedName()))
+                    .append("\",\"fiat\":\"").append(this.fiat.getAbbreviatedName())
+                    .append("\",\"price\":");
+            if (FixedPointPrice.isPrice(this.price))
+                FixedPointPrice.appendTo(json, this.price, FixedPointPrice.scaleOf(this.crypto, this.fiat));
+            else json.append("null");
+            json.append(",\"lastUpdated\":");
+            if (this.lastUpdated == EndpointMemoryInterface.NEVER) json.append("null");
+            else json.append(this.lastUpdated);
+            json.append(",\"lastUpdateSuccessful\":").append(this.wasLastUpdateSuccessful)
+                    .append(",\"side\":\"").append(this.endpoint.getQuoteSide()).append("\"}");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.company.api_call.quote_server;
+
+import java.io.IOException;
+
+/**
+ * The interface for the local HTTP server that hands the quotes held in the endpoints' memory to other processes
+ */
+public interface QuoteServerInterface {
+
+    /**
+     * Starts serving
+     * @throws IOException If the port can't be bound
+     */
+    void start() throws IOException;
+
+    /**
+     * Stops serving. Requests that are being handled are left to finish
+     */
+    void stop();
+
+    /**
+     * Returns the port the server listens on
+     * @return The port (0 picks a free one, in which case the chosen port is returned once started)
+     */
+    int getPort();
+
+}
@@ -6,8 +6,8 @@ package com.company.controller;
 public interface ControllerInterface {
 
     /**
-     * Checks the internet connection and returns if it is connected or not
-     * TODO: Should I move this to MainController?
+     * Returns if there is a connection to the internet, as far as is known. This must not block, as it's asked before
+     * every refresh
      * @return If there is a connection to the internet
      */
     boolean checkConnection();
@@ -0,0 +1,237 @@
+package com.company.controller.headless;
+
+import com.company.api_call.APICallerInterface;
+import com.company.api_call.CoinBase.CoinBaseBuy;
+import com.company.api_call.CoinBase.CoinBaseSell;
+import com.company.api_call.CoinBase.CoinBaseSpot;
+import com.company.api_call.CoinCap.CoinCap;
+import com.company.api_call.CryptoCompare.CryptoCompare;
+import com.company.api_call.connectivity_monitor.ConnectivityMonitor;
+import com.company.api_call.connectivity_monitor.ConnectivityMonitorInterface;
+import com.company.api_call.fetch_scheduler.FetchScheduler;
+import com.company.api_call.fetch_scheduler.FetchSchedulerInterface;
+import com.company.api_call.http_transport.HttpTransport;
+import com.company.api_call.http_transport.HttpTransportInterface;
+import com.company.api_call.prefetch.Prefetcher;
+import com.company.api_call.prefetch.PrefetcherInterface;
+import com.company.api_call.quote_journal.QuoteJournal;
+import com.company.api_call.quote_journal.QuoteJournalInterface;
+import com.company.api_call.quote_server.QuoteServer;
+import com.company.api_call.quote_server.QuoteServerInterface;
+import com.company.controller.AbstractController;
+import com.company.tool.enums.Errors;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+import com.company.tool.error_aggregator.ErrorAggregator;
+import com.company.tool.error_aggregator.ErrorAggregatorInterface;
+import com.company.tool.util.FixedPointPrice;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * The controller that runs the endpoints without any user interface, so the prices can be kept up to date as a
+ * background service on a machine without a display. Nothing it touches loads a Swing or AWT class: the prefetcher
+ * keeps every pair of every endpoint warm in the endpoints' memory, and every successful update is written to standard
+ * output as a line of "endpoint crypto fiat price time", for other systems to read
+ */
+final public class HeadlessController extends AbstractController implements HeadlessControllerInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The list of all the API endpoints
+     */
+    private final List<APICallerInterface> endpointList = new ArrayList<>();
+
+    /**
+     * The scheduler that runs the fetches for the endpoints
+     */
+    private final FetchSchedulerInterface fetchScheduler = new FetchScheduler();
+
+    /**
+     * The HTTP transport that all the endpoints make their calls through
+     */
+    private final HttpTransportInterface httpTransport = new HttpTransport();
+
+    /**
+     * The monitor that knows whether the internet can be reached, from how the endpoints' calls went
+     */
+    private final ConnectivityMonitorInterface connectivityMonitor = new ConnectivityMonitor(this.httpTransport);
+
+    /**
+     * The journal that the endpoints' prices are recorded in, so that they survive a restart
+     */
+    private final QuoteJournalInterface quoteJournal = new QuoteJournal();
+
+    /**
+     * The aggregator that the errors are recorded in
+     */
+    private final ErrorAggregatorInterface errorAggregator = new ErrorAggregator();
+
+    /**
+     * The prefetcher that keeps the prices of every pair warm
+     */
+    private final PrefetcherInterface prefetcher;
+
+    /**
+     * The server that hands the endpoints' quotes to other processes (null if it isn't turned on)
+     */
+    private final QuoteServerInterface quoteServer;
+
+    /**
+     * Released once the application shuts down, which lets the main thread return from run
+     */
+    private final CountDownLatch shutdownLatch = new CountDownLatch(1);
+
+    /**
+     * Where the prices are written to
+     */
+    private final PrintStream out;
+
+    /**
+     * The line being written, reused so that writing a price doesn't allocate (only used while holding the lock on
+     * the output)
+     */
+    private final StringBuilder line = new StringBuilder();
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the HeadlessController, which writes the prices to standard output
+     */
+    public HeadlessController() {
+        this(System.out);
+    }
+
+    /**
+     * The constructor for the HeadlessController
+     * @param out Where the prices are written to
+     */
+    public HeadlessController(final PrintStream out) {
+        this.out = out;
+        this.httpTransport.addListener(this.connectivityMonitor);
+
+        /* CoinBase */
+        this.endpointList.add(new CoinBaseBuy(this));
+        this.endpointList.add(new CoinBaseSell(this));
+        this.endpointList.add(new CoinBaseSpot(this));
+
+        /* CoinCap */
+        this.endpointList.add(new CoinCap(this));
+
+        /* CryptoCompare */
+        this.endpointList.add(new CryptoCompare(this));
+
+        this.prefetcher = new Prefetcher(this.endpointList, this.fetchScheduler);
+        this.quoteServer = QuoteServer.fromSystemProperty(this.endpointList);
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public void run() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+
+        // Start from the last known prices, then keep every pair warm
+        this.quoteJournal.replay(this.endpointList);
+        this.prefetcher.start();
+        this.startQuoteServer();
+
+        try {
+            this.shutdownLatch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (this.shutdownLatch.getCount() == 0) return;
+
+        if (this.quoteServer != null) this.quoteServer.stop();
+        this.prefetcher.stop();
+        this.connectivityMonitor.shutdown();
+        this.fetchScheduler.shutdown();
+        this.quoteJournal.close();
+        this.shutdownLatch.countDown();
+    }
+
+    /**
+     * Starts the quote server, if it's turned on. The application carries on without it if it can't start
+     */
+    private void startQuoteServer() {
+        if (this.quoteServer == null) return;
+
+        try {
+            this.quoteServer.start();
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public boolean checkConnection() {
+        return this.connectivityMonitor.isConnected();
+    }
+
+    @Override
+    public List<APICallerInterface> getEndpointList() { return this.endpointList; }
+
+    @Override
+    public ErrorAggregatorInterface getErrorAggregator() { return this.errorAggregator; }
+
+    @Override
+    public HttpTransportInterface getHttpTransport() { return this.httpTransport; }
+
+    @Override
+    public QuoteJournalInterface getQuoteJournal() { return this.quoteJournal; }
+
+    @Override
+    public void notifyUpdating(final APICallerInterface endpoint, final CryptoCurrencies crypto,
+                               final FiatCurrencies fiat, final boolean isUpdating) { }
+
+    /**
+     * Writes the price to the output if the update succeeded
+     */
+    @Override
+    public void notifyPriceSet(final APICallerInterface endpoint, final CryptoCurrencies crypto,
+                               final FiatCurrencies fiat, final long price, final boolean isSuccessful,
+                               final LocalDateTime lastUpdated) {
+        if (!isSuccessful) return;
+
+        synchronized (this.out) {
+            this.line.setLength(0);
+            this.line.append(endpoint.getName()).append(' ')
+                    .append(crypto.getAbbreviatedName()).append(' ')
+                    .append(fiat.getAbbreviatedName()).append(' ');
+            FixedPointPrice.appendTo(this.line, price, FixedPointPrice.scaleOf(crypto, fiat));
+            this.line.append(' ').append(lastUpdated);
+            this.out.println(this.line);
+        }
+    }
+
+    @Override
+    public void errorDisplay(final Errors error, final String name, final CryptoCurrencies crypto,
+                             final FiatCurrencies fiat) {
+        this.errorAggregator.record(error, name, crypto, fiat);
+    }
+
+    @Override
+    public void errorDisplay(final Errors error, final String name) {
+        this.errorAggregator.record(error, name, null, null);
+    }
+
+}
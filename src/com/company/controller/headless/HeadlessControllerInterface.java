@@ -0,0 +1,37 @@
+package com.company.controller.headless;
+
+import com.company.api_call.APICallerContract;
+import com.company.api_call.APICallerInterface;
+import com.company.controller.ControllerInterface;
+import com.company.tool.error_aggregator.ErrorAggregatorInterface;
+
+import java.util.List;
+
+/**
+ * The interface for the controller that runs the endpoints without any user interface
+ */
+public interface HeadlessControllerInterface extends ControllerInterface, APICallerContract {
+
+    /**
+     * Runs the endpoints in the background until the application shuts down, parking the calling thread meanwhile
+     */
+    void run();
+
+    /**
+     * Stops all the background work of the application
+     */
+    void shutdown();
+
+    /**
+     * Gets the endpoints that are run
+     * @return The endpoints that are run
+     */
+    List<APICallerInterface> getEndpointList();
+
+    /**
+     * Gets the aggregator that the errors are recorded in
+     * @return The aggregator that the errors are recorded in
+     */
+    ErrorAggregatorInterface getErrorAggregator();
+
+}
@@ -7,22 +7,40 @@ import com.company.api_call.CoinBase.CoinBaseSell;
 import com.company.api_call.CoinBase.CoinBaseSpot;
 import com.company.api_call.CoinCap.CoinCap;
 import com.company.api_call.CryptoCompare.CryptoCompare;
+import com.company.api_call.auto_refresh.AutoRefreshScheduler;
+import com.company.api_call.auto_refresh.AutoRefreshSchedulerInterface;
+import com.company.api_call.capability_index.CapabilityIndex;
+import com.company.api_call.capability_index.CapabilityIndexInterface;
+import com.company.api_call.connectivity_monitor.ConnectivityMonitor;
+import com.company.api_call.connectivity_monitor.ConnectivityMonitorInterface;
+import com.company.api_call.endpoint_memory.EndpointMemory;
+import com.company.api_call.endpoint_memory.EndpointMemoryInterface;
+import com.company.api_call.fetch_scheduler.FetchScheduler;
+import com.company.api_call.fetch_scheduler.FetchSchedulerInterface;
+import com.company.api_call.http_transport.HttpTransport;
+import com.company.api_call.http_transport.HttpTransportInterface;
+import com.company.api_call.prefetch.Prefetcher;
+import com.company.api_call.prefetch.PrefetcherInterface;
+import com.company.api_call.quote_journal.QuoteJournal;
+import com.company.api_call.quote_journal.QuoteJournalInterface;
+import com.company.api_call.quote_server.QuoteServer;
+import com.company.api_call.quote_server.QuoteServerInterface;
 import com.company.tool.enums.currency.CryptoCurrencies;
 import com.company.tool.enums.Errors;
 import com.company.tool.enums.currency.FiatCurrencies;
 import com.company.controller.AbstractController;
+import com.company.tool.error_aggregator.ErrorAggregator;
+import com.company.tool.error_aggregator.ErrorAggregatorInterface;
 import com.company.tool.exception.currency_not_supported.AbstractCurrencyNotSupported;
+import com.company.tool.util.FixedPointPrice;
 import com.company.view.window.about.AboutJFrameWindow;
-import com.company.view.window.error.endpoint_update_error.EndpointUpdateErrorWindow;
-import com.company.view.window.error.bad_data_error.BadDataErrorWindow;
-import com.company.view.window.error.default_error.DefaultErrorWindow;
-import com.company.view.window.error.network_error.NetworkErrorWindow;
-import com.company.view.window.error.parse_error.ParseErrorWindow;
 import com.company.view.window.main.MainJFrameWindow;
 import com.company.view.window.main.MainWindowInterface;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +57,51 @@ final public class MainController extends AbstractController implements MainCont
      */
     private final ArrayList<APICallerInterface> endpointList = new ArrayList<>();
 
+    /**
+     * The scheduler that runs the fetches for the endpoints
+     */
+    private final FetchSchedulerInterface fetchScheduler = new FetchScheduler();
+
+    /**
+     * The HTTP transport that all the endpoints make their calls through
+     */
+    private final HttpTransportInterface httpTransport = new HttpTransport();
+
+    /**
+     * The monitor that knows whether the internet can be reached, from how the endpoints' calls went
+     */
+    private final ConnectivityMonitorInterface connectivityMonitor = new ConnectivityMonitor(this.httpTransport);
+
+    /**
+     * The journal that the endpoints' prices are recorded in, so that they survive a restart
+     */
+    private final QuoteJournalInterface quoteJournal = new QuoteJournal();
+
+    /**
+     * The index of which endpoints serve which pairs
+     */
+    private final CapabilityIndexInterface capabilityIndex;
+
+    /**
+     * The prefetcher that keeps the prices of every pair warm in the background
+     */
+    private final PrefetcherInterface prefetcher;
+
+    /**
+     * The scheduler that automatically refreshes the current pair of each endpoint
+     */
+    private final AutoRefreshSchedulerInterface autoRefreshScheduler;
+
+    /**
+     * The server that hands the endpoints' quotes to other processes (null if it isn't turned on)
+     */
+    private final QuoteServerInterface quoteServer;
+
+    /**
+     * Released once the application shuts down, which lets the main thread return from run
+     */
+    private final CountDownLatch shutdownLatch = new CountDownLatch(1);
+
     /**
      * The currently selected fiat currency
      */
@@ -49,6 +112,11 @@ final public class MainController extends AbstractController implements MainCont
      */
     private CryptoCurrencies currentCrypto = CryptoCurrencies.BTC;
 
+    /**
+     * The aggregator that the errors are recorded in (before the main window, which shows them)
+     */
+    private final ErrorAggregatorInterface errorAggregator = new ErrorAggregator();
+
     /**
      * The main window of the application
      */
@@ -63,9 +131,7 @@ final public class MainController extends AbstractController implements MainCont
      * The constructor for the MainController
      */
     public MainController() {
-
-        // Get the dropdown to display the default currencies
-        this.mainWindow.updateDropdowns(this.currentCrypto, this.currentFiat);
+        this.httpTransport.addListener(this.connectivityMonitor);
 
         /* CoinBase */
         endpointList.add(new CoinBaseBuy(this));
@@ -78,13 +144,27 @@ final public class MainController extends AbstractController implements MainCont
         /* CryptoCompare */
         endpointList.add(new CryptoCompare(this));
 
+        this.capabilityIndex = new CapabilityIndex(this.endpointList);
+        this.prefetcher = new Prefetcher(this.endpointList, this.fetchScheduler);
+        this.quoteServer = QuoteServer.fromSystemProperty(this.endpointList);
+        this.prefetcher.setViewedPair(this.currentCrypto, this.currentFiat);
+        this.autoRefreshScheduler = new AutoRefreshScheduler(this.endpointList, this.fetchScheduler);
+        this.autoRefreshScheduler.setCurrentPair(this.currentCrypto, this.currentFiat);
+
+        // Get the dropdown to display the default currencies
+        this.mainWindow.updateDropdowns(this.currentCrypto, this.currentFiat);
+
         this.mainWindow.setEndpoints(
                 endpointList
                         .stream()
                         .map(APICallerInterface::getName)
                         .collect(Collectors.toList()));
 
+        // Fill the table with the last known prices before any calls go out
+        this.quoteJournal.replay(this.endpointList);
+
         this.refresh();
+        this.prefetcher.start();
     }
 
 
@@ -95,106 +175,150 @@ final public class MainController extends AbstractController implements MainCont
     @Override
     public ArrayList<APICallerInterface> getEndpointList() { return this.endpointList; }
 
+    @Override
+    public FetchSchedulerInterface getFetchScheduler() { return this.fetchScheduler; }
+
+    @Override
+    public HttpTransportInterface getHttpTransport() { return this.httpTransport; }
+
+    @Override
+    public QuoteJournalInterface getQuoteJournal() { return this.quoteJournal; }
+
+    @Override
+    public ErrorAggregatorInterface getErrorAggregator() { return this.errorAggregator; }
+
     /**
-     * The method to be run on a near-infinite loop to run the program
+     * Runs the program: starts the automatic refreshes and then parks the calling thread until the application shuts
+     * down (all the work happens on the Swing and background threads)
      */
     public void run() {
-      
-        while (true) { }
+        this.autoRefreshScheduler.start();
+        this.startQuoteServer();
+
+        try {
+            this.shutdownLatch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (this.quoteServer != null) this.quoteServer.stop();
+        this.autoRefreshScheduler.shutdown();
+        this.prefetcher.stop();
+        this.connectivityMonitor.shutdown();
+        this.fetchScheduler.shutdown();
+        this.quoteJournal.close();
+        this.shutdownLatch.countDown();
+    }
+
+    /**
+     * Starts the quote server, if it's turned on. The application carries on without it if it can't start
+     */
+    private void startQuoteServer() {
+        if (this.quoteServer == null) return;
+
+        try {
+            this.quoteServer.start();
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+    }
 
+    @Override
+    public boolean checkConnection() {
+        return this.connectivityMonitor.isConnected();
     }
 
     @Override
     public void refresh() {
-        super.checkConnection();
+        if (this.checkConnection()) {
+            this.updatePrices();
+            return;
+        }
 
-        // TODO: Maybe don't check the internet connection every time...
-        if (!super.checkConnection()) this.errorDisplay(Errors.NETWORK_ERROR);
-        else this.updatePrices();
+        // Check again now rather than once the last outcome goes stale, so the next refresh sees the network come back
+        this.connectivityMonitor.probe();
+        this.errorDisplay(Errors.NETWORK_ERROR);
     }
 
     @Override
     public void updatePrices() {
-        for (final APICallerInterface endpoint : this.endpointList) {
-            new Thread(() -> {
+        final CryptoCurrencies crypto = this.currentCrypto;
+        final FiatCurrencies fiat = this.currentFiat;
+
+        // TODO: Remove the endpoints that don't serve the pair from the display
+        for (final APICallerInterface endpoint : this.capabilityIndex.getEndpoints(crypto, fiat)) {
+            final boolean isAccepted = this.fetchScheduler.submit(endpoint, () -> {
                 try {
-                    endpoint.updatePriceAndNotify(this.currentCrypto, this.currentFiat);
+                    endpoint.updatePriceAndNotify(crypto, fiat);
                 } catch (final AbstractCurrencyNotSupported e) {
-                    // TODO: Remove this endpoint from the display
-                    // TODO: Should we do this better? Loop through and determine first which endpoints to display? And
-                    //  not catch it via an exception?
+                    // The index only holds the endpoints that serve the pair, so this can't happen
+                    throw new IllegalStateException(e);
                 }
-            }).start();
+            });
+            if (!isAccepted) this.errorDisplay(Errors.FETCH_REJECTED, endpoint.getName(), crypto, fiat);
         }
     }
 
+    /**
+     * Records the error in the error aggregator, which the main window shows. No window is built here, as this is
+     * called from the fetch threads
+     */
     @Override
     public void errorDisplay(final Errors error, final String name, final CryptoCurrencies crypto,
                              final FiatCurrencies fiat) {
+        this.errorAggregator.record(error, name, crypto, fiat);
+    }
 
-        switch (error) {
-            case ENDPOINT_UPDATE_ERROR:
-                new EndpointUpdateErrorWindow(this, name, crypto, fiat);
-                return;
-            case NETWORK_ERROR:
-                new NetworkErrorWindow(this);
-                return;
-            case PARSE_ERROR:
-                new ParseErrorWindow(this, name, crypto, fiat);
-            case BAD_DATA:
-                new BadDataErrorWindow(this, name);
-                return;
-            default:
-                new DefaultErrorWindow(this);
-        }
+    @Override
+    public void errorDisplay(final Errors error, final String name) {
+        this.errorAggregator.record(error, name, null, null);
     }
 
     @Override
     public void errorDisplay(final Errors error) {
-
-        switch (error) {
-            case ENDPOINT_UPDATE_ERROR:
-                new EndpointUpdateErrorWindow(this);
-                return;
-            case NETWORK_ERROR:
-                new NetworkErrorWindow(this);
-                return;
-            case PARSE_ERROR:
-                new ParseErrorWindow(this);
-            case BAD_DATA:
-                new BadDataErrorWindow(this, "");
-                return;
-            default:
-                new DefaultErrorWindow(this);
-        }
+        this.errorAggregator.record(error, null, null, null);
     }
 
     @Override
     public void updateFiatCurrency(final FiatCurrencies fiatCurrency) {
         this.currentFiat = fiatCurrency;
+        this.prefetcher.setViewedPair(this.currentCrypto, this.currentFiat);
+        this.autoRefreshScheduler.setCurrentPair(this.currentCrypto, this.currentFiat);
 
-        for (final APICallerInterface endpoint : this.endpointList) {
-            try {
-                this.notifyPriceSet(endpoint, this.currentCrypto, this.currentFiat, endpoint.getPrice(this.currentCrypto, this.currentFiat), endpoint.getLastSuccessfulUpdated(this.currentCrypto, this.currentFiat) != null, endpoint.getLastSuccessfulUpdated(this.currentCrypto, this.currentFiat));
-            } catch (final AbstractCurrencyNotSupported exception) {
-                // TODO: Remove this endpoint from the display
-                // TODO: Should we do this better? Loop through and determine first which endpoints to display? And
-                //  not catch it via an exception?
-            }
-        }
+        this.showLatestPrices();
     }
 
     @Override
     public void updateCryptocurrency(final CryptoCurrencies cryptoCurrency) {
         this.currentCrypto = cryptoCurrency;
+        this.prefetcher.setViewedPair(this.currentCrypto, this.currentFiat);
+        this.autoRefreshScheduler.setCurrentPair(this.currentCrypto, this.currentFiat);
+
+        this.showLatestPrices();
+    }
+
+    /**
+     * Shows the price that each endpoint serving the current pair already holds for it
+     */
+    private void showLatestPrices() {
+        final CryptoCurrencies crypto = this.currentCrypto;
+        final FiatCurrencies fiat = this.currentFiat;
 
-        for (final APICallerInterface endpoint : this.endpointList) {
+        // TODO: Remove the endpoints that don't serve the pair from the display
+        final long[] quote = new long[EndpointMemoryInterface.QUOTE_LENGTH];
+        for (final APICallerInterface endpoint : this.capabilityIndex.getEndpoints(crypto, fiat)) {
             try {
-                this.notifyPriceSet(endpoint, this.currentCrypto, this.currentFiat, endpoint.getPrice(this.currentCrypto, this.currentFiat), endpoint.getLastSuccessfulUpdated(this.currentCrypto, this.currentFiat) != null, endpoint.getLastSuccessfulUpdated(this.currentCrypto, this.currentFiat));
+                endpoint.getQuote(crypto, fiat, quote);
+                final LocalDateTime lastUpdated =
+                        EndpointMemory.toLocalDateTime(quote[EndpointMemoryInterface.QUOTE_LAST_UPDATED]);
+                this.notifyPriceSet(endpoint, crypto, fiat, quote[EndpointMemoryInterface.QUOTE_PRICE],
+                        lastUpdated != null, lastUpdated);
             } catch (final AbstractCurrencyNotSupported exception) {
-                // TODO: Remove this endpoint from the display
-                // TODO: Should we do this better? Loop through and determine first which endpoints to display? And
-                //  not catch it via an exception?
+                // The index only holds the endpoints that serve the pair, so this can't happen
+                throw new IllegalStateException(exception);
             }
         }
     }
@@ -209,11 +333,12 @@ final public class MainController extends AbstractController implements MainCont
 
     @Override
     public void notifyPriceSet(final APICallerInterface endpoint, final CryptoCurrencies crypto,
-                               final FiatCurrencies fiat, final double price, final boolean isSuccessful,
+                               final FiatCurrencies fiat, final long price, final boolean isSuccessful,
                                final LocalDateTime lastUpdated) {
         // First, check if this is still for the current crypto/fiat combination
         if (crypto == this.currentCrypto && fiat == this.currentFiat)
-            this.mainWindow.updatePrice(endpoint.getName(), price, isSuccessful, lastUpdated);
+            this.mainWindow.updatePrice(endpoint.getName(), price, FixedPointPrice.scaleOf(crypto, fiat), isSuccessful,
+                    lastUpdated);
     }
 
     @Override
@@ -2,7 +2,9 @@ package com.company.controller.main;
 
 import com.company.api_call.APICallerContract;
 import com.company.api_call.APICallerInterface;
+import com.company.api_call.fetch_scheduler.FetchSchedulerInterface;
 import com.company.controller.ControllerInterface;
+import com.company.tool.error_aggregator.ErrorAggregatorInterface;
 import com.company.tool.enums.Errors;
 import com.company.view.button.refresh.RefreshButtonContractInterface;
 import com.company.view.combo_box.crypto_dropdown.CryptoDropdownContractInterface;
@@ -35,8 +37,25 @@ public interface MainControllerInterface extends
     ArrayList<APICallerInterface> getEndpointList();
 
     /**
-     * Pops up a window that displays an error message
+     * Gets the scheduler that runs the fetches for the endpoints (and holds their metrics)
+     * @return The scheduler that runs the fetches for the endpoints
+     */
+    FetchSchedulerInterface getFetchScheduler();
+
+    /**
+     * Gets the aggregator that the errors are recorded in
+     * @return The aggregator that the errors are recorded in
+     */
+    ErrorAggregatorInterface getErrorAggregator();
+
+    /**
+     * Records an error that isn't of a single endpoint, for the main window to show
      * @param error The type of error
      */
     void errorDisplay(final Errors error);
+
+    /**
+     * Stops all the background work of the application (called when the main window closes)
+     */
+    void shutdown();
 }
@@ -11,5 +11,6 @@ public enum Errors {
     NETWORK_ERROR,
     PARSE_ERROR,
     BAD_DATA,
+    FETCH_REJECTED,
 
 }
@@ -0,0 +1,23 @@
+package com.company.tool.enums;
+
+/**
+ * The side of the market that an endpoint's prices are quoted on
+ */
+public enum QuoteSide {
+
+    /**
+     * A price that the currency can be bought at
+     */
+    BUY,
+
+    /**
+     * A price that the currency can be sold at
+     */
+    SELL,
+
+    /**
+     * A reference price between the two, like a spot or an average rate
+     */
+    MID,
+
+}
@@ -1,1544 +1,15 @@
 package com.company.tool.enums.currency;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
- * An enum that holds all possible cryptocurrencies (received from <a href="http://coincap.io/map">http://coincap.io/map</a>)
+ * All possible cryptocurrencies. They aren't fixed at compile time: they are read from a list of coins when the class
+ * is loaded (see CryptoCurrencyRegistry), so a coin is added by adding it to the list. Each one is a single, shared
+ * instance, so they can be compared with ==, and like the constants of an enum each has an ordinal, which is its index
+ * in values() (i.e. its position when sorted by symbol). The coins that the code refers to directly are always known
  */
-public enum CryptoCurrencies implements Currency {
-//    A0XBTC,	// 0xBitcoin    (Actually '0XBTC')
-//    A1ST,	// FirstBlood   (Actually '1ST')
-//    A1WO,	// 1World       (Actually '1WO')
-//    A2GIVE,	// 2GIVE        (Actually '2GIVE')
-//    A300,	// 300 Token    (Actually '300')
-//    A611,	// SixEleven    (Actually '611')
-//    A808,	// 808Coin      (Actually '808')
-//    A888,	// OctoCoin     (Actually '888')
-//    A8BIT,	// 8Bit         (Actually '8BIT')
-//    ABJ,	// Abjcoin
-//    ABJC,	// Abjcoin Commerce
-//    ABT,	// Arcblock
-//    ABY,	// ArtByte
-//    ABYSS,	// The Abyss
-//    AC,	    // AsiaCoin
-//    AC3,	// AC3
-//    ACAT,	// Alphacat
-//    ACC,	// AdCoin
-//    ACE,	// ACE (TokenStars)
-//    ACOIN,	// Acoin
-//    ACP,	// AnarchistsPrime
-//    ACT,	// Achain
-//    ADA,	// Cardano
-//    ADB,	// adbank
-//    ADC,	// AudioCoin
-//    ADCN,	// Asiadigicoin
-//    ADH,	// AdHive
-//    ADI,	// Aditus
-//    ADL,	// Adelphoi
-//    ADST,	// AdShares
-//    ADT,	// adToken
-//    ADX,	// AdEx
-//    ADZ,	// Adzcoin
-//    AE,	    // Aeternity
-//    AEON,	// Aeon
-//    AERM,	// Aerium
-//    AGI,	// SingularityNET
-//    AGLC,	// AgrolifeCoin
-//    AGRS,	// Agoras Tokens
-//    AHT,	// Bowhead
-//    AI,	    // POLY AI
-//    AIB,	// Advanced Inte...
-//    AID,	// AidCoin
-//    AIDOC,	// AI Doctor
-//    AIO,
-//    AION,	// Aion
-//    AIR,	// AirToken
-//    AIT,	// AICHAIN
-//    AIX,	// Aigang
-//    ALIS,	// ALIS
-//    ALL,	// Allion
-//    ALQO,	// ALQO
-//    ALT,	// Altcoin
-//    ALTCOM,	// SONO
-//    ALX,	// ALAX
-//    AMB,	// Ambrosus
-//    AMBER,	// AmberCoin
-//    AMLT,	// AMLT
-//    AMM,	// MicroMoney
-//    AMMO,	// Ammo Reloaded
-//    AMN,	// Amon
-//    AMP,	// Synereo
-//    AMS,	// AmsterdamCoin
-//    ANC,	// Anoncoin
-//    ANT,	// Aragon
-//    APH,	// Aphelion
-//    APIS,	// APIS
-//    APPC,	// AppCoins
-//    APR,	// APR Coin
-//    APX,	// APX
-//    ARB,	// ARbit
-//    ARC,	// Advanced Tech...
-//    ARCO,	// AquariusCoin
-//    ARCT,	// ArbitrageCT
-//    ARDR,	// Ardor
-//    ARG,	// Argentum
-//    ARGUS,	// Argus
-//    ARI,	// Aricoin
-//    ARK,	// Ark
-//    ARN,	// Aeron
-//    ART,	// Maecenas
-//    ARY,	// Block Array
-//    ASAFE2,	// AllSafe
-//    AST,	// AirSwap
-//    ASTRO,	// Astro
-//    ATB,	// ATBCoin
-//    ATL,	// ATLANT
-//    ATM,	// ATMChain
-//    ATMOS,	// Atmos
-//    ATMS,	// Atmos
-//    ATN,	// ATN
-//    ATOM,	// Atomic Coin
-//    ATS,	// Authorship
-//    ATX,	// Artex Coin
-//    AU,	    // AurumCoin
-//    AUC,	// Auctus
-//    AUR,	// Auroracoin
-//    AURA,	// Aurora DAO
-//    AUTO,	// Cube
-//    AVA,	// Travala
-//    AVT,	// Aventus
-//    AXP,	// aXpire
-//    B2B,	// B2BX
-//    BANCA,	// Banca
-//    BANK,	// Bank Coin
-//    BAS,	// BitAsean
-//    BASH,	// LuckChain
-//    BAT,	// Basic Attenti...
-//    BAX,	// BABB
-//    BAY,	// BitBay
-//    BBC,	// TraDove B2BCoin
-//    BBI,	// BelugaPay
-//    BBN,	// Banyan Network
-//    BBO,	// Bigbom
-//    BBP,	// BiblePay
-//    BBR,	// Boolberry
-//    BBT,	// BitBoost
-//    BCA,	// Bitcoin Atom
-//    BCD,	// Bitcoin Diamond
-//    BCF,	// Bitcoin Fast
-//    BCH,	// Bitcoin Cash
-//    BCI,	// Bitcoin Interest
-//    BCN,	// Bytecoin
-//    BCO,	// BridgeCoin
-//    BCPT,	// BlockMason Cr...
-//    BCY,	// Bitcrystals
-//    BDG,	// BitDegree
-//    BDL,	// Bitdeal
-//    BEE,	// Bee Token
-//    BELA,	// Bela
-//    BENJI,	// BenjiRolls
-//    BERN,	// BERNcash
-//    BERRY,	// Rentberry
-//    BET,	// DAO.Casino
-//    BETR,	// BetterBetting
-//    BEZ,	// Bezop
-//    BFT,	// BnkToTheFuture
-//    BIGUP,	// BigUp
-//    BIO,	// BioCoin
-//    BIOB,	// BioBar
-//    BIP,	// BipCoin
-//    BIS,	// Bismuth
-//    BITB,	// Bean Cash
-//    BITCNY,	// bitCNY
-//    BITEUR,	// bitEUR
-//    BITG,	// Bitcoin Green
-//    BITGOLD,	// bitGold
-//    BITS,	// Bitstar
-//    BITSILVER,	// bitSilver
-//    BITUSD,	// bitUSD
-//    BITZ,	// Bitz
-//    BIX,	// Bibox Token
-//    BKX,	// Bankex
-//    BLAS,	// BlakeStar
-//    BLC,	// Blakecoin
-//    BLITZ,	// Blitzcash
-//    BLK,	// BlackCoin
-//    BLN,	// Bolenum
-//    BLOCK,	// Blocknet
-//    BLOCKPAY,	// BlockPay
-//    BLT,	// Bloom
-//    BLU,	// BlueCoin
-//    BLUE,	// Blue Protocol
-//    BLZ,	// BlazeCoin
-//    BMC,	// Blackmoon
-//    BMX,	// BitMart Token
-//    BNB,	// Binance Coin
-//    BNT,	// Bancor
-//    BNTY,	// Bounty0x
-//    BNX,	// BnrtxCoin
-//    BOAT,	// BOAT
-//    BOB,	// Bob's Repair
-//    BOLI,	// Bolivarcoin
-//    BON,	// Bonpay
-//    BOS,	// BOScoin
-//    BOST,	// BoostCoin
-//    BOT,	// Bodhi
-//    BOUTS,	// BoutsPro
-//    BPC,	// Bitpark Coin
-//    BPL,	// Blockpool
-//    BPT,	// Blockport
-//    BQ,	// bitqy
-//    BRAT,	// BROTHER
-//    BRD,	// Bread
-//    BRIA,	// BriaCoin
-//    BRIT,	// BritCoin
-//    BRK,	// Breakout
-//    BRM,	// BrahmaOS
-//    BRO,	// Bitradio
-//    BRX,	// Breakout Stake
-//    BSC,	// BowsCoin
-//    BSD,	// BitSend
-//    BSM,	// Bitsum
-//    BSTAR,	// Blackstar
-//    BSTN,	// BitStation
-//    BSTY,	// GlobalBoost-Y
-//    BTA,	// Bata
-//    BTB,	// BitBar
-    BTC,	// Bitcoin
-//    BTCA,	// Bitair
-//    BTCD,	// BitcoinDark
-//    BTCP,	// Bitcoin Private
-//    BTCR,	// Bitcurrency
-//    BTCRED,	// Bitcoin Red
-//    BTCS,	// Bitcoin Scrypt
-//    BTCZ,	// BitcoinZ
-//    BTDX,	// Bitcloud
-//    BTG,	// Bitcoin Gold
-//    BTG2,	// Bitgem
-//    BTM,	// Bytom
-//    BTM2,	// Bitmark
-//    BTO,	// Bottos
-//    BTPL,	// Bitcoin Planet
-//    BTQ,	// BitQuark
-//    BTRN,	// Biotron
-//    BTS,	// BitShares
-//    BTW,	// BitWhite
-//    BTWTY,	// Bit20
-//    BTX2,	// Bitcore
-//    BUCKS,	// SwagBucks
-//    BUMBA,	// BumbaCoin
-//    BUN,	// BunnyCoin
-//    BURST,	// Burst
-//    BUZZ,	// BuzzCoin
-//    BWK,	// Bulwark
-//    BXC,	// Bitcedi
-//    BXT,	// BitTokens
-//    BYC,	// Bytecent
-//    BZ,	// Bit-Z Token
-//    BZNT,	// Bezant
-//    C2,	// Coin2.1
-//    CAB,	// Cabbage
-//    CACH,	// CacheCoin
-//    CAD,
-//    CAG,	// Change
-//    CALC,	// CaliphCoin
-//    CAN,	// CanYaCoin
-//    CANN,	// CannabisCoin
-//    CAPP,	// Cappasity
-//    CARBON,	// Carboncoin
-//    CAS,	// Cashaa
-//    CASH,	// Cashcoin
-//    CAT,	// BlockCAT
-//    CAT2,	// Catcoin
-//    CAZ,	// Cazcoin
-//    CBC,	// CashBet Coin
-//    CBT,	// CommerceBlock
-//    CBX,	// Bullion
-//    CCCX,	// Clipper Coin
-//    CCN,	// CannaCoin
-//    CCO,	// Ccore
-//    CCRB,	// CryptoCarbon
-//    CCT,	// Crystal Clear
-//    CDN,	// Canada eCoin
-//    CDT,	// Blox
-//    CDX,	// Commodity Ad ...
-//    CEEK,	// CEEK VR
-//    CENNZ,	// Centrality
-//    CESC,	// CryptoEscudo
-//    CF,	// Californium
-//    CFD,	// Confido
-//    CFI,	// Cofound.it
-//    CFT,	// CryptoForecast
-//    CFUN,	// CFun
-//    CHAN,	// ChanCoin
-//    CHC,	// ChainCoin
-//    CHESS,	// ChessCoin
-//    CHIPS,	// CHIPS
-//    CHP,	// CoinPoker
-//    CHSB,	// SwissBorg
-//    CHX,	// Chainium
-//    CJ,	// Cryptojacks
-//    CJT,	// ConnectJob
-//    CL,	// Coinlancer
-//    CLAM,	// Clams
-//    CLN,	// Colu Local Ne...
-//    CLO,	// Callisto Network
-//    CLOAK,	// CloakCoin
-//    CLR,	// ClearCoin
-//    CLUB,
-//    CMCT,	// Crowd Machine
-//    CMPCO,	// CampusCoin
-//    CMT,	// Comet
-//    CND,	// Cindicator
-//    CNNC,	// Cannation
-//    CNO,	// Coin(O)
-//    CNT,	// Centurion
-//    CNX,	// Cryptonex
-//    COAL,	// BitCoal
-//    COB,	// Cobinhood
-//    COFI,	// CoinFi
-//    COLX,	// ColossusXT
-//    CON,	// PayCon
-//    CONX,	// Concoin
-//    COSM,	// Cosmo Coin
-//    COSS,	// COSS
-//    COUPE,	// Coupecoin
-//    COV,	// Covesting
-//    COVAL,	// Circuits of V...
-//    COXST,	// CoExistCoin
-//    CPAY,	// Cryptopay
-//    CPC,	// Capricoin
-//    CPN,	// CompuCoin
-//    CPT,	// Cryptaur
-//    CPX,	// Apex
-//    CPY,	// COPYTRACK
-//    CRAVE,	// Crave
-//    CRB,	// Creditbit
-//    CRC,	// CryCash
-//    CRDNC,	// Credence Coin
-//    CREA,	// Creativecoin
-//    CRED,	// Verify
-//    CREDO,	// Credo
-//    CREVA,	// CrevaCoin
-//    CRM,	// Cream
-//    CRPT,	// Crypterium
-//    CRW,	// Crown
-//    CRX,	// Chronos
-//    CS,	// Credits
-//    CSC,	// CasinoCoin
-//    CSNO,	// BitDice
-//    CTIC2,	// Coimatic 2.0
-//    CTIC3,	// Coimatic 3.0
-//    CTO,	// Crypto
-//    CTR,	// Centra
-//    CTX,	// CarTaxi Token
-//    CTXC,	// Cortex
-//    CUBE,	// DigiCube
-//    CURE,	// Curecoin
-//    CV,	// carVertical
-//    CV2,	// Colossuscoin V2
-//    CVC,	// Civic
-//    CVCOIN,	// CVCoin
-//    CVT,	// CyberVein
-//    CXO,	// CargoX
-//    CXT,	// Coinonat
-//    CYP,	// Cypher
-//    DAD,
-//    DADI,	// DADI
-//    DAG,	// Constellation
-//    DAI,	// Dai
-//    DALC,	// Dalecoin
-//    DAN,	// Daneel
-//    DAR,	// Darcrus
-//    DASH,	// Dash
-//    DAT,	// Datum
-//    DATA,	// Streamr DATAcoin
-//    DATX,	// DATx
-//    DAX,	// DAEX
-//    DAXX,	// DaxxCoin
-//    DAY,	// Chronologic
-//    DBC,	// DeepBrain Chain
-//    DBET,	// DecentBet
-//    DBIX,	// DubaiCoin
-//    DBTC,	// Debitcoin
-//    DCC,	// Distributed C...
-//    DCN,	// Dentacoin
-//    DCR,	// Decred
-//    DCT,	// DECENT
-//    DCY,	// Dinastycoin
-//    DDD,	// Scry.info
-//    DDF,	// DigitalDevelo...
-//    DEB,	// Debitum
-//    DEM,	// Deutsche eMark
-//    DENT,	// Dent
-//    DERO,	// Dero
-//    DEUS,	// DeusCoin
-//    DEV,	// DeviantCoin
-//    DEW,	// DEW
-//    DFS,	// DFSCoin
-//    DFT,	// DraftCoin
-//    DGB,	// DigiByte
-//    DGC,	// Digitalcoin
-//    DGD,	// DigixDAO
-//    DGPT,	// DigiPulse
-//    DGTX,	// Digitex Futures
-//    DGX,	// Digix Gold Token
-//    DIBC,	// DIBCOIN
-//    DICE,	// Etheroll
-//    DIM,	// DIMCOIN
-//    DIME,	// Dimecoin
-//    DIVX,	// Divi
-//    DIX,	// Dix Asset
-//    DLC,	// Dollarcoin
-//    DLISK,	// DAPPSTER
-//    DLT,	// Agrello
-//    DMB,	// Digital Money...
-//    DMD,	// Diamond
-//    DMT,	// DMarket
-//    DNA,	// EncrypGen
-//    DNR,	// Denarius
-//    DNT,	// district0x
-//    DOCK,	// Dock
-//    DOGE,	// Dogecoin
-//    DOLLAR,	// Dollar Online
-//    DOPE,	// DopeCoin
-//    DOR,	// Dorado
-//    DOT,	// Dotcoin
-//    DOVU,	// Dovu
-//    DP,	// DigitalPrice
-//    DPY,	// Delphy
-//    DRGN,	// Dragonchain
-//    DRM,	// Dreamcoin
-//    DROP,	// Dropil
-//    DRP,	// DCORP
-//    DRPU,	// DCORP Utility
-//    DRS,	// Digital Rupees
-//    DRT,	// DomRaider
-//    DRXNE,	// DROXNE
-//    DSH,	// Dashcoin
-//    DSR,	// Desire
-//    DTA,	// DATA
-//    DTB,	// Databits
-//    DTC,	// Datacoin
-//    DTH,	// Dether
-//    DTR,	// Dynamic Tradi...
-//    DTRC,	// Datarius Credit
-//    DTX,	// DaTa eXchange
-//    DUO,	// ParallelCoin
-//    DXT,	// Datawallet
-//    DYN,	// Dynamic
-//    EAC,	// EarthCoin
-//    EAGLE,	// EagleCoin
-//    EARTH,	// Earth Token
-//    EBCH,	// EBCH
-//    EBET,	// EthBet
-//    EBST,	// eBoost
-//    EBT,	// Ebittree Coin
-//    EBTC,	// eBitcoin
-//    ECA,	// Electra
-//    ECASH,	// Ethereum Cash
-//    ECC,	// ECC
-//    ECN,	// E-coin
-//    ECO,	// EcoCoin
-//    ECOB,	// Ecobit
-//    EDG,	// Edgeless
-//    EDO,	// Eidoo
-//    EDR,	// Endor Protocol
-//    EFL,	// e-Gulden
-//    EFX,	// Effect.AI
-//    EFYT,	// Ergo
-//    EGC,	// EverGreenCoin
-//    EGT,	// Egretia
-//    EKO,	// EchoLink
-//    EKT,	// EDUCare
-//    EL,	// Elcoin
-//    ELA,	// Elastos
-//    ELC,	// Elacoin
-//    ELE,	// Elementrem
-//    ELEC,	// Electrify.Asia
-//    ELF,	// aelf
-//    ELIX,	// Elixir
-//    ELLA,	// Ellaism
-//    ELS,	// Elysium
-//    ELTCOIN,	// ELTCOIN
-//    ELY,	// Elysian
-//    EMC,	// Emercoin
-//    EMC2,	// Einsteinium
-//    EMD,	// Emerald Crypto
-//    EMPR,	// empowr coin
-//    EMV,	// Ethereum Movi...
-//    ENG,	// Enigma
-//    ENJ,	// Enjin Coin
-//    ENRG,	// Energycoin
-//    ENT,	// Eternity
-//    EOS,	// EOS
-//    EOSDAC,	// eosDAC
-//    EOT,	// EOT Token
-//    EPY,	// Emphy
-//    EQL,	// Equal
-//    EQT,	// EquiTrader
-//    ERA,	// ERA
-//    ERC,	// EuropeCoin
-//    ERO,	// Eroscoin
-//    ERY,	// Eryllium
-//    ESC,	// Escroco
-//    ESP,	// Espers
-//    ESS,
-//    ESZ,	// EtherSportz
-//    ETBS,	// Ethbits
-//    ETC,	// Ethereum Classic
-//    ETG,	// Ethereum Gold
-    ETH,	// Ethereum
-//    ETHD,	// Ethereum Dark
-//    ETHOS,	// Ethos
-//    ETK,	// EnergiToken
-//    ETN,	// Electroneum
-//    ETP,	// Metaverse ETP
-//    ETT,	// EncryptoTel [...
-//    EUC,	// Eurocoin
-//    EUR,
-//    EVC,	// EventChain
-//    EVE,	// Devery
-//    EVIL,	// Evil Coin
-//    EVN,	// Envion
-//    EVO,	// Evotion
-//    EVR,	// Everus
-//    EVT,
-//    EVX,	// Everex
-//    EXC,	// Eximchain
-//    EXCL,	// ExclusiveCoin
-//    EXN,	// ExchangeN
-//    EXP,	// Expanse
-//    EXRN,	// EXRNchain
-//    EXY,	// Experty
-//    EZT,	// EZToken
-//    FACE,	// Faceter
-//    FAIR,	// FairCoin
-//    FANS,	// Fantasy Cash
-//    FC2,	// FuelCoin
-//    FCN,	// Fantomcoin
-//    FCT,	// Factom
-//    FDX,	// FidentiaX
-//    FDZ,	// Friendz
-//    FGC,	// FantasyGold
-//    FID,	// Fidelium
-//    FIMK,	// FIMKrypto
-//    FIRE,	// Firecoin
-//    FJC,	// FujiCoin
-//    FLAP,	// FlappyCoin
-//    FLASH,	// Flash
-//    FLAX,	// Flaxscript
-//    FLDC,	// FoldingCoin
-//    FLIK,	// FLiK
-//    FLIXX,	// Flixxo
-//    FLO,	// FlorinCoin
-//    FLP,	// FLIP
-//    FLT,	// FlutterCoin
-//    FLUZ,	// Fluz Fluz
-//    FLY,	// Flycoin
-//    FNC,	// FinCoin
-//    FND,	// FundRequest
-//    FOR,	// FORCE
-//    FOTA,	// Fortuna
-//    FRC,	// Freicoin
-//    FRD,	// Farad
-//    FRST,	// FirstCoin
-//    FRV,	// Fitrova
-//    FSBT,	// Forty Seven Bank
-//    FSN,	// Fusion
-//    FST,	// Fastcoin
-//    FT,	// Fabric Token
-//    FTC,	// Feathercoin
-//    FTX,	// FintruX Network
-//    FUCK,	// FuckToken
-//    FUEL,	// Etherparty
-//    FUN,	// FunFair
-//    FUNC,	// FUNCoin
-//    FUNK,	// The Cypherfunks
-//    FUZZ,	// FuzzBalls
-//    FXE,	// FuturXe
-//    FXT,	// FuzeX
-//    FYN,	// FundYourselfNow
-//    FYP,	// FlypMe
-//    GAIA,	// GAIA
-//    GAM,	// Gambit
-//    GAME,	// GameCredits
-//    GAP,	// Gapcoin
-//    GAS,	// Gas
-//    GAT,	// Gatcoin
-//    GB,	// GoldBlocks
-//    GBC,	// GBCGoldCoin
-//    GBG,
-//    GBP,
-//    GBX,	// GoByte
-//    GBYTE,	// Byteball Bytes
-//    GCC,	// GuccioneCoin
-//    GCN,	// GCN Coin
-//    GCR,	// Global Curren...
-//    GEERT,	// GeertCoin
-//    GEM,	// Gems
-//    GEN,	// DAOstack
-//    GENE,	// Parkgene
-//    GEO,	// GeoCoin
-//    GET,	// GET Protocol
-//    GETX,	// Guaranteed Et...
-//    GIN,	// GINcoin
-//    GJC,	// Global Jobcoin
-//    GLA,	// Gladius Token
-//    GLC,	// GlobalCoin
-//    GLD,	// GoldCoin
-//    GLS,	// GlassCoin
-//    GLT,	// GlobalToken
-//    GMT,	// Mercury Protocol
-//    GNO,	// Gnosis
-//    GNT,	// Golem
-//    GNX,	// Genaro Network
-//    GO,	// GoChain
-//    GOLF,	// Golfcoin
-//    GOLOS,	// Golos
-//    GOOD,	// Goodomy
-//    GOT,	// GoNetwork
-//    GP,	// GoldPieces
-//    GPL,	// Gold Pressed ...
-//    GPU,	// GPU Coin
-//    GRC,	// GridCoin
-//    GRE,	// Greencoin
-//    GRFT,	// Graft
-//    GRID,	// Grid+
-//    GRIM,	// Grimcoin
-//    GRLC,	// Garlicoin
-//    GRMD,	// GreenMed
-//    GRN,	// Granite
-//    GRS,	// Groestlcoin
-//    GRWI,	// Growers Inter...
-//    GSR,	// GeyserCoin
-//    GTC,	// Game.com
-//    GTO,	// Gifto
-//    GUESS,	// Peerguess
-//    GUN,	// Guncoin
-//    GUP,	// Matchpool
-//    GVT,	// Genesis Vision
-//    GXS,	// GXChain
-//    HAC,	// Hackspace Cap...
-//    HADE,	// Hade Platform
-//    HAL,	// Halcyon
-//    HAT,	// Hat.Exchange
-//    HAV,	// Havven
-//    HBC,	// HomeBlockCoin
-//    HBN,	// HoboNickels
-//    HBT,	// Hubii Network
-//    HBZ,	// Helbiz
-//    HC,	// Harvest Maste...
-//    HDG,	// Hedge
-//    HEAT,	// HEAT
-//    HER,	// HeroNode
-//    HERO,	// Sovereign Hero
-//    HGT,	// HelloGold
-//    HIRE,	// HireMatch
-//    HKN,	// Hacken
-//    HMC,	// Hi Mutual Soc...
-//    HMP,	// HempCoin
-//    HMQ,	// Humaniq
-//    HNC,	// Helleniccoin
-//    HODL,	// HOdlcoin
-//    HOLD,	// Stellar Holdings
-//    HONEY,	// Honey
-//    HORSE,	// Ethorse
-//    HOT,	// Holo
-//    HOT2,	// Hydro Protocol
-//    HPB,	// High Performa...
-//    HPC,	// Happycoin
-//    HQX,	// HOQU
-//    HSR,	// Hshare
-//    HST,	// Decision Token
-//    HT,	// Huobi Token
-//    HTC,	// HitCoin
-//    HTML,	// HTMLCOIN
-//    HUC,	// HunterCoin
-//    HUR,	// Hurify
-//    HUSH,	// Hush
-//    HVCO,	// High Voltage
-//    HVN,	// Hive Project
-//    HWC,	// HollyWoodCoin
-//    HXX,	// Hexx
-//    HYDRO,	// Hydro
-//    HYP,	// HyperStake
-//    I0C,	// I0Coin
-//    IBANK,	// iBank
-//    IC,	// Ignition
-//    ICE,	// iDice
-//    ICN,	// Iconomi
-//    ICN2,	// iCoin
-//    ICOB,	// ICOBID
-//    ICON,	// Iconic
-//    ICOO,	// ICO OpenLedger
-//    ICOS,	// ICOS
-//    ICX,	// ICON
-//    IDH,	// indaHash
-//    IDXM,	// IDEX Membership
-//    IETH,	// iEthereum
-//    IFLT,	// InflationCoin
-//    IFT,	// InvestFeed
-//    IGNIS,	// Ignis
-//    IHT,	// IHT Real Esta...
-//    IMS,	// Independent M...
-//    IMX,	// Impact
-//    INCNT,	// Incent
-//    IND,	// Indorse Token
-//    INFX,	// Influxcoin
-//    ING,	// Iungo
-//    INK,	// Ink
-//    INN,	// Innova
-//    INPAY,	// InPay
-//    INS,	// INS Ecosystem
-//    INSN,	// InsaneCoin
-//    INSTAR,	// Insights Network
-//    INT,	// Internet Node...
-//    INV,	// Invacio
-//    INXT,	// Internxt
-//    IOC,	// I/O Coin
-//    ION,	// ION
-//    IOP,	// Internet of P...
-//    IOS,
-//    IOST,	// IOST
-//    IOT,	// IOTA
-//    IOTX,	// IoTeX
-//    IPBC,	// Interplanetar...
-//    IPL,	// InsurePal
-//    IPSX,	// IP Exchange
-//    IQX,
-//    IRL,	// IrishCoin
-//    ISL,	// IslaCoin
-//    ITC,	// IoT Chain
-//    ITI,	// iTicoin
-//    ITNS,	// IntenseCoin
-//    ITT,	// Intelligent T...
-//    ITZ,	// Interzone
-//    IVY,	// Ivy
-//    IXC,	// Ixcoin
-//    IXT,	// IXT
-//    J8T,	// JET8
-//    JC,	// Jesus Coin
-//    JET,	// Jetcoin
-//    JEW,	// Shekel
-//    JIN,	// Jin Coin
-//    JIYO,	// Jiyo
-//    JNT,	// Jibrel Network
-//    JOBS,	// JobsCoin
-//    JOT,	// Jury.Online T...
-//    JPY,
-//    JS,	// JavaScript Token
-//    JWL,	// Jewels
-//    KAYI,	// Kayicoin
-//    KB3,	// B3Coin
-//    KBR,	// Kubera Coin
-//    KCS,	// KuCoin Shares
-//    KED,	// Darsek
-//    KEK,	// KekCoin
-//    KEY,	// Selfkey
-//    KICK,	// KickCoin
-//    KIN,	// Kin
-//    KLC,	// KiloCoin
-//    KLN,	// Kolion
-//    KMD,	// Komodo
-//    KNC,	// Kyber Network
-//    KNC2,	// KingN Coin
-//    KNDC,	// KanadeCoin
-//    KOBO,	// Kobocoin
-//    KORE,	// Kore
-//    KRB,	// Karbo
-//    KRL,	// Kryll
-//    KRM,	// Karma
-//    KRONE,	// Kronecoin
-//    KURT,	// Kurrent
-//    KUSH,	// KushCoin
-//    KZC,	// Kzcash
-//    LA,	// LATOKEN
-//    LALA,	// LALA World
-//    LANA,	// LanaCoin
-//    LATX,	// LatiumX
-//    LBA,	// Libra Credit
-//    LBC,	// LBRY Credits
-//    LBTC,	// LiteBitcoin
-//    LCC,	// Litecoin Cash
-//    LCP,	// Litecoin Plus
-//    LCT,	// LendConnect
-//    LDC,	// Leadcoin
-//    LDOGE,	// LiteDoge
-//    LEA,	// LeaCoin
-//    LEAF,	// LeafCoin
-//    LEDU,	// Education Eco...
-//    LEND,	// ETHLend
-//    LEO,	// LEOcoin
-//    LET,	// LinkEye
-//    LEV,	// Leverj
-//    LGD,	// Legends Room
-//    LGO,	// LGO Exchange
-//    LIFE,	// LIFE
-//    LINDA,	// Linda
-//    LINK,	// ChainLink
-//    LINX,	// Linx
-//    LIR,	// LetItRide
-//    LIVE,	// Live Stars
-//    LKK,	// Lykke
-//    LMC,	// LoMoCoin
-//    LNC,	// Blocklancer
-//    LND,	// Lendingblock
-//    LNK,	// Link Platform
-//    LOC,	// LockTrip
-//    LOCI,	// LOCIcoin
-//    LOG,	// Woodcoin
-//    LOKI,	// Loki
-//    LOOM,	// Loom Network
-//    LPC,	// Lightpaycoin
-//    LRC,	// Loopring
-//    LSK,	// Lisk
-//    LTB,	// LiteBar
-    LTC,	// Litecoin
-//    LTCR,	// Litecred
-//    LTCU,	// LiteCoin Ultra
-//    LUN,	// Lunyr
-//    LUNA,	// Luna Coin
-//    LUX,	// LUXCoin
-//    LVPS,	// LevoPlus
-//    LWF,	// Local World F...
-//    LYL,	// LoyalCoin
-//    LYM,	// Lympo
-//    MAC,	// Machinecoin
-//    MAD,	// SatoshiMadness
-//    MAG,	// Magnet
-//    MAGE,	// MagicCoin
-//    MAID,	// MaidSafeCoin
-//    MAN,	// Matrix AI Net...
-//    MANA,	// Decentraland
-//    MANNA,	// Manna
-//    MAO,	// Mao Zedong
-//    MAR,	// Marijuanacoin
-//    MARS,	// Marscoin
-//    MAX,	// MaxCoin
-//    MAY,	// Theresa May Coin
-//    MAZA,	// MAZA
-//    MBI,	// Monster Byte
-//    MBRS,	// Embers
-//    MCAP,	// MCAP
-//    MCI,	// Musiconomi
-//    MCO,	// MCO
-//    MCRN,	// MACRON
-//    MDA,	// Moeda Loyalty...
-//    MDC,	// Madcoin
-//    MDS,	// MediShares
-//    MDT,	// Measurable Da...
-//    MEC,	// Megacoin
-//    MED,	// MediBloc [QRC20]
-//    MEDIC,	// MedicCoin
-//    MEDX,	// MediBloc [ERC20]
-//    MEE,	// CoinMeet
-//    MEET,	// CoinMeet
-//    MEME,	// Memetic / Pep...
-//    MER,	// Mercury
-//    MET,	// Metronome
-//    METAL,	// MetalCoin
-//    MFG,	// SyncFab
-//    MFT,	// Mainframe
-//    MGM,	// Magnum
-//    MGO,	// MobileGo
-//    MILO,	// MiloCoin
-//    MINT,	// Mintcoin
-//    MIT,
-//    MITH,	// Mithril
-//    MITX,	// Morpheus Labs
-//    MKR,	// Maker
-//    MLM,	// MktCoin
-//    MLN,	// Melon
-//    MNA,
-//    MNC,	// Mincoin
-//    MND,	// MindCoin
-//    MNE,	// Minereum
-//    MNM,	// Mineum
-//    MNTP,	// GoldMint
-//    MNX,	// MinexCoin
-//    MOAC,	// MOAC
-//    MOBI,	// Mobius
-//    MOC,	// Mossland
-//    MOD,	// Modum
-//    MOIN,	// Moin
-//    MOJO,	// MojoCoin
-//    MONA,	// MonaCoin
-//    MONK,	// Monkey Project
-//    MOON,	// Mooncoin
-//    MORE,	// More Coin
-//    MORPH,	// Morpheus Network
-//    MOT,	// Olympus Labs
-//    MOTO,	// Motocoin
-//    MRJA,	// GanjaCoin
-//    MRK,	// MARK.SPACE
-//    MRT,	// Miners' Rewar...
-//    MSCN,	// Master Swiscoin
-//    MSP,	// Mothership
-//    MSR,	// Masari
-//    MST,	// MustangCoin
-//    MTC,	// Docademic
-//    MTH,	// Monetha
-//    MTL,	// Metal
-//    MTN,	// Medicalchain
-//    MTNC,	// Masternodecoin
-//    MTX,	// Matryx
-//    MUE,	// MonetaryUnit
-//    MUSE,	// MUSE
-//    MUSIC,	// Musicoin
-//    MVC,	// Maverick Chain
-//    MVP,	// Merculet
-//    MWAT,	// Restart Energ...
-//    MXT,	// MarteXcoin
-//    MYB,	// MyBit Token
-//    MYST,	// Mysterium
-//    MZC,	// MAZA
-//    NANJ,	// NANJCOIN
-//    NANO,	// Nano
-//    NANOX,	// Project-X
-//    NAS,	// Nebulas
-//    NAV,	// NavCoin
-//    NAVI,	// Naviaddress
-//    NBAI,	// Nebula AI
-//    NBT,
-//    NCA,
-//    NCASH,	// Nucleus Vision
-//    NCT,	// PolySwarm
-//    NDC,	// NEVERDIE
-//    NEBL,	// Neblio
-//    NEC,	// Nectar
-//    NEO,	// NEO
-//    NEOS,	// NeosCoin
-//    NET,	// Nimiq Exchang...
-//    NET2,	// NetCoin
-//    NETKO,	// Netko
-//    NEU,	// Neumark
-//    NEVA,	// NevaCoin
-//    NEWB,	// Newbium
-//    NEXO,	// Nexo
-//    NGC,	// NAGA
-//    NIO,	// Autonio
-//    NKA,	// IncaKoin
-//    NKC,	// Nework
-//    NKN,	// NKN
-//    NLC2,	// NoLimitCoin
-//    NLG,	// Gulden
-//    NLX,	// Nullex
-//    NMC,	// Namecoin
-//    NMR,	// Numeraire
-//    NMS,	// Numus
-//    NOAH,	// Noah Coin
-//    NOBL,	// NobleCoin
-//    NODC,	// NodeCoin
-//    NOTE,	// DNotes
-//    NOX,	// Nitro
-//    NPER,	// NPER
-//    NPX,	// NaPoleonX
-//    NRO,	// Neuro
-//    NSR,	// NuShares
-//    NTK,	// Neurotoken
-//    NTO,	// Fujinto
-//    NTRN,	// Neutron
-//    NTWK,	// Network Token
-//    NTY,	// Nexty
-//    NUKO,	// Nekonium
-//    NULS,	// Nuls
-//    NVC,	// Novacoin
-//    NVST,	// NVO
-//    NXC,	// Nexium
-//    NXS,	// Nexus
-//    NXT,	// Nxt
-//    NXX,	// Nexxus
-//    NYAN,	// Nyancoin
-//    NYC,	// NewYorkCoin
-//    OAX,	// OAX
-//    OBITS,	// OBITS
-//    OCC,	// Octoin Coin
-//    OCL,	// Oceanlab
-//    OCN,	// Odyssey
-//    OCT,	// OracleChain
-//    ODE,	// ODEM
-//    ODN,	// Obsidian
-//    OFF,	// Cthulhu Offer...
-//    OK,	// OKCash
-//    OLE,	// Olive
-//    OMG,	// OmiseGO
-//    OMNI,	// Omni
-//    OMX,	// Shivom
-//    ONG,	// onG.social
-//    ONION,	// DeepOnion
-//    ONL,	// On.Live
-//    ONT,	// Ontology
-//    ONX,	// Onix
-//    OOT,	// Utrum
-//    OPAL,	// Opal
-//    OPC,	// OP Coin
-//    OPT,	// Opus
-//    ORB,	// Orbitcoin
-//    ORE,	// Galactrum
-//    ORI,	// Origami
-//    ORLY,	// Orlycoin
-//    ORME,	// Ormeus Coin
-//    ORS,	// Origin Sport
-//    OST,	// OST
-//    OTN,	// Open Trading ...
-//    OTX,	// Octanox
-//    OXY,	// Oxycoin
-//    PAC,	// PACcoin
-//    PAI,	// PCHAIN
-//    PAK,	// Pakcoin
-//    PAL,	// PolicyPal Net...
-//    PARETO,	// Pareto Network
-//    PART,	// Particl
-//    PASC,	// Pascal Coin
-//    PASL,	// Pascal Lite
-//    PAT,	// Patron
-//    PAY,	// TenX
-//    PAYX,	// Paypex
-//    PBL,	// Publica
-//    PBT,	// Primalbase Token
-//    PCH,	// POPCHAIN
-//    PCL,	// Peculium
-//    PCN,	// PeepCoin
-//    PCOIN,	// Pioneer Coin
-//    PDC,	// Project Decorum
-//    PEPECASH,	// Pepe Cash
-//    PEX,	// PosEx
-//    PFR,	// Payfair
-//    PGL,	// Prospectors Gold
-//    PHI,	// PHI Token
-//    PHO,	// Photon
-//    PHR,	// Phore
-//    PHS,	// Philosopher S...
-//    PIE,	// PIECoin
-//    PIGGY,	// Piggycoin
-//    PING,	// CryptoPing
-//    PINK,	// PinkCoin
-//    PIPL,	// PiplCoin
-//    PIRL,	// Pirl
-//    PIVX,	// PIVX
-//    PIX,	// Lampix
-//    PIZZA,	// PizzaCoin
-//    PKB,	// ParkByte
-//    PKC,	// PikcioChain
-//    PKT,	// Playkey
-//    PLACO,	// PlayerCoin
-//    PLAN,	// Plancoin
-//    PLAY,	// HEROcoin
-//    PLBT,	// Polybius
-//    PLC,	// Polcoin
-//    PLNC,	// PLNcoin
-//    PLR,	// Pillar
-//    PLU,	// Pluton
-//    PMNT,	// Paymon
-//    PND,	// Pandacoin
-//    PNX,	// Phantomx
-//    POA,	// POA Network
-//    POE,	// Po.et
-//    POLIS,	// Polis
-//    POLL,	// ClearPoll
-//    POLY,	// Polymath
-//    POP,	// PopularCoin
-//    POS,	// PoSToken
-//    POST,	// PostCoin
-//    POSW,	// PoSW Coin
-//    POT,	// PotCoin
-//    POWR,	// Power Ledger
-//    POY,
-//    PPC,	// Peercoin
-//    PPP,	// PayPie
-//    PPT,	// Populous
-//    PPY,	// Peerplays
-//    PR,	// Prototanium
-//    PRA,	// ProChain
-//    PRC,	// PRCoin
-//    PRE,	// Presearch
-//    PRG,	// Paragon
-//    PRIX,	// Privatix
-//    PRL,	// Oyster
-//    PRO,	// Propy
-//    PROC,	// ProCurrency
-//    PRX,	// Printerium
-//    PST,	// Primas
-//    PTC,	// Pesetacoin
-//    PTOY,	// Patientory
-//    PTT,	// Proton Token
-//    PULSE,	// Pulse
-//    PURA,	// Pura
-//    PURE,	// Pure
-//    PUT,	// PutinCoin
-//    PX,	// PX
-//    PXC,	// Phoenixcoin
-//    PXI,	// Prime-XI
-//    PYLNT,	// Pylon Network
-//    PZM,	// PRIZM
-//    Q2C,	// QubitCoin
-//    QASH,	// QASH
-//    QAU,	// Quantum
-//    QBC,	// Quebecoin
-//    QBIC,	// Qbic
-//    QBT,	// Qbao
-//    QCN,	// QuazarCoin
-//    QKC,	// QuarkChain
-//    QLC,	// QLINK
-//    QRK,	// Quark
-//    QRL,	// Quantum Resis...
-//    QSH,
-//    QSP,	// Quantstamp
-//    QTL,	// Quatloo
-//    QTM,
-//    QTUM,	// Qtum
-//    QUN,	// QunQun
-//    QVT,	// Qvolta
-//    QWARK,	// Qwark
-//    R,	// Revain
-//    RADS,	// Radium
-//    RAIN,	// Condensate
-//    RBIES,	// Rubies
-//    RBT,	// Rimbit
-//    RBX,	// Ripto Bux
-//    RBY,	// Rubycoin
-//    RC,	// RussiaCoin
-//    RCN,	// Ripio Credit ...
-//    RCT,	// RealChain
-//    RDD,	// ReddCoin
-//    RDN,	// Raiden Networ...
-//    REAL,	// REAL
-//    REBL,	// REBL
-//    REC,	// Regalcoin
-//    RED,	// RedCoin
-//    REE,	// ReeCoin
-//    REF,	// RefToken
-//    REM,	// Remme
-//    REN,	// Republic Prot...
-//    REP,	// Augur
-//    REQ,	// Request Network
-//    REX,	// imbrex
-//    RFR,	// Refereum
-//    RHOC,	// RChain
-//    RIC,	// Riecoin
-//    RIDE,	// Ride My Car
-//    RISE,	// Rise
-//    RIYA,	// Etheriya
-//    RKC,	// Royal Kingdom...
-//    RKT,	// Rock
-//    RLC,	// iExec RLC
-//    RLT,	// RouletteToken
-//    RMC,	// Russian Miner...
-//    RMC2,	// Remicoin
-//    RMT,	// SureRemit
-//    RNS,	// Renos
-//    RNT,	// OneRoot Network
-//    RNTB,	// BitRent
-//    ROOFS,	// Roofs
-//    RPC,	// RonPaulCoin
-//    RPX,	// Red Pulse
-//    RRT,
-//    RTB,	// AB-Chain RTB
-//    RTE,	// Rate3
-//    RUFF,	// Ruff
-//    RUP,	// Rupee
-//    RUPX,	// Rupaya
-//    RUSTBITS,	// Rustbits
-//    RVN,	// Ravencoin
-//    RVR,	// RevolutionVR
-//    RVT,	// Rivetz
-//    SAC,	// SACoin
-//    SAFEX,	// Safe Exchange...
-//    SAGA,	// SagaCoin
-//    SALT,	// SALT
-//    SAN,	// Santiment Net...
-//    SANDG,	// Save and Gain
-//    SBD,	// Steem Dollars
-//    SC,	// Siacoin
-//    SCL,	// Sociall
-//    SCORE,	// Scorecoin
-//    SCRL,	// Scroll
-//    SCRT,	// SecretCoin
-//    SCS,	// SpeedCash
-//    SCT,	// Soma
-//    SDC,	// ShadowCash
-//    SDRN,	// Senderon
-//    SEE,
-//    SEN,
-//    SENC,	// Sentinel Chain
-//    SEND,	// Social Send
-//    SENSE,	// Sense
-//    SENT,	// Sentinel
-//    SEQ,	// Sequence
-//    SETH,	// Sether
-//    SEXC,	// ShareX
-//    SFC,	// Solarflarecoin
-//    SGN,	// Signals Network
-//    SGR,	// Sugar Exchange
-//    SH,	// Shilling
-//    SHDW,	// Shadow Token
-//    SHIFT,	// Shift
-//    SHIP,	// ShipChain
-//    SHL,	// Oyster Shell
-//    SHND,	// StrongHands
-//    SHORTY,	// Shorty
-//    SHP,	// Sharpe Platfo...
-//    SIB,	// SIBCoin
-//    SIG,	// Spectiv
-//    SIGT,	// Signatum
-//    SKB,	// Sakura Bloom
-//    SKC,	// Skeincoin
-//    SKIN,	// SkinCoin
-//    SKY,	// Skycoin
-//    SLEVIN,	// Slevin
-//    SLG,	// Sterlingcoin
-//    SLM,	// Slimcoin
-//    SLR,	// SolarCoin
-//    SLS,	// SaluS
-//    SLT,	// Smartlands
-//    SMART,	// SmartCash
-//    SMC,	// SmartCoin
-//    SMLY,	// SmileyCoin
-//    SMS,	// Speed Mining ...
-//    SMT,	// SmartMesh
-//    SNC,	// SunContract
-//    SNG,
-//    SNGLS,	// SingularDTV
-//    SNM,	// SONM
-//    SNOV,	// Snovio
-//    SNRG,	// Synergy
-//    SNT,	// Status
-//    SNTR,	// Silent Notary
-//    SOAR,	// Soarcoin
-//    SOC,	// All Sports
-//    SOCC,	// SocialCoin
-//    SOIL,	// SOILcoin
-//    SOJ,	// Sojourn
-//    SONG,	// SongCoin
-//    SOON,	// SoonCoin
-//    SOUL,	// Phantasma
-//    SPACE,	// SpaceCoin
-//    SPANK,	// SpankChain
-//    SPC,	// SpaceChain
-//    SPD,	// Stipend
-//    SPEX,	// SproutsExtreme
-//    SPF,	// SportyCo
-//    SPHR,	// Sphere
-//    SPHTX,	// SophiaTX
-//    SPK,	// Sparks
-//    SPR,	// SpreadCoin
-//    SPRTS,	// Sprouts
-//    SPT,	// Spots
-//    SRC,	// SecureCoin
-//    SRCOIN,	// SRCOIN
-//    SRN,	// SIRIN LABS Token
-//    SS,	// Sharder
-//    SSC,	// SelfSell
-//    SSP,	// Smartshare
-//    SSS,	// Sharechain
-//    STA,	// Starta
-//    STAC,	// StarterCoin
-//    STAK,	// STRAKS
-//    STAR,	// Starbase
-//    STARS,	// StarCash Network
-//    START,	// Startcoin
-//    STEEM,	// Steem
-//    STJ,
-//    STK,	// STK
-//    STN,	// Steneum Coin
-//    STORJ,	// Storj
-//    STORM,	// Storm
-//    STQ,	// Storiqa
-//    STR,
-//    STRAT,	// Stratis
-//    STRC,	// StarCredits
-//    STU,	// bitJob
-//    STV,	// Sativacoin
-//    STX,	// Stox
-//    SUB,	// Substratum
-//    SUMO,	// Sumokoin
-//    SUPER,	// SuperCoin
-//    SUR,	// Suretly
-//    SWFTC,	// SwftCoin
-//    SWH,	// Switcheo
-//    SWIFT,	// Bitswift
-//    SWING,	// Swing
-//    SWM,	// Swarm
-//    SWT,	// Swarm City
-//    SWTH,	// Switcheo
-//    SXC,	// Sexcoin
-//    SXDT,	// Spectre.ai Di...
-//    SXUT,	// Spectre.ai Ut...
-//    SYNX,	// Syndicate
-//    SYS,	// Syscoin
-//    TAAS,	// TaaS
-//    TAG,	// TagCoin
-//    TAJ,	// TajCoin
-//    TALK,	// BTCtalkcoin
-//    TAU,	// Lamden
-//    TBAR,	// Titanium BAR
-//    TBX,	// Tokenbox
-//    TCC,	// The ChampCoin
-//    TCT,	// TokenClub
-//    TDS,	// TokenDesk
-//    TDX,	// Tidex Token
-//    TEAM,	// TEAM (TokenSt...
-//    TEK,	// TEKcoin
-//    TEL,	// Telcoin
-//    TEN,	// Tokenomy
-//    TERN,	// Ternio
-//    TES,	// TeslaCoin
-//    TFD,	// TE-FOOD
-//    TFL,	// TrueFlip
-//    TGAME,	// Truegame
-//    TGC,	// Tigercoin
-//    TGT,	// Target Coin
-//    THC,	// HempCoin
-//    THETA,	// Theta Token
-//    THRT,	// Thrive Token
-//    TIE,	// Ties.DB
-//    TIG,	// Tigereum
-//    TIME,	// Chronobank
-//    TIO,	// Trade Token
-//    TIPS,	// FedoraCoin
-//    TIT,	// Titcoin
-//    TIX,	// Blocktix
-//    TKA,	// Tokia
-//    TKN,	// TokenCard
-//    TKR,	// CryptoInsight
-//    TKS,	// Tokes
-//    TKY,	// THEKEY
-//    TNB,	// Time New Bank
-//    TNC,	// Trinity Netwo...
-//    TNS,	// Transcodium
-//    TNT,	// Tierion
-//    TOA,	// ToaCoin
-//    TOK,	// Tokugawa
-//    TOKC,	// TOKYO
-//    TOMO,	// TomoChain
-//    TOR,	// Torcoin
-//    TPAY,	// TokenPay
-//    TRAC,	// OriginTrail
-//    TRAK,	// TrakInvest
-//    TRC,	// Terracoin
-//    TRCT,	// Tracto
-//    TRDT,	// Trident Group
-//    TRF,	// Travelflex
-//    TRI,	// Triangles
-//    TRIA,	// Triaconta
-//    TRIG,	// Triggers
-//    TRK,	// Truckcoin
-//    TROLL,	// Trollcoin
-//    TRST,	// WeTrust
-//    TRTL,	// Turtlecoin
-//    TRUE,	// True Chain
-//    TRUMP,	// TrumpCoin
-//    TRUST,	// TrustPlus
-//    TRX,	// TRON
-//    TSE,	// Tattoocoin (S...
-//    TSL,	// Energo
-//    TSTR,	// Tristar Coin
-//    TTC,	// TittieCoin
-//    TTT,	// TrustNote
-//    TTU,	// TaTaTu
-//    TUBE,	// BitTube
-//    TUSD,	// TrueUSD
-//    TX,	// TransferCoin
-//    TYCHO,	// Tychocoin
-//    TZC,	// TrezarCoin
-//    UBQ,	// Ubiq
-//    UBT,	// Unibright
-//    UCASH,	// U.CASH
-//    UCOM,	// United Crypto...
-//    UET,	// Useless Ether...
-//    UFO,	// Uniform Fisca...
-//    UFR,	// Upfiring
-//    UGC,	// ugChain
-//    UIS,	// Unitus
-//    UKG,	// Unikoin Gold
-//    ULA,	// Ulatech
-//    UNB,	// UnbreakableCoin
-//    UNI,	// Universe
-//    UNIC,	// UniCoin
-//    UNIFY,	// Unify
-//    UNIT,	// Universal Cur...
-//    UNITS,	// GameUnits
-//    UNITY,	// SuperNET
-//    UNO,	// Unobtanium
-//    UNY,	// Unity Ingot
-//    UP,	// UpToken
-//    UPP,	// Sentinel Prot...
-//    UQC,	// Uquid Coin
-//    URO,	// Uro
-//    USC,	// Ultimate Secu...
-//    USD,
-//    USDT,	// Tether
-//    USNBT,	// NuBits
-//    UTC,	// UltraCoin
-//    UTK,	// UTRUST
-//    UTNP,	// Universa
-//    UTT,	// United Trader...
-//    UUU,	// U Network
-//    V,	// Version
-//    VAL,	// Valorbit
-//    VC,	// VirtualCoin
-//    VEC2,	// VectorAI
-//    VEE,	// BLOCKv
-//    VEN,	// VeChain
-//    VERI,	// Veritaseum
-//    VIA,	// Viacoin
-//    VIB,	// Viberate
-//    VIBE,	// VIBE
-//    VIDZ,	// PureVidz
-//    VISIO,	// Visio
-//    VIT,	// Vice Industry...
-//    VITE,	// VITE
-//    VIU,	// Viuly
-//    VIVO,	// VIVO
-//    VLT,	// Veltor
-//    VLTC,	// Vault Coin
-//    VME,	// VeriME
-//    VOISE,	// Voise
-//    VOLT,	// Bitvolt
-//    VOT,	// VoteCoin
-//    VOX,	// Voxels
-//    VPRC,	// VapersCoin
-//    VRC,	// VeriCoin
-//    VRM,	// VeriumReserve
-//    VRS,	// Veros
-//    VSL,	// vSlice
-//    VSX,	// Vsync
-//    VTA,	// Virtacoin
-//    VTC,	// Vertcoin
-//    VTR,	// vTorrent
-//    VUC,	// Virta Unique ...
-//    VULC,	// Vulcano
-//    VZT,	// Vezt
-//    WABI,	// WaBi
-//    WAN,	// Wanchain
-//    WAND,	// WandX
-//    WARP,	// WARP
-//    WAVES,	// Waves
-//    WAX,	// WAX
-//    WAY,	// WayGuide
-//    WBB,	// Wild Beast Block
-//    WCT,	// Waves Communi...
-//    WDC,	// WorldCoin
-//    WGO,	// WavesGo
-//    WGR,	// Wagerr
-//    WHL,	// WhaleCoin
-//    WICC,	// WaykiChain
-//    WILD,	// Wild Crypto
-//    WIN,	// WCOIN
-//    WINGS,	// Wings
-//    WISH,	// MyWish
-//    WOMEN,	// WomenCoin
-//    WORM,	// HealthyWormCoin
-//    WPR,	// WePower
-//    WRC,	// Worldcore
-//    WSX,	// WeAreSatoshi
-//    WTC,	// Waltonchain
-//    WTT,	// Giga Watt Token
-//    XAS,	// Asch
-//    XAUR,	// Xaurum
-//    XBC,	// Bitcoin Plus
-//    XBL,	// Billionaire T...
-//    XBP,	// BlitzPredict
-//    XBTC21,	// Bitcoin 21
-//    XBTS,	// Beatcoin
-//    XBY,	// XTRABYTES
-//    XCN,	// Cryptonite
-//    XCO,	// X-Coin
-//    XCP,	// Counterparty
-//    XCPO,	// Copico
-//    XCRE,	// Creatio
-//    XCT,	// C-Bit
-//    XCXT,	// CoinonatX
-//    XDCE,	// XinFin Network
-//    XDG,
-//    XDN,	// DigitalNote
-//    XEL,	// Elastic
-//    XEM,	// NEM
-//    XES,	// Proxeus
-//    XFT,	// Footy Cash
-//    XGOX,	// XGOX
-//    XGR,	// GoldReserve
-//    XHI,	// HiCoin
-//    XHV,	// Haven Protocol
-//    XIN,	// Mixin
-//    XIOS,	// Xios
-//    XJO,	// Joulecoin
-//    XLC,	// Leviar
-//    XLM,	// Stellar
-//    XLR,	// Solaris
-//    XMCC,	// Monoeci
-//    XMCT,	// XMCT
-//    XMG,	// Magi
-//    XMR,	// Monero
-//    XMX,	// XMax
-//    XMY,	// Myriad
-//    XNG,	// Enigma
-//    XNK,	// Ink Protocol
-//    XNN,	// Xenon
-//    XOC,	// Xonecoin
-//    XP,	// Experience Po...
-//    XPA,	// XPA
-//    XPD,	// PetroDollar
-//    XPM,	// Primecoin
-//    XPTX,	// PlatinumBAR
-//    XPY,	// PayCoin
-//    XRA,	// Ratecoin
-//    XRC,	// Rawcoin
-//    XRE,	// RevolverCoin
-//    XRH,	// Rhenium
-//    XRL,	// Rialto
-    XRP,	// Ripple
-//    XSG,	// SnowGem
-//    XSH,	// SHIELD
-//    XSN,	// Stakenet
-//    XSPEC,	// Spectrecoin
-//    XST,	// Stealth
-//    XSTC,	// Safe Trade Coin
-//    XTL,	// Stellite
-//    XTO,	// Tao
-//    XTZ,	// Tezos
-//    XUC,	// Exchange Union
-//    XVC,	// Vcash
-//    XVG,	// Verge
-//    XVP,	// Virtacoinplus
-//    XWC,	// WhiteCoin
-//    XYO,	// XYO Network
-//    XZC,	// ZCoin
-//    YAC,	// Yacoin
-//    YASH,	// YashCoin
-//    YEE,	// YEE
-//    YOC,	// Yocoin
-//    YOYOW,	// YOYOW
-//    YTN,	// YENTEN
-//    YUP,	// Crowdholding
-//    YYW,
-//    ZAP,	// Zap
-//    ZBC,	// Zilbercoin
-//    ZCG,	// Zlancer
-//    ZCL,	// ZClassic
-//    ZCN,	// 0chain
-//    ZCO,	// Zebi
-//    ZEC,	// Zcash
-//    ZEIT,	// Zeitcoin
-//    ZEN,	// ZenCash
-//    ZENI,	// Zennies
-//    ZEPH,	// Zephyr
-//    ZER,	// Zero
-//    ZET,	// Zetacoin
-//    ZIL,	// Zilliqa
-//    ZINC,	// ZINC
-//    ZIPT,	// Zippie
-//    ZLA,	// Zilla
-//    ZMC,	// ZetaMicron
-//    ZNY,	// Bitzeny
-//    ZOI,	// Zoin
-//    ZPT,	// Zeepin
-//    ZRC,	// ZrCoin
-//    ZRX,	// 0x
-//    ZSC,	// Zeusshield
-//    ZUR,	// Zurcoin
-//    ZYD,	// Zayedcoin
-//    ZZC 	// ZoZoCoin
-;
+public final class CryptoCurrencies implements Currency, Comparable<CryptoCurrencies> {
 
     /* ************ */
     /*    Fields    */
@@ -1565,37 +36,93 @@ public enum CryptoCurrencies implements Currency {
     private static final String XRP_FULL_NAME = "Ripple";
 
     /**
-     * The full name of the fiat currency
+     * BTC extra decimal places (its price is large enough to be kept to the fiat's minor units)
      */
-    private String fullName;
+    private static final int BTC_SCALE = 0;
 
     /**
-     * The abbreviated name of the fiat currency
+     * ETH extra decimal places (its price is large enough to be kept to the fiat's minor units)
      */
-    private String abbreviatedName;
+    private static final int ETH_SCALE = 0;
 
+    /**
+     * LTC extra decimal places
+     */
+    private static final int LTC_SCALE = 2;
 
-    /* ************ */
-    /* Initializers */
-    /* ************ */
+    /**
+     * XRP extra decimal places (its price is well below a single fiat unit)
+     */
+    private static final int XRP_SCALE = 4;
+
+    /**
+     * The coins read from the list of coins, along with the built-in ones (which are known even if the list can't be
+     * read)
+     */
+    private static final CryptoCurrencyRegistry REGISTRY = CryptoCurrencyRegistry.load(
+            new String[] { "BTC", "ETH", "LTC", "XRP" },
+            new String[] { CryptoCurrencies.BTC_FULL_NAME, CryptoCurrencies.ETH_FULL_NAME,
+                    CryptoCurrencies.LTC_FULL_NAME, CryptoCurrencies.XRP_FULL_NAME },
+            new int[] { CryptoCurrencies.BTC_SCALE, CryptoCurrencies.ETH_SCALE, CryptoCurrencies.LTC_SCALE,
+                    CryptoCurrencies.XRP_SCALE });
 
+    /**
+     * Every cryptocurrency, by ordinal
+     */
+    private static final CryptoCurrencies[] VALUES = new CryptoCurrencies[CryptoCurrencies.REGISTRY.size()];
+
+    /**
+     * Every cryptocurrency by its abbreviated name
+     */
+    private static final Map<String, CryptoCurrencies> BY_NAME = new HashMap<>(CryptoCurrencies.VALUES.length * 2);
+
+    /*
+     * Static initializer that makes the single instance of every cryptocurrency in the registry. This has to run before
+     * the constants below are looked up
+     */
     static {
+        for (int i = 0; i < CryptoCurrencies.VALUES.length; i++) {
+            CryptoCurrencies.VALUES[i] = new CryptoCurrencies(i);
+            CryptoCurrencies.BY_NAME.put(CryptoCurrencies.REGISTRY.getSymbol(i), CryptoCurrencies.VALUES[i]);
+        }
+    }
 
-        // BTC
-        BTC.fullName = CryptoCurrencies.BTC_FULL_NAME;
-        BTC.abbreviatedName = BTC.toString();
+    /**
+     * Bitcoin
+     */
+    public static final CryptoCurrencies BTC = CryptoCurrencies.toCryptoCurrency("BTC");
+
+    /**
+     * Ethereum
+     */
+    public static final CryptoCurrencies ETH = CryptoCurrencies.toCryptoCurrency("ETH");
+
+    /**
+     * Litecoin
+     */
+    public static final CryptoCurrencies LTC = CryptoCurrencies.toCryptoCurrency("LTC");
+
+    /**
+     * Ripple
+     */
+    public static final CryptoCurrencies XRP = CryptoCurrencies.toCryptoCurrency("XRP");
 
-        // ETH
-        ETH.fullName = CryptoCurrencies.ETH_FULL_NAME;
-        ETH.abbreviatedName = ETH.toString();
+    /**
+     * The index of the cryptocurrency in the registry
+     */
+    private final int ordinal;
 
-        // LTC
-        LTC.fullName = CryptoCurrencies.LTC_FULL_NAME;
-        LTC.abbreviatedName = LTC.toString();
 
-        // XRP
-        XRP.fullName = CryptoCurrencies.XRP_FULL_NAME;
-        XRP.abbreviatedName = XRP.toString();
+    /* ************ */
+    /* Constructors */
+    /* ************ */
+
+    /**
+     * The constructor for a CryptoCurrencies, of which there is only ever one per coin in the registry
+     * @param ordinal The index of the cryptocurrency in the registry
+     */
+    private CryptoCurrencies(final int ordinal) {
+        this.ordinal = ordinal;
     }
 
 
@@ -1608,7 +135,7 @@ public enum CryptoCurrencies implements Currency {
      */
     @Override
     public String getFullName() {
-        return this.fullName;
+        return CryptoCurrencies.REGISTRY.getName(this.ordinal);
     }
 
     /**
@@ -1616,45 +143,94 @@ public enum CryptoCurrencies implements Currency {
      */
     @Override
     public String getAbbreviatedName() {
-        return this.abbreviatedName;
+        return CryptoCurrencies.REGISTRY.getSymbol(this.ordinal);
     }
 
     /**
-     * Returns the Cryptocurrencies enum into an array
-     * @return The Cryptocurrencies enum in an array
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScale() {
+        return CryptoCurrencies.REGISTRY.getScale(this.ordinal);
+    }
+
+    /**
+     * Returns the index of the cryptocurrency in values(), which is dense, so it can index arrays
+     * @return The index of the cryptocurrency
+     */
+    public int ordinal() {
+        return this.ordinal;
+    }
+
+    /**
+     * Returns the abbreviated name of the cryptocurrency
+     * @return The abbreviated name of the cryptocurrency
+     */
+    public String name() {
+        return this.getAbbreviatedName();
+    }
+
+    @Override
+    public String toString() {
+        return this.getAbbreviatedName();
+    }
+
+    @Override
+    public int compareTo(final CryptoCurrencies other) {
+        return Integer.compare(this.ordinal, other.ordinal);
+    }
+
+    /**
+     * Returns every cryptocurrency, in order of ordinal
+     * @return A copy of the array of every cryptocurrency
+     */
+    public static CryptoCurrencies[] values() {
+        return CryptoCurrencies.VALUES.clone();
+    }
+
+    /**
+     * Returns the number of cryptocurrencies, without copying them like values() does
+     * @return The number of cryptocurrencies
+     */
+    public static int count() {
+        return CryptoCurrencies.VALUES.length;
+    }
+
+    /**
+     * Returns the cryptocurrency with the given ordinal
+     * @param ordinal The ordinal of the cryptocurrency
+     * @return The cryptocurrency
+     */
+    public static CryptoCurrencies get(final int ordinal) {
+        return CryptoCurrencies.VALUES[ordinal];
+    }
+
+    /**
+     * Returns the abbreviated names of the cryptocurrencies, in order of ordinal
+     * @return A copy of the abbreviated names of the cryptocurrencies
      */
     public static String[] toStringArray() {
-        final String[] array = new String[CryptoCurrencies.values().length];
-        for (int i = 0; i < CryptoCurrencies.values().length; i++) {
-            array[i] = CryptoCurrencies.values()[i].toString();
-        }
-        return array;
+        return CryptoCurrencies.REGISTRY.getSymbols();
     }
 
     /**
-     * Returns the equivalent Cryptocurrency enum value for a given string;
+     * Returns the equivalent Cryptocurrency for a given string;
      * Returns null if it doesn't match any
      * @param cryptocurrency The given string
-     * @return The Cryptocurrency enum value
+     * @return The Cryptocurrency
      */
-    public static CryptoCurrencies toCryptoCurrency(String cryptocurrency) {
-        for (final CryptoCurrencies currency : CryptoCurrencies.values())  {
-            if (cryptocurrency.equals(currency.toString())) return currency;
-        }
-        return null;
+    public static CryptoCurrencies toCryptoCurrency(final String cryptocurrency) {
+        return CryptoCurrencies.BY_NAME.get(cryptocurrency);
     }
 
     /**
      * Returns the index of the given cryptocurrency as a String from the String array
      * @param cryptocurrency The given cryptocurrency as a String
-     * @return The index in the String array
+     * @return The index in the String array, or -1 if it doesn't match any
      */
     public static int indexOf(final String cryptocurrency) {
-        final String[] array = CryptoCurrencies.toStringArray();
-        for (int i = 0; i < array.length; i++) {
-            if (array[i].equals(cryptocurrency)) return i;
-        }
-        return -1;
+        final CryptoCurrencies currency = CryptoCurrencies.BY_NAME.get(cryptocurrency);
+        return currency == null ? -1 : currency.ordinal;
     }
 
     /**
@@ -1663,6 +239,7 @@ public enum CryptoCurrencies implements Currency {
      * @return The index in the String array
      */
     public static int indexOf(final CryptoCurrencies cryptocurrency) {
-        return CryptoCurrencies.indexOf(cryptocurrency.abbreviatedName);
+        // The String array is in order of ordinal
+        return cryptocurrency.ordinal;
     }
 }
@@ -0,0 +1,207 @@
+package com.company.tool.enums.currency;
+
+import json_simple.parser.JSONParser;
+import json_simple.parser.ParseException;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The cryptocurrencies known at runtime, read from a JSON list of coins when the application starts. The list is in
+ * the format that <a href="http://coincap.io/map">http://coincap.io/map</a> returns, i.e.
+ * { "data": [ { "symbol": "BTC", "name": "Bitcoin" }, ... ] }, where a coin can also have a "scale" (see
+ * Currency.getScale). The coins are sorted by symbol and held as parallel arrays, with the symbols interned, so
+ * thousands of them cost a few arrays rather than an object per field. Adding a coin only needs an edit of the list.
+ * If the list can't be read, only the built-in coins are known
+ */
+final class CryptoCurrencyRegistry {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The system property that can point at a different list of coins
+     */
+    static final String LIST_PATH_PROPERTY = "crypto_currencies.list";
+
+    /**
+     * The list of coins read when the system property isn't set (relative to the working directory)
+     */
+    static final String DEFAULT_LIST_PATH = "CryptoCurrenciesList.json";
+
+    /**
+     * The scale of a coin that the list doesn't give one for (most coins are worth a fraction of a fiat unit)
+     */
+    static final int DEFAULT_SCALE = 4;
+
+    /**
+     * The largest scale a coin can have, which leaves room for the fiat's minor units within FixedPointPrice.MAX_SCALE
+     */
+    private static final int MAX_SCALE = 16;
+
+    /**
+     * The symbol of each coin, sorted
+     */
+    private final String[] symbols;
+
+    /**
+     * The full name of each coin
+     */
+    private final String[] names;
+
+    /**
+     * The scale of each coin
+     */
+    private final byte[] scales;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the CryptoCurrencyRegistry
+     * @param coins The full name and scale of each coin, by symbol
+     */
+    private CryptoCurrencyRegistry(final TreeMap<String, Coin> coins) {
+        this.symbols = new String[coins.size()];
+        this.names = new String[coins.size()];
+        this.scales = new byte[coins.size()];
+
+        int i = 0;
+        for (final Map.Entry<String, Coin> entry : coins.entrySet()) {
+            this.symbols[i] = entry.getKey().intern();
+            this.names[i] = entry.getValue().name;
+            this.scales[i] = (byte) entry.getValue().scale;
+            i++;
+        }
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Reads the list of coins and adds the built-in coins that it's missing. The built-in coins keep their own full
+     * names even when the list names them differently, as the endpoints and the display were written against them
+     * @param builtInSymbols The symbols of the coins that must always be known
+     * @param builtInNames The full names of the built-in coins
+     * @param builtInScales The scales of the built-in coins
+     * @return The registry
+     */
+    static CryptoCurrencyRegistry load(final String[] builtInSymbols, final String[] builtInNames,
+                                       final int[] builtInScales) {
+        final TreeMap<String, Coin> coins = new TreeMap<>();
+        final String path = System.getProperty(CryptoCurrencyRegistry.LIST_PATH_PROPERTY,
+                CryptoCurrencyRegistry.DEFAULT_LIST_PATH);
+
+        try (final InputStream in = new BufferedInputStream(Files.newInputStream(Paths.get(path)))) {
+            CryptoCurrencyRegistry.readCoins(new JSONParser().parse(in), coins);
+        } catch (final IOException | ParseException | ClassCastException e) {
+            // Carry on with the built-in coins
+            e.printStackTrace();
+        }
+
+        for (int i = 0; i < builtInSymbols.length; i++) {
+            coins.merge(builtInSymbols[i], new Coin(builtInNames[i], builtInScales[i]),
+                    (listed, builtIn) -> new Coin(builtIn.name, listed.scale));
+        }
+        return new CryptoCurrencyRegistry(coins);
+    }
+
+    /**
+     * Reads the coins out of a parsed list. A coin without a symbol is skipped, and the first of two coins with the
+     * same symbol is kept
+     * @param root The parsed list
+     * @param coins The map to put the full name and scale of each coin into, by symbol
+     */
+    private static void readCoins(final Object root, final TreeMap<String, Coin> coins) {
+        final List<?> data = (List<?>) ((Map<?, ?>) root).get("data");
+        if (data == null) return;
+
+        for (final Object element : data) {
+            if (!(element instanceof Map)) continue;
+            final Map<?, ?> coin = (Map<?, ?>) element;
+            if (!(coin.get("symbol") instanceof String) || ((String) coin.get("symbol")).isEmpty()) continue;
+
+            final String symbol = (String) coin.get("symbol");
+            final Object name = coin.get("name");
+            final Object scale = coin.get("scale");
+            coins.putIfAbsent(symbol, new Coin(name instanceof String ? (String) name : symbol,
+                    scale instanceof Long && (Long) scale >= 0 && (Long) scale <= CryptoCurrencyRegistry.MAX_SCALE ?
+                            ((Long) scale).intValue() : CryptoCurrencyRegistry.DEFAULT_SCALE));
+        }
+    }
+
+    /**
+     * Returns the number of coins
+     * @return The number of coins
+     */
+    int size() { return this.symbols.length; }
+
+    /**
+     * Returns the symbol of a coin
+     * @param index The index of the coin
+     * @return The symbol of the coin
+     */
+    String getSymbol(final int index) { return this.symbols[index]; }
+
+    /**
+     * Returns the symbol of every coin
+     * @return A copy of the symbols, sorted
+     */
+    String[] getSymbols() { return this.symbols.clone(); }
+
+    /**
+     * Returns the full name of a coin
+     * @param index The index of the coin
+     * @return The full name of the coin
+     */
+    String getName(final int index) { return this.names[index]; }
+
+    /**
+     * Returns the scale of a coin
+     * @param index The index of the coin
+     * @return The scale of the coin
+     */
+    int getScale(final int index) { return this.scales[index]; }
+
+
+    /* ************ *
+     *    Classes   *
+     * ************ */
+
+    /**
+     * A coin read from the list, before it's packed into the arrays
+     */
+    private static final class Coin {
+
+        /**
+         * The full name of the coin
+         */
+        private final String name;
+
+        /**
+         * The scale of the coin
+         */
+        private final int scale;
+
+        /**
+         * The constructor for a Coin
+         * @param name The full name of the coin
+         * @param scale The scale of the coin
+         */
+        private Coin(final String name, final int scale) {
+            this.name = name;
+            this.scale = scale;
+        }
+    }
+}
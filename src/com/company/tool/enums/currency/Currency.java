@@ -17,4 +17,13 @@ public interface Currency {
      */
     String getAbbreviatedName();
 
+    /**
+     * Returns the number of decimal places this currency adds to the scale of a price. For a fiat currency, that's the
+     * number of its minor units (e.g. 2 for cents). For a cryptocurrency, it's how many more places its price needs on
+     * top of those, for coins that are worth only a fraction of the fiat's minor unit. A price of a pair is kept to the
+     * sum of the two
+     * @return The number of decimal places this currency adds to the scale of a price
+     */
+    int getScale();
+
 }
@@ -1,5 +1,8 @@
 package com.company.tool.enums.currency;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * An enum that holds all possible fiat currencies
  */
@@ -233,6 +236,31 @@ public enum FiatCurrencies implements Currency {
      */
     private static final String USD_FULL_NAME = "United States Dollar";
 
+    /**
+     * The number of minor units of most fiat currencies (i.e. cents)
+     */
+    private static final int CENTS_SCALE = 2;
+
+    /**
+     * The number of minor units of a fiat currency that has none (e.g. JPY)
+     */
+    private static final int NO_MINOR_UNITS_SCALE = 0;
+
+    /**
+     * Every fiat currency, in declaration order (values() makes a new copy of this on every call)
+     */
+    private static final FiatCurrencies[] VALUES = FiatCurrencies.values();
+
+    /**
+     * The abbreviated name of every fiat currency, in declaration order
+     */
+    private static final String[] NAMES = new String[FiatCurrencies.VALUES.length];
+
+    /**
+     * Every fiat currency by its abbreviated name
+     */
+    private static final Map<String, FiatCurrencies> BY_NAME = new HashMap<>(FiatCurrencies.VALUES.length * 2);
+
     /**
      * The full name of the fiat currency
      */
@@ -243,55 +271,77 @@ public enum FiatCurrencies implements Currency {
      */
     private String abbreviatedName;
 
+    /**
+     * The number of minor units of the fiat currency
+     */
+    private int scale;
+
 
     /* ************ */
     /* Initializers */
     /* ************ */
 
     /*
-     * Static initializer that sets the full names and the abbreviated names of the fiat currencies being used
+     * Static initializer that sets the full names, the abbreviated names and the scales of the fiat currencies being
+     * used
      */
     static {
 
         // AUD
         AUD.fullName = FiatCurrencies.AUD_FULL_NAME;
         AUD.abbreviatedName = AUD.toString();
+        AUD.scale = FiatCurrencies.CENTS_SCALE;
 
         // CAD
         CAD.fullName = FiatCurrencies.CAD_FULL_NAME;
         CAD.abbreviatedName = CAD.toString();
+        CAD.scale = FiatCurrencies.CENTS_SCALE;
 
         // EUR
         EUR.fullName = FiatCurrencies.EUR_FULL_NAME;
         EUR.abbreviatedName = EUR.toString();
+        EUR.scale = FiatCurrencies.CENTS_SCALE;
 
         // GBP
         GBP.fullName = FiatCurrencies.GBP_FULL_NAME;
         GBP.abbreviatedName = GBP.toString();
+        GBP.scale = FiatCurrencies.CENTS_SCALE;
 
         // JPY
         JPY.fullName = FiatCurrencies.JPY_FULL_NAME;
         JPY.abbreviatedName = JPY.toString();
+        JPY.scale = FiatCurrencies.NO_MINOR_UNITS_SCALE;
 
         // MXN
         MXN.fullName = FiatCurrencies.MXN_FULL_NAME;
         MXN.abbreviatedName = MXN.toString();
+        MXN.scale = FiatCurrencies.CENTS_SCALE;
 
         // NZD
         NZD.fullName = FiatCurrencies.NZD_FULL_NAME;
         NZD.abbreviatedName = NZD.toString();
+        NZD.scale = FiatCurrencies.CENTS_SCALE;
 
         // PLN
         PLN.fullName = FiatCurrencies.PLN_FULL_NAME;
         PLN.abbreviatedName = PLN.toString();
+        PLN.scale = FiatCurrencies.CENTS_SCALE;
 
         // SEK
         SEK.fullName = FiatCurrencies.SEK_FULL_NAME;
         SEK.abbreviatedName = SEK.toString();
+        SEK.scale = FiatCurrencies.CENTS_SCALE;
 
         // USD
         USD.fullName = FiatCurrencies.USD_FULL_NAME;
         USD.abbreviatedName = USD.toString();
+        USD.scale = FiatCurrencies.CENTS_SCALE;
+
+        // The lookup tables, built once so that no lookup ever scans the fiat currencies
+        for (final FiatCurrencies currency : FiatCurrencies.VALUES) {
+            FiatCurrencies.NAMES[currency.ordinal()] = currency.toString();
+            FiatCurrencies.BY_NAME.put(currency.toString(), currency);
+        }
     }
 
 
@@ -316,15 +366,37 @@ public enum FiatCurrencies implements Currency {
     }
 
     /**
-     * Returns the FiatCurrencies enum into an array
-     * @return The FiatCurrencies enum in an array
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScale() {
+        return this.scale;
+    }
+
+    /**
+     * Returns the number of fiat currencies, without copying them like values() does
+     * @return The number of fiat currencies
+     */
+    public static int count() {
+        return FiatCurrencies.VALUES.length;
+    }
+
+    /**
+     * Returns the abbreviated name of the fiat currency with the given ordinal, without copying the names like
+     * toStringArray() does
+     * @param ordinal The ordinal of the fiat currency
+     * @return The abbreviated name of the fiat currency
+     */
+    public static String nameOf(final int ordinal) {
+        return FiatCurrencies.NAMES[ordinal];
+    }
+
+    /**
+     * Returns the abbreviated names of the fiat currencies, in the order they are declared in
+     * @return A copy of the abbreviated names of the fiat currencies
      */
     public static String[] toStringArray() {
-        final String[] array = new String[FiatCurrencies.values().length];
-        for (int i = 0; i < FiatCurrencies.values().length; i++) {
-            array[i] = FiatCurrencies.values()[i].toString();
-        }
-        return array;
+        return FiatCurrencies.NAMES.clone();
     }
 
     /**
@@ -334,23 +406,17 @@ public enum FiatCurrencies implements Currency {
      * @return The FiatCurrency enum value
      */
     public static FiatCurrencies toFiatCurrency(final String fiatCurrency) {
-        for (final FiatCurrencies currency : FiatCurrencies.values())  {
-            if (fiatCurrency.equals(currency.toString())) return currency;
-        }
-        return null;
+        return FiatCurrencies.BY_NAME.get(fiatCurrency);
     }
 
     /**
      * Returns the index of the given fiat currency as a String from the String array
      * @param fiatCurrency The given fiat currency as a String
-     * @return The index in the String array
+     * @return The index in the String array, or -1 if it doesn't match any
      */
     public static int indexOf(final String fiatCurrency) {
-        final String[] array = FiatCurrencies.toStringArray();
-        for (int i = 0; i < array.length; i++) {
-            if (array[i].equals(fiatCurrency)) return i;
-        }
-        return -1;
+        final FiatCurrencies currency = FiatCurrencies.BY_NAME.get(fiatCurrency);
+        return currency == null ? -1 : currency.ordinal();
     }
 
     /**
@@ -359,7 +425,8 @@ public enum FiatCurrencies implements Currency {
      * @return The index in the String array
      */
     public static int indexOf(final FiatCurrencies fiatCurrency) {
-        return FiatCurrencies.indexOf(fiatCurrency.abbreviatedName);
+        // The String array is in declaration order
+        return fiatCurrency.ordinal();
     }
 
 }
@@ -0,0 +1,184 @@
+package com.company.tool.error_aggregator;
+
+import com.company.tool.enums.Errors;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the errors of the application instead of showing each one. The errors are grouped by endpoint, type and pair,
+ * and within a window each group is a single summary with a count, so a burst of the same failure is one entry no
+ * matter how many times it happens. Recording an error only updates a concurrent map, so the fetch threads never touch
+ * a Swing component; whoever shows the errors reads them on its own schedule. A group that hasn't seen an error for the
+ * retention is forgotten
+ */
+final public class ErrorAggregator implements ErrorAggregatorInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The default length of a window, within which the same errors are counted together
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+
+    /**
+     * The default time after its latest error that a group is forgotten
+     */
+    public static final Duration DEFAULT_RETENTION = Duration.ofMinutes(10);
+
+    /**
+     * The name used for the errors that aren't of a single endpoint
+     */
+    private static final String NO_NAME = "";
+
+    /**
+     * The length (in milliseconds) of a window
+     */
+    private final long windowMillis;
+
+    /**
+     * The time (in milliseconds) after its latest error that a group is forgotten
+     */
+    private final long retentionMillis;
+
+    /**
+     * The summary of each group of errors
+     */
+    private final Map<Key, ErrorSummary> summaries = new ConcurrentHashMap<>();
+
+    /**
+     * The version of the errors
+     */
+    private final AtomicLong version = new AtomicLong();
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the ErrorAggregator with the default window and retention
+     */
+    public ErrorAggregator() {
+        this(ErrorAggregator.DEFAULT_WINDOW, ErrorAggregator.DEFAULT_RETENTION);
+    }
+
+    /**
+     * The constructor for the ErrorAggregator
+     * @param window The length of a window, within which the same errors are counted together
+     * @param retention The time after its latest error that a group is forgotten
+     */
+    public ErrorAggregator(final Duration window, final Duration retention) {
+        this.windowMillis = window.toMillis();
+        this.retentionMillis = retention.toMillis();
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public void record(final Errors error, final String name, final CryptoCurrencies crypto,
+                       final FiatCurrencies fiat) {
+        final long now = System.currentTimeMillis();
+        final String endpoint = name == null ? ErrorAggregator.NO_NAME : name;
+
+        this.summaries.compute(new Key(endpoint, error, crypto, fiat), (key, summary) -> summary == null ?
+                new ErrorSummary(endpoint, error, crypto, fiat, 1, 1, now, now) :
+                summary.seen(now, this.windowMillis));
+        this.version.incrementAndGet();
+    }
+
+    @Override
+    public List<ErrorSummary> getSummaries() {
+        this.forgetExpired();
+
+        final List<ErrorSummary> summaries = new ArrayList<>(this.summaries.values());
+        summaries.sort(Comparator.comparingLong(ErrorSummary::getLastSeenMillis).reversed());
+        return summaries;
+    }
+
+    @Override
+    public void forgetExpired() {
+        final long now = System.currentTimeMillis();
+        if (this.summaries.values().removeIf(summary -> now - summary.getLastSeenMillis() >= this.retentionMillis))
+            this.version.incrementAndGet();
+    }
+
+    @Override
+    public long getVersion() { return this.version.get(); }
+
+    @Override
+    public void clear() {
+        this.summaries.clear();
+        this.version.incrementAndGet();
+    }
+
+
+    /* ************ *
+     *    Classes   *
+     * ************ */
+
+    /**
+     * What the errors are grouped by
+     */
+    private static final class Key {
+
+        /**
+         * The name of the endpoint
+         */
+        private final String name;
+
+        /**
+         * The type of error
+         */
+        private final Errors error;
+
+        /**
+         * The cryptocurrency of the pair (null if none)
+         */
+        private final CryptoCurrencies crypto;
+
+        /**
+         * The fiat currency of the pair (null if none)
+         */
+        private final FiatCurrencies fiat;
+
+        /**
+         * The constructor for a Key
+         * @param name The name of the endpoint
+         * @param error The type of error
+         * @param crypto The cryptocurrency of the pair
+         * @param fiat The fiat currency of the pair
+         */
+        private Key(final String name, final Errors error, final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+            this.name = name;
+            this.error = error;
+            this.crypto = crypto;
+            this.fiat = fiat;
+        }
+
+        @Override
+        public int hashCode() { return Objects.hash(this.name, this.error, this.crypto, this.fiat); }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Key)) return false;
+            final Key other = (Key) o;
+            // The currencies are single instances
+            return this.name.equals(other.name) && this.error == other.error && this.crypto == other.crypto &&
+                    this.fiat == other.fiat;
+        }
+    }
+}
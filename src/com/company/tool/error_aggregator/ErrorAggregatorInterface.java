@@ -0,0 +1,47 @@
+package com.company.tool.error_aggregator;
+
+import com.company.tool.enums.Errors;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+
+import java.util.List;
+
+/**
+ * The interface for the aggregator that counts the errors of the application instead of showing each one
+ */
+public interface ErrorAggregatorInterface {
+
+    /**
+     * Records an error. This only counts it, so it's safe to call from any thread
+     * @param error The type of error
+     * @param name The name of the endpoint (null if the error isn't of a single endpoint)
+     * @param crypto The cryptocurrency of the pair (null if the error isn't of a single pair)
+     * @param fiat The fiat currency of the pair (null if the error isn't of a single pair)
+     */
+    void record(final Errors error, final String name, final CryptoCurrencies crypto, final FiatCurrencies fiat);
+
+    /**
+     * Returns the errors that happened recently
+     * @return The errors, with the latest first
+     */
+    List<ErrorSummary> getSummaries();
+
+    /**
+     * Forgets the groups of errors that have gone longer than the retention without a new error. Cheap enough to be
+     * called on a timer, which is what makes old errors go away while no new ones are coming in
+     */
+    void forgetExpired();
+
+    /**
+     * Returns a number that changes every time an error is recorded or forgotten, so that whoever shows the errors can
+     * tell whether it needs to fetch them again
+     * @return The version of the errors
+     */
+    long getVersion();
+
+    /**
+     * Forgets every error
+     */
+    void clear();
+
+}
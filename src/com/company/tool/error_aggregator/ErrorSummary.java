@@ -0,0 +1,151 @@
+package com.company.tool.error_aggregator;
+
+import com.company.tool.enums.Errors;
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+
+/**
+ * The errors of a single kind that an endpoint ran into for a single pair, counted rather than kept one by one. Never
+ * changed once made, so it can be handed between threads
+ */
+public final class ErrorSummary {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The name of the endpoint (empty if the error isn't of a single endpoint)
+     */
+    private final String name;
+
+    /**
+     * The type of error
+     */
+    private final Errors error;
+
+    /**
+     * The cryptocurrency of the pair (null if the error isn't of a single pair)
+     */
+    private final CryptoCurrencies crypto;
+
+    /**
+     * The fiat currency of the pair (null if the error isn't of a single pair)
+     */
+    private final FiatCurrencies fiat;
+
+    /**
+     * The number of times the error happened within the current window
+     */
+    private final long count;
+
+    /**
+     * The number of times the error has ever happened
+     */
+    private final long totalCount;
+
+    /**
+     * When (in milliseconds since the epoch) the first error of the current window happened
+     */
+    private final long firstSeenMillis;
+
+    /**
+     * When (in milliseconds since the epoch) the latest error happened
+     */
+    private final long lastSeenMillis;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for an ErrorSummary
+     * @param name The name of the endpoint
+     * @param error The type of error
+     * @param crypto The cryptocurrency of the pair
+     * @param fiat The fiat currency of the pair
+     * @param count The number of times the error happened within the current window
+     * @param totalCount The number of times the error has ever happened
+     * @param firstSeenMillis When the first error of the current window happened
+     * @param lastSeenMillis When the latest error happened
+     */
+    ErrorSummary(final String name, final Errors error, final CryptoCurrencies crypto, final FiatCurrencies fiat,
+                 final long count, final long totalCount, final long firstSeenMillis, final long lastSeenMillis) {
+        this.name = name;
+        this.error = error;
+        this.crypto = crypto;
+        this.fiat = fiat;
+        this.count = count;
+        this.totalCount = totalCount;
+        this.firstSeenMillis = firstSeenMillis;
+        this.lastSeenMillis = lastSeenMillis;
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Returns the summary with one more error counted
+     * @param now When the error happened (in milliseconds since the epoch)
+     * @param windowMillis The length of a window, after which the count starts again
+     * @return The new summary
+     */
+    ErrorSummary seen(final long now, final long windowMillis) {
+        if (now - this.firstSeenMillis >= windowMillis)
+            return new ErrorSummary(this.name, this.error, this.crypto, this.fiat, 1, this.totalCount + 1, now, now);
+        return new ErrorSummary(this.name, this.error, this.crypto, this.fiat, this.count + 1, this.totalCount + 1,
+                this.firstSeenMillis, now);
+    }
+
+    /**
+     * Returns the name of the endpoint
+     * @return The name of the endpoint (empty if the error isn't of a single endpoint)
+     */
+    public String getName() { return this.name; }
+
+    /**
+     * Returns the type of error
+     * @return The type of error
+     */
+    public Errors getError() { return this.error; }
+
+    /**
+     * Returns the cryptocurrency of the pair
+     * @return The cryptocurrency of the pair (null if the error isn't of a single pair)
+     */
+    public CryptoCurrencies getCrypto() { return this.crypto; }
+
+    /**
+     * Returns the fiat currency of the pair
+     * @return The fiat currency of the pair (null if the error isn't of a single pair)
+     */
+    public FiatCurrencies getFiat() { return this.fiat; }
+
+    /**
+     * Returns the number of times the error happened within the current window
+     * @return The number of times within the current window
+     */
+    public long getCount() { return this.count; }
+
+    /**
+     * Returns the number of times the error has ever happened
+     * @return The number of times ever
+     */
+    public long getTotalCount() { return this.totalCount; }
+
+    /**
+     * Returns when the first error of the current window happened
+     * @return The time in milliseconds since the epoch
+     */
+    public long getFirstSeenMillis() { return this.firstSeenMillis; }
+
+    /**
+     * Returns when the latest error happened
+     * @return The time in milliseconds since the epoch
+     */
+    public long getLastSeenMillis() { return this.lastSeenMillis; }
+
+}
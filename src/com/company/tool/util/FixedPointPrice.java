@@ -0,0 +1,183 @@
+package com.company.tool.util;
+
+import com.company.tool.enums.currency.CryptoCurrencies;
+import com.company.tool.enums.currency.FiatCurrencies;
+
+/**
+ * Helpers for prices held as fixed-point numbers: a long mantissa that is the price multiplied by 10^scale, where the
+ * scale comes from the pair's currencies (e.g. 6123456 at a scale of 2 is 61234.56). Two prices at the same scale
+ * compare and subtract exactly, they format without any floating-point noise, and a missing price is NO_PRICE, which
+ * can never be mistaken for a real one
+ */
+public final class FixedPointPrice {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The mantissa of a price that doesn't exist (e.g. one that was never set, or whose update failed)
+     */
+    public static final long NO_PRICE = Long.MIN_VALUE;
+
+    /**
+     * The largest scale a price can have, past which 10^scale doesn't fit in a long
+     */
+    public static final int MAX_SCALE = 18;
+
+    /**
+     * The powers of ten that fit in a long, indexed by scale
+     */
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+            10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+            1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
+    /**
+     * The magnitude a scaled double must stay below to fit in a long
+     */
+    private static final double LONG_LIMIT = 0x1p63;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * This is a utility class, so it should never be instantiated
+     */
+    private FixedPointPrice() {}
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Returns the scale of the prices of a pair, i.e. the number of decimal places they are kept to
+     * @param crypto The cryptocurrency of the pair
+     * @param fiat The fiat currency of the pair
+     * @return The scale of the prices of the pair
+     */
+    public static int scaleOf(final CryptoCurrencies crypto, final FiatCurrencies fiat) {
+        return FixedPointPrice.checkScale(fiat.getScale() + crypto.getScale());
+    }
+
+    /**
+     * Returns if a mantissa holds a price
+     * @param price The mantissa
+     * @return If the mantissa isn't NO_PRICE
+     */
+    public static boolean isPrice(final long price) {
+        return price != FixedPointPrice.NO_PRICE;
+    }
+
+    /**
+     * Converts a double into a fixed-point price, rounding half away from zero
+     * @param value The price
+     * @param scale The scale of the fixed-point price
+     * @return The mantissa, or NO_PRICE if the value isn't a finite number or doesn't fit at the scale
+     */
+    public static long fromDouble(final double value, final int scale) {
+        final double scaled = Math.abs(value) * FixedPointPrice.POWERS_OF_TEN[FixedPointPrice.checkScale(scale)];
+        // Also false for NaN
+        if (!(scaled < FixedPointPrice.LONG_LIMIT)) return FixedPointPrice.NO_PRICE;
+
+        final long mantissa = Math.round(scaled);
+        return value < 0 ? -mantissa : mantissa;
+    }
+
+    /**
+     * Converts a whole number into a fixed-point price
+     * @param value The price
+     * @param scale The scale of the fixed-point price
+     * @return The mantissa, or NO_PRICE if the value doesn't fit at the scale
+     */
+    public static long fromLong(final long value, final int scale) {
+        final long factor = FixedPointPrice.POWERS_OF_TEN[FixedPointPrice.checkScale(scale)];
+        final long limit = Long.MAX_VALUE / factor;
+        if (value > limit || value < -limit) return FixedPointPrice.NO_PRICE;
+        return value * factor;
+    }
+
+    /**
+     * Converts a fixed-point price into a double (which is only as exact as a double can be)
+     * @param price The mantissa
+     * @param scale The scale of the price
+     * @return The price, or NaN if the mantissa is NO_PRICE
+     */
+    public static double toDouble(final long price, final int scale) {
+        if (price == FixedPointPrice.NO_PRICE) return Double.NaN;
+        return price / (double) FixedPointPrice.POWERS_OF_TEN[FixedPointPrice.checkScale(scale)];
+    }
+
+    /**
+     * Converts a fixed-point price from one scale to another, rounding half away from zero when places are dropped
+     * @param price The mantissa
+     * @param fromScale The scale the price is at
+     * @param toScale The scale to convert the price to
+     * @return The mantissa at the new scale, or NO_PRICE if the price is NO_PRICE or doesn't fit at the new scale
+     */
+    public static long rescale(final long price, final int fromScale, final int toScale) {
+        FixedPointPrice.checkScale(fromScale);
+        FixedPointPrice.checkScale(toScale);
+        if (price == FixedPointPrice.NO_PRICE || fromScale == toScale) return price;
+
+        if (toScale > fromScale) return FixedPointPrice.fromLong(price, toScale - fromScale);
+
+        final long divisor = FixedPointPrice.POWERS_OF_TEN[fromScale - toScale];
+        final long magnitude = Math.abs(price);
+        final long remainder = magnitude % divisor;
+        final long rounded = magnitude / divisor + (remainder >= divisor - remainder ? 1 : 0);
+        return price < 0 ? -rounded : rounded;
+    }
+
+    /**
+     * Appends a fixed-point price as decimal text (e.g. 61234.56, or -0.0005) without allocating anything besides what
+     * the builder needs to grow. Nothing is appended for NO_PRICE
+     * @param builder The builder to append to
+     * @param price The mantissa
+     * @param scale The scale of the price, which is the number of decimal places written
+     * @return The builder
+     */
+    public static StringBuilder appendTo(final StringBuilder builder, final long price, final int scale) {
+        FixedPointPrice.checkScale(scale);
+        if (price == FixedPointPrice.NO_PRICE) return builder;
+
+        // The magnitude can't overflow, since Long.MIN_VALUE is NO_PRICE
+        final long magnitude = Math.abs(price);
+        if (price < 0) builder.append('-');
+        builder.append(magnitude / FixedPointPrice.POWERS_OF_TEN[scale]);
+        if (scale == 0) return builder;
+
+        final long fraction = magnitude % FixedPointPrice.POWERS_OF_TEN[scale];
+        builder.append('.');
+        for (int place = scale - 1; place >= 0; place--) {
+            builder.append((char) ('0' + fraction / FixedPointPrice.POWERS_OF_TEN[place] % 10));
+        }
+        return builder;
+    }
+
+    /**
+     * Returns a fixed-point price as decimal text
+     * @param price The mantissa
+     * @param scale The scale of the price
+     * @return The price as decimal text, or an empty string for NO_PRICE
+     * @see #appendTo(StringBuilder, long, int)
+     */
+    public static String toString(final long price, final int scale) {
+        return FixedPointPrice.appendTo(new StringBuilder(24), price, scale).toString();
+    }
+
+    /**
+     * Checks that a scale is one a price can have
+     * @param scale The scale
+     * @return The scale
+     */
+    private static int checkScale(final int scale) {
+        if (scale < 0 || scale > FixedPointPrice.MAX_SCALE)
+            throw new IllegalArgumentException("A price's scale must be between 0 and " + FixedPointPrice.MAX_SCALE);
+        return scale;
+    }
+}
@@ -24,7 +24,7 @@ public final class Pair<L, R> {
     public R getRight() { return right; }
 
     @Override
-    public int hashCode() { return left.hashCode() ^ right.hashCode(); }
+    public int hashCode() { return 31 * left.hashCode() + right.hashCode(); }
 
     @Override
     public boolean equals(final Object o) {
@@ -0,0 +1,57 @@
+package com.company.tool.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Helpers for building the thread pools that the application uses to do its background work
+ */
+public final class ThreadPools {
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * This is a utility class, so it should never be instantiated
+     */
+    private ThreadPools() {}
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Returns an executor that starts a new virtual thread for every task, if the running JDK supports virtual threads.
+     * This is looked up reflectively so that the application still builds and runs on JDKs without them.
+     * @return A virtual-thread-per-task executor, or null if the running JDK does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            // Either the method doesn't exist (pre JDK 21) or virtual threads are a disabled preview feature
+            return null;
+        }
+    }
+
+    /**
+     * Returns a thread factory that creates named daemon threads, so that background pools never keep the application
+     * alive on their own
+     * @param prefix The prefix of the name given to each thread (a counter is appended to it)
+     * @return The thread factory
+     */
+    public static ThreadFactory daemonThreadFactory(final String prefix) {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
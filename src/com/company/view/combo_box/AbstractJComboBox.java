@@ -30,6 +30,15 @@ public abstract class AbstractJComboBox<T> extends JComboBox<T> implements Combo
         this.controller = controller;
     }
 
+    /**
+     * A constructor for the combo box
+     * @param model The model of the items that are displayed
+     */
+    public AbstractJComboBox(final ComboBoxModel<T> model, final ComboBoxContractInterface controller) {
+        super(model);
+        this.controller = controller;
+    }
+
 
     /* ************ *
      *    Methods   *
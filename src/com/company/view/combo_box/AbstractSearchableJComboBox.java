@@ -0,0 +1,205 @@
+package com.company.view.combo_box;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.event.PopupMenuEvent;
+import javax.swing.event.PopupMenuListener;
+import javax.swing.text.JTextComponent;
+import java.awt.Component;
+import java.util.function.IntFunction;
+
+/**
+ * A dropdown of currencies that can be typed into: whatever is typed filters the list down to the currencies that start
+ * with it (see CurrencyComboBoxModel), and pressing enter or leaving the dropdown selects the first of them. The rows
+ * all have the height and width of the longest name, so the list only ever renders the rows it shows, no matter how
+ * many currencies there are
+ */
+public abstract class AbstractSearchableJComboBox extends AbstractJComboBox<String> {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The number of rows shown at once when the list is open
+     */
+    private static final int MAXIMUM_ROW_COUNT = 16;
+
+    /**
+     * The model of the currencies
+     */
+    private final CurrencyComboBoxModel model;
+
+    /**
+     * Filters the list to the text of the editor when the user changes it
+     */
+    private final DocumentListener editorListener = new DocumentListener() {
+        @Override
+        public void insertUpdate(final DocumentEvent event) { AbstractSearchableJComboBox.this.editorTextChanged(); }
+
+        @Override
+        public void removeUpdate(final DocumentEvent event) { AbstractSearchableJComboBox.this.editorTextChanged(); }
+
+        @Override
+        public void changedUpdate(final DocumentEvent event) { }
+    };
+
+    /**
+     * If the editor is being set to the selected item, rather than typed into
+     */
+    private boolean configuringEditor = false;
+
+    /**
+     * If the list is being filtered, during which the editor must keep what has been typed
+     */
+    private boolean filtering = false;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * A constructor for the combo box
+     * @param count The number of currencies
+     * @param names Returns the abbreviated name of the currency with an ordinal, which is read from the registry
+     * @param controller The controller
+     */
+    public AbstractSearchableJComboBox(final int count, final IntFunction<String> names,
+                                       final ComboBoxContractInterface controller) {
+        this(new CurrencyComboBoxModel(count, names), count, names, controller);
+    }
+
+    /**
+     * The constructor that keeps hold of the model
+     * @param model The model of the currencies
+     * @param count The number of currencies
+     * @param names Returns the abbreviated name of the currency with an ordinal
+     * @param controller The controller
+     */
+    private AbstractSearchableJComboBox(final CurrencyComboBoxModel model, final int count,
+                                        final IntFunction<String> names, final ComboBoxContractInterface controller) {
+        super(model, controller);
+        this.model = model;
+
+        super.setPrototypeDisplayValue(AbstractSearchableJComboBox.longest(count, names));
+        super.setMaximumRowCount(AbstractSearchableJComboBox.MAXIMUM_ROW_COUNT);
+        super.setEditable(true);
+        this.listenTo(super.getEditor());
+
+        // Show every currency again once the list is closed
+        super.addPopupMenuListener(new PopupMenuListener() {
+            @Override
+            public void popupMenuWillBecomeVisible(final PopupMenuEvent event) { }
+
+            @Override
+            public void popupMenuWillBecomeInvisible(final PopupMenuEvent event) {
+                if (!AbstractSearchableJComboBox.this.filtering) AbstractSearchableJComboBox.this.model.filter("");
+            }
+
+            @Override
+            public void popupMenuCanceled(final PopupMenuEvent event) { }
+        });
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Returns the longest of the names, which every row is sized to
+     * @param count The number of currencies
+     * @param names Returns the abbreviated name of the currency with an ordinal
+     * @return The longest name (empty if there are none)
+     */
+    private static String longest(final int count, final IntFunction<String> names) {
+        String longest = "";
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            final String name = names.apply(ordinal);
+            if (name.length() > longest.length()) longest = name;
+        }
+        return longest;
+    }
+
+    /**
+     * Listens to the text of an editor
+     * @param editor The editor
+     */
+    private void listenTo(final ComboBoxEditor editor) {
+        // The editor is first set while the super constructor runs, before the listener exists
+        if (this.editorListener == null || editor == null) return;
+        final Component component = editor.getEditorComponent();
+        if (component instanceof JTextComponent)
+            ((JTextComponent) component).getDocument().addDocumentListener(this.editorListener);
+    }
+
+    /**
+     * Stops listening to the text of an editor
+     * @param editor The editor
+     */
+    private void stopListeningTo(final ComboBoxEditor editor) {
+        if (this.editorListener == null || editor == null) return;
+        final Component component = editor.getEditorComponent();
+        if (component instanceof JTextComponent)
+            ((JTextComponent) component).getDocument().removeDocumentListener(this.editorListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Listens to the text of the new editor, which the look and feel can swap in at any time
+     */
+    @Override
+    public void setEditor(final ComboBoxEditor editor) {
+        this.stopListeningTo(super.getEditor());
+        super.setEditor(editor);
+        this.listenTo(editor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Leaves what has been typed alone while the list is being filtered
+     */
+    @Override
+    public void configureEditor(final ComboBoxEditor editor, final Object item) {
+        if (this.filtering) return;
+
+        this.configuringEditor = true;
+        try {
+            super.configureEditor(editor, item);
+        } finally {
+            this.configuringEditor = false;
+        }
+    }
+
+    /**
+     * Filters the list once the user has changed the text of the editor. This is done after the change has been
+     * dispatched, as the editor can't be changed while it's notifying its listeners
+     */
+    private void editorTextChanged() {
+        if (this.configuringEditor) return;
+        SwingUtilities.invokeLater(this::filterToEditorText);
+    }
+
+    /**
+     * Filters the list to the text of the editor, and opens the list on the currencies that are left
+     */
+    private void filterToEditorText() {
+        final Component component = super.getEditor().getEditorComponent();
+        if (!(component instanceof JTextComponent)) return;
+
+        this.filtering = true;
+        try {
+            this.model.filter(((JTextComponent) component).getText());
+
+            if (!super.isShowing() || !component.isFocusOwner()) return;
+            // The list is sized when it opens, so it's reopened to fit the currencies that are left
+            if (super.isPopupVisible()) super.hidePopup();
+            if (this.model.getSize() > 0) super.showPopup();
+        } finally {
+            this.filtering = false;
+        }
+    }
+
+}
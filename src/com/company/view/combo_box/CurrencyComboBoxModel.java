@@ -0,0 +1,215 @@
+package com.company.view.combo_box;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+import java.util.function.IntFunction;
+
+/**
+ * The model behind a currency dropdown, which can be filtered down to the currencies whose abbreviated name starts
+ * with a prefix. The names are read from the currency registry by ordinal, never copied, and the model only keeps a
+ * prefix index: the ordinals sorted by name, ignoring case, so the names that start with any prefix are a single run
+ * of it, found with two binary searches. A filter is just that run, so filtering never copies or creates an item, and
+ * the list only ever asks for the rows it shows. The rows are in the order of the index. Like every Swing model, it
+ * must only be used on the event dispatch thread
+ */
+final public class CurrencyComboBoxModel extends AbstractListModel<String> implements ComboBoxModel<String> {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * Returns the abbreviated name of the currency with an ordinal
+     */
+    private final IntFunction<String> names;
+
+    /**
+     * The ordinals of the currencies, sorted by their names ignoring case
+     */
+    private final int[] index;
+
+    /**
+     * The first position in the index that the filter lets through
+     */
+    private int from;
+
+    /**
+     * The position in the index after the last one that the filter lets through
+     */
+    private int to;
+
+    /**
+     * The selected name (null if none is)
+     */
+    private String selected;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the CurrencyComboBoxModel, which starts unfiltered with the first name selected
+     * @param count The number of currencies
+     * @param names Returns the abbreviated name of the currency with an ordinal (from 0 to count - 1)
+     */
+    public CurrencyComboBoxModel(final int count, final IntFunction<String> names) {
+        this.names = names;
+        this.index = new int[count];
+        for (int ordinal = 0; ordinal < count; ordinal++) this.index[ordinal] = ordinal;
+        this.sortIndex();
+
+        this.from = 0;
+        this.to = count;
+        this.selected = count == 0 ? null : this.nameAt(0);
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Returns the name at a position in the index
+     * @param position The position in the index
+     * @return The name
+     */
+    private String nameAt(final int position) {
+        return this.names.apply(this.index[position]);
+    }
+
+    /**
+     * Sorts the index by name ignoring case, with a merge sort on the ordinals themselves so that none of them are
+     * boxed. It's stable, so names that only differ in case keep their registry order
+     */
+    private void sortIndex() {
+        int[] source = this.index;
+        int[] target = new int[source.length];
+        for (int width = 1; width < source.length; width *= 2) {
+            for (int low = 0; low < source.length; low += 2 * width) {
+                final int middle = Math.min(low + width, source.length);
+                final int high = Math.min(low + 2 * width, source.length);
+                int left = low;
+                int right = middle;
+                for (int i = low; i < high; i++) {
+                    final boolean takeLeft = right == high || (left < middle && String.CASE_INSENSITIVE_ORDER
+                            .compare(this.names.apply(source[left]), this.names.apply(source[right])) <= 0);
+                    target[i] = takeLeft ? source[left++] : source[right++];
+                }
+            }
+            final int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != this.index) System.arraycopy(source, 0, this.index, 0, source.length);
+    }
+
+    @Override
+    public int getSize() {
+        return this.to - this.from;
+    }
+
+    @Override
+    public String getElementAt(final int row) {
+        return this.nameAt(this.from + row);
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return this.selected;
+    }
+
+    /**
+     * Selects a name. Anything that isn't a name is matched to the first name that starts with it, ignoring case (i.e.
+     * what has been typed into the dropdown), and if nothing does the selection stays as it is, so the selected item
+     * is always one of the names
+     * @param item The name to select
+     */
+    @Override
+    public void setSelectedItem(final Object item) {
+        if (item == null) return;
+
+        final String prefix = item.toString().trim();
+        final int first = this.lowerBound(prefix);
+        if (first == this.index.length || !CurrencyComboBoxModel.startsWith(this.nameAt(first), prefix)) return;
+
+        // Prefer the name that matches exactly, which sorts first among those that start with it
+        final String name = this.nameAt(first);
+        if (name.equals(this.selected)) return;
+
+        this.selected = name;
+        super.fireContentsChanged(this, -1, -1);
+    }
+
+    /**
+     * Lets through only the names that start with a prefix, ignoring case
+     * @param prefix The prefix (empty to let every name through)
+     */
+    public void filter(final String prefix) {
+        final String key = prefix.trim();
+        final int newFrom = this.lowerBound(key);
+        final int newTo = this.upperBound(key, newFrom);
+        if (newFrom == this.from && newTo == this.to) return;
+
+        final int oldSize = this.getSize();
+        this.from = newFrom;
+        this.to = newTo;
+        final int newSize = this.getSize();
+
+        // Interval events rather than a contents change, as the list then only repaints and the selection is kept
+        if (oldSize > 0) super.fireIntervalRemoved(this, 0, oldSize - 1);
+        if (newSize > 0) super.fireIntervalAdded(this, 0, newSize - 1);
+    }
+
+    /**
+     * Returns if the names are filtered
+     * @return If some names aren't let through
+     */
+    public boolean isFiltered() {
+        return this.getSize() != this.index.length;
+    }
+
+    /**
+     * Returns if a name starts with a prefix, ignoring case
+     * @param name The name
+     * @param prefix The prefix
+     * @return If the name starts with the prefix
+     */
+    private static boolean startsWith(final String name, final String prefix) {
+        return name.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    /**
+     * Returns the first position in the index whose name isn't before a prefix, ignoring case
+     * @param prefix The prefix
+     * @return The position (the length of the index if every name is before the prefix)
+     */
+    private int lowerBound(final String prefix) {
+        int low = 0;
+        int high = this.index.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(this.nameAt(middle), prefix) < 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first position in the index, from the lower bound of a prefix, whose name doesn't start with it. The
+     * names that start with the prefix all sort together, right after the ones before it
+     * @param prefix The prefix
+     * @param lowerBound The lower bound of the prefix
+     * @return The position (the length of the index if every name from the lower bound starts with the prefix)
+     */
+    private int upperBound(final String prefix, final int lowerBound) {
+        int low = lowerBound;
+        int high = this.index.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (CurrencyComboBoxModel.startsWith(this.nameAt(middle), prefix)) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+}
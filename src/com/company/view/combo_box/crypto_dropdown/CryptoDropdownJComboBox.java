@@ -1,22 +1,23 @@
 package com.company.view.combo_box.crypto_dropdown;
 
 import com.company.tool.enums.currency.CryptoCurrencies;
-import com.company.view.combo_box.AbstractJComboBox;
+import com.company.view.combo_box.AbstractSearchableJComboBox;
 
 /**
  * The implementation for the dropdown selector for cryptocurrencies
  */
-final public class CryptoDropdownJComboBox extends AbstractJComboBox<String> implements CryptoDropdownInterface<String> {
+final public class CryptoDropdownJComboBox extends AbstractSearchableJComboBox
+        implements CryptoDropdownInterface<String> {
 
     /* ************ *
      * Constructors *
      * ************ */
     /**
-     * A constructor for the combo box
-     * @param items A string of items that is displayed
+     * A constructor for the combo box, which shows every cryptocurrency in the registry
      */
-    public CryptoDropdownJComboBox(final String[] items, final CryptoDropdownContractInterface controller) {
-        super(items, controller);
+    public CryptoDropdownJComboBox(final CryptoDropdownContractInterface controller) {
+        super(CryptoCurrencies.count(), (final int ordinal) -> CryptoCurrencies.get(ordinal).getAbbreviatedName(),
+                controller);
     }
 
 
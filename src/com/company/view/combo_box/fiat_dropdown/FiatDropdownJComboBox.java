@@ -1,23 +1,22 @@
 package com.company.view.combo_box.fiat_dropdown;
 
 import com.company.tool.enums.currency.FiatCurrencies;
-import com.company.view.combo_box.AbstractJComboBox;
+import com.company.view.combo_box.AbstractSearchableJComboBox;
 
 /**
  * The implementation for the dropdown selector for fiat currencies
  */
-final public class FiatDropdownJComboBox extends AbstractJComboBox<String> implements FiatDropdownInterface<String> {
+final public class FiatDropdownJComboBox extends AbstractSearchableJComboBox implements FiatDropdownInterface<String> {
 
     /* ************ *
      * Constructors *
      * ************ */
 
     /**
-     * A constructor for the combo box
-     * @param items A string of items that is displayed
+     * A constructor for the combo box, which shows every fiat currency
      */
-    public FiatDropdownJComboBox(final String[] items, final FiatDropdownContractInterface controller) {
-        super(items, controller);
+    public FiatDropdownJComboBox(final FiatDropdownContractInterface controller) {
+        super(FiatCurrencies.count(), FiatCurrencies::nameOf, controller);
     }
 
 
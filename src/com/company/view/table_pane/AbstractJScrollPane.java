@@ -2,6 +2,7 @@ package com.company.view.table_pane;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
 import java.awt.*;
 import java.util.Vector;
 
@@ -44,6 +45,17 @@ abstract public class AbstractJScrollPane extends JScrollPane implements TablePa
         this.setup(columns, data);
     }
 
+    /**
+     * AbstractJScrollPane constructor for a table backed by its own model
+     * @param model The model of the table
+     */
+    public AbstractJScrollPane(final TableModel model) {
+        super();
+        this.columns = new Vector<>();
+        for (int i = 0; i < model.getColumnCount(); i++) this.columns.add(model.getColumnName(i));
+        this.setupTable(new JTable(model));
+    }
+
 
     /* ************ *
      *    Methods   *
@@ -60,7 +72,15 @@ abstract public class AbstractJScrollPane extends JScrollPane implements TablePa
         // TODO: Further, this is where you left off. You're trying to figure out why the columns names get overridden
         this.columns = columns;
         this.data = data;
-        this.table = new JTable(this.data, this.columns);
+        this.setupTable(new JTable(this.data, this.columns));
+    }
+
+    /**
+     * Shows the table in the pane
+     * @param table The table
+     */
+    private void setupTable(final JTable table) {
+        this.table = table;
         this.table.setShowGrid(true);
         this.table.setGridColor(Color.LIGHT_GRAY);
         super.setViewportView(this.table);
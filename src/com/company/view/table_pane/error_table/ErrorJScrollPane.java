@@ -0,0 +1,117 @@
+package com.company.view.table_pane.error_table;
+
+import com.company.tool.error_aggregator.ErrorAggregatorInterface;
+import com.company.view.table_pane.AbstractJScrollPane;
+
+import javax.swing.Timer;
+import java.awt.Dimension;
+import java.util.Vector;
+
+/**
+ * The table of the errors that happened recently, which sits in the main window in place of a window per error. It
+ * reads the errors from the aggregator on a timer of its own, and only rebuilds itself when they changed
+ */
+final public class ErrorJScrollPane extends AbstractJScrollPane implements ErrorTablePaneInterface {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The column headers of the table
+     */
+    private static final String[] COLUMN_HEADERS = { "Website", "Error", "Pair", "Count", "Last Seen" };
+
+    /**
+     * The time in milliseconds between checks for new errors
+     */
+    public static final int REFRESH_MILLIS = 500;
+
+    /**
+     * The width of the table
+     */
+    public static final int WIDTH = 1200;
+
+    /**
+     * The height of the table
+     */
+    public static final int HEIGHT = 120;
+
+    /**
+     * The aggregator the errors are read from
+     */
+    private final ErrorAggregatorInterface errorAggregator;
+
+    /**
+     * The model of the table
+     */
+    private final ErrorTableModel model;
+
+    /**
+     * The version of the errors that the table shows
+     */
+    private long shownVersion = -1;
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the error table pane, which starts checking for new errors straight away
+     * @param errorAggregator The aggregator the errors are read from
+     */
+    public ErrorJScrollPane(final ErrorAggregatorInterface errorAggregator) {
+        this(errorAggregator, new ErrorTableModel(ErrorJScrollPane.COLUMN_HEADERS));
+    }
+
+    /**
+     * The constructor for the error table pane
+     * @param errorAggregator The aggregator the errors are read from
+     * @param model The model of the table
+     */
+    private ErrorJScrollPane(final ErrorAggregatorInterface errorAggregator, final ErrorTableModel model) {
+        super(model);
+        this.errorAggregator = errorAggregator;
+        this.model = model;
+        super.disableTableEditable();
+        super.setPreferredSize(new Dimension(ErrorJScrollPane.WIDTH, ErrorJScrollPane.HEIGHT));
+
+        new Timer(ErrorJScrollPane.REFRESH_MILLIS, event -> this.refreshErrors()).start();
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public void refreshErrors() {
+        // Forgetting the old errors changes the version too, so they leave the table even while nothing new happens
+        this.errorAggregator.forgetExpired();
+
+        // Read before the errors, so an error recorded meanwhile is picked up next time
+        final long version = this.errorAggregator.getVersion();
+        if (version == this.shownVersion) return;
+
+        this.model.setSummaries(this.errorAggregator.getSummaries());
+        this.shownVersion = version;
+    }
+
+    @Override
+    public Vector<String> getColumns() { return this.model.getColumns(); }
+
+    @Override
+    public Vector<Vector<String>> getData() { return this.model.getData(); }
+
+    /**
+     * {@inheritDoc}
+     * The rows are shown until the errors of the aggregator next change
+     */
+    @Override
+    public void setData(final Vector<Vector<String>> data) { this.model.setData(data); }
+
+    @Override
+    public void setColumns(final Vector<String> columns) { this.model.setColumns(columns); }
+
+}
@@ -0,0 +1,163 @@
+package com.company.view.table_pane.error_table;
+
+import com.company.tool.error_aggregator.ErrorSummary;
+
+import javax.swing.table.AbstractTableModel;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Vector;
+
+/**
+ * The model behind the table of recent errors: one row per group of errors, with the latest first. Like every Swing
+ * model, it must only be used on the event dispatch thread
+ */
+final public class ErrorTableModel extends AbstractTableModel {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The column of the endpoint's name
+     */
+    public static final int NAME_COLUMN = 0;
+
+    /**
+     * The column of the type of error
+     */
+    public static final int ERROR_COLUMN = 1;
+
+    /**
+     * The column of the pair
+     */
+    public static final int PAIR_COLUMN = 2;
+
+    /**
+     * The column of the number of errors within the current window
+     */
+    public static final int COUNT_COLUMN = 3;
+
+    /**
+     * The column of the time of the latest error
+     */
+    public static final int LAST_SEEN_COLUMN = 4;
+
+    /**
+     * The number of columns
+     */
+    private static final int COLUMN_COUNT = 5;
+
+    /**
+     * The names of the columns
+     */
+    private String[] columns;
+
+    /**
+     * The cells of each row
+     */
+    private final List<String[]> rows = new ArrayList<>();
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the ErrorTableModel
+     * @param columns The names of the columns
+     */
+    public ErrorTableModel(final String[] columns) {
+        if (columns.length != ErrorTableModel.COLUMN_COUNT)
+            throw new IllegalArgumentException("The error table has " + ErrorTableModel.COLUMN_COUNT + " columns");
+        this.columns = Arrays.copyOf(columns, columns.length);
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public int getRowCount() { return this.rows.size(); }
+
+    @Override
+    public int getColumnCount() { return this.columns.length; }
+
+    @Override
+    public String getColumnName(final int column) { return this.columns[column]; }
+
+    @Override
+    public Class<?> getColumnClass(final int column) { return String.class; }
+
+    @Override
+    public Object getValueAt(final int row, final int column) { return this.rows.get(row)[column]; }
+
+    /**
+     * Replaces the rows with one row per group of errors
+     * @param summaries The groups of errors, in the order to show them in
+     */
+    public void setSummaries(final List<ErrorSummary> summaries) {
+        this.rows.clear();
+        for (final ErrorSummary summary : summaries) {
+            final String[] cells = new String[ErrorTableModel.COLUMN_COUNT];
+            cells[ErrorTableModel.NAME_COLUMN] = summary.getName();
+            cells[ErrorTableModel.ERROR_COLUMN] = summary.getError().name();
+            cells[ErrorTableModel.PAIR_COLUMN] = summary.getCrypto() == null || summary.getFiat() == null ? "" :
+                    summary.getCrypto().getAbbreviatedName() + "/" + summary.getFiat().getAbbreviatedName();
+            cells[ErrorTableModel.COUNT_COLUMN] = summary.getCount() == summary.getTotalCount() ?
+                    Long.toString(summary.getCount()) : summary.getCount() + " (" + summary.getTotalCount() + " total)";
+            cells[ErrorTableModel.LAST_SEEN_COLUMN] = Instant.ofEpochMilli(summary.getLastSeenMillis())
+                    .atZone(ZoneId.systemDefault()).toLocalTime().truncatedTo(ChronoUnit.SECONDS).toString();
+            this.rows.add(cells);
+        }
+        super.fireTableDataChanged();
+    }
+
+    /**
+     * Returns the names of the columns
+     * @return A copy of the names of the columns
+     */
+    public Vector<String> getColumns() {
+        return new Vector<>(Arrays.asList(this.columns));
+    }
+
+    /**
+     * Renames the columns. What each column holds is fixed, so there must be one name per column
+     * @param columns The names of the columns
+     */
+    public void setColumns(final Vector<String> columns) {
+        if (columns.size() != ErrorTableModel.COLUMN_COUNT)
+            throw new IllegalArgumentException("The error table has " + ErrorTableModel.COLUMN_COUNT + " columns");
+
+        this.columns = columns.toArray(new String[0]);
+        super.fireTableStructureChanged();
+    }
+
+    /**
+     * Returns a copy of the cells
+     * @return The cells as a matrix of strings
+     */
+    public Vector<Vector<String>> getData() {
+        final Vector<Vector<String>> data = new Vector<>(this.rows.size());
+        for (final String[] cells : this.rows) data.add(new Vector<>(Arrays.asList(cells)));
+        return data;
+    }
+
+    /**
+     * Replaces every cell. A row with fewer cells than there are columns is padded with blanks
+     * @param data The cells as a matrix of strings
+     */
+    public void setData(final Vector<Vector<String>> data) {
+        this.rows.clear();
+        for (final Vector<String> row : data) {
+            final String[] cells = new String[ErrorTableModel.COLUMN_COUNT];
+            for (int i = 0; i < cells.length; i++) cells[i] = i < row.size() ? row.get(i) : "";
+            this.rows.add(cells);
+        }
+        super.fireTableDataChanged();
+    }
+}
@@ -0,0 +1,16 @@
+package com.company.view.table_pane.error_table;
+
+import com.company.view.table_pane.TablePaneInterface;
+
+/**
+ * The interface for the table of recent errors. Like every Swing component, it must only be used on the event dispatch
+ * thread
+ */
+public interface ErrorTablePaneInterface extends TablePaneInterface {
+
+    /**
+     * Shows the latest errors, if any changed since they were last shown
+     */
+    void refreshErrors();
+
+}
@@ -2,6 +2,7 @@ package com.company.view.table_pane.main_table;
 
 import com.company.view.table_pane.AbstractJScrollPane;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Vector;
 
@@ -26,6 +27,11 @@ final public class MainJScrollPane extends AbstractJScrollPane implements MainTa
     public static final Vector<String> DEFAULT_COLUMN_HEADERS =
             new Vector<>(Arrays.asList(MainJScrollPane.DEFAULT_COLUMN_HEADERS_ARRAY));
 
+    /**
+     * The model of the table, which is updated in place
+     */
+    private final MainTableModel model;
+
 
     /* ************ *
      * Constructors *
@@ -33,11 +39,51 @@ final public class MainJScrollPane extends AbstractJScrollPane implements MainTa
 
     /**
      * The constructor for the main table pane
-     * @param data The data of all the prices of the cryptocurrencies and whatnot
      */
-    public MainJScrollPane(final Vector<Vector<String>> data) {
-        super(MainJScrollPane.DEFAULT_COLUMN_HEADERS, data);
+    public MainJScrollPane() {
+        this(new MainTableModel(MainJScrollPane.DEFAULT_COLUMN_HEADERS_ARRAY));
+    }
+
+    /**
+     * The constructor for the main table pane
+     * @param model The model of the table
+     */
+    private MainJScrollPane(final MainTableModel model) {
+        super(model);
+        this.model = model;
         super.disableTableEditable();
     }
 
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public Vector<String> getColumns() { return this.model.getColumns(); }
+
+    @Override
+    public Vector<Vector<String>> getData() { return this.model.getData(); }
+
+    @Override
+    public void setData(final Vector<Vector<String>> data) { this.model.setData(data); }
+
+    @Override
+    public void setColumns(final Vector<String> columns) { this.model.setColumns(columns); }
+
+    @Override
+    public void setEndpoints(final Iterable<String> endpointNames) { this.model.setEndpoints(endpointNames); }
+
+    @Override
+    public void setRefreshing(final String name) { this.model.setRefreshing(this.model.indexOf(name)); }
+
+    @Override
+    public void updatePrice(final String name, final long price, final int scale, final boolean isSuccessful,
+                            final LocalDateTime lastUpdated) {
+        this.model.updatePrice(this.model.indexOf(name), price, scale, isSuccessful, lastUpdated);
+    }
+
+    @Override
+    public void clear() { this.model.clear(); }
+
 }
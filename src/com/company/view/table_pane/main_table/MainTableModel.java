@@ -0,0 +1,253 @@
+package com.company.view.table_pane.main_table;
+
+import com.company.tool.util.FixedPointPrice;
+
+import javax.swing.table.AbstractTableModel;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Vector;
+
+/**
+ * The model behind the main table: one row per endpoint, looked up by the endpoint's row index. Updating an endpoint
+ * changes its cells in place and only fires an event for the cells that actually changed, so the table repaints just
+ * those cells instead of rebuilding itself. Like every Swing model, it must only be used on the event dispatch thread
+ */
+final public class MainTableModel extends AbstractTableModel {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The column of the endpoint's name
+     */
+    public static final int NAME_COLUMN = 0;
+
+    /**
+     * The column of the price
+     */
+    public static final int PRICE_COLUMN = 1;
+
+    /**
+     * The column of the status of the last update
+     */
+    public static final int STATUS_COLUMN = 2;
+
+    /**
+     * The column of the time of the last successful update
+     */
+    public static final int LAST_UPDATED_COLUMN = 3;
+
+    /**
+     * The status of an endpoint that hasn't been updated yet
+     */
+    public static final String STATUS_NOTHING = "Nothing";
+
+    /**
+     * The status of an endpoint that is being updated
+     */
+    public static final String STATUS_REFRESHING = "Refreshing";
+
+    /**
+     * The status of an endpoint whose last update succeeded
+     */
+    public static final String STATUS_SUCCESSFUL = "Successful";
+
+    /**
+     * The status of an endpoint whose last update failed
+     */
+    public static final String STATUS_FAILED = "Failed";
+
+    /**
+     * The text shown for an endpoint that has never been successfully updated
+     */
+    public static final String NEVER_UPDATED = "Never";
+
+    /**
+     * The names of the columns
+     */
+    private String[] columns;
+
+    /**
+     * The cells of each row
+     */
+    private final List<String[]> rows = new ArrayList<>();
+
+    /**
+     * The row index of each endpoint, by name
+     */
+    private final Map<String, Integer> rowIndexes = new HashMap<>();
+
+    /**
+     * The text of the latest price, formatted in place so that a new string is only made when the price changed
+     */
+    private final StringBuilder priceText = new StringBuilder();
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the MainTableModel
+     * @param columns The names of the columns
+     */
+    public MainTableModel(final String[] columns) {
+        this.columns = Arrays.copyOf(columns, columns.length);
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    @Override
+    public int getRowCount() { return this.rows.size(); }
+
+    @Override
+    public int getColumnCount() { return this.columns.length; }
+
+    @Override
+    public String getColumnName(final int column) { return this.columns[column]; }
+
+    @Override
+    public Class<?> getColumnClass(final int column) { return String.class; }
+
+    @Override
+    public Object getValueAt(final int row, final int column) { return this.rows.get(row)[column]; }
+
+    /**
+     * Returns the row index of an endpoint
+     * @param name The name of the endpoint
+     * @return The row index, or -1 if the endpoint isn't in the table
+     */
+    public int indexOf(final String name) {
+        final Integer index = this.rowIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Replaces the rows with one (not yet updated) row per endpoint
+     * @param endpointNames The names of the endpoints
+     */
+    public void setEndpoints(final Iterable<String> endpointNames) {
+        this.rows.clear();
+        this.rowIndexes.clear();
+
+        for (final String name : endpointNames) {
+            this.rowIndexes.put(name, this.rows.size());
+            this.rows.add(new String[] { name, "", MainTableModel.STATUS_NOTHING, "" });
+        }
+        super.fireTableDataChanged();
+    }
+
+    /**
+     * Removes every row
+     */
+    public void clear() {
+        this.rows.clear();
+        this.rowIndexes.clear();
+        super.fireTableDataChanged();
+    }
+
+    /**
+     * Marks an endpoint as being updated
+     * @param row The row index of the endpoint
+     */
+    public void setRefreshing(final int row) {
+        if (row < 0 || row >= this.rows.size()) return;
+
+        this.setCell(row, MainTableModel.STATUS_COLUMN, MainTableModel.STATUS_REFRESHING);
+    }
+
+    /**
+     * Shows the result of an update of an endpoint
+     * @param row The row index of the endpoint
+     * @param price The mantissa of the price (FixedPointPrice.NO_PRICE if there is none, which shows as blank)
+     * @param scale The scale of the price, which is the number of decimal places shown
+     * @param isSuccessful If the update succeeded
+     * @param lastUpdated The time of the last successful update (null if it has never succeeded)
+     */
+    public void updatePrice(final int row, final long price, final int scale, final boolean isSuccessful,
+                            final LocalDateTime lastUpdated) {
+        if (row < 0 || row >= this.rows.size()) return;
+
+        this.priceText.setLength(0);
+        FixedPointPrice.appendTo(this.priceText, price, scale);
+        final String shownPrice = this.rows.get(row)[MainTableModel.PRICE_COLUMN];
+        if (shownPrice == null || !shownPrice.contentEquals(this.priceText))
+            this.setCell(row, MainTableModel.PRICE_COLUMN, this.priceText.toString());
+        this.setCell(row, MainTableModel.STATUS_COLUMN,
+                isSuccessful ? MainTableModel.STATUS_SUCCESSFUL : MainTableModel.STATUS_FAILED);
+        this.setCell(row, MainTableModel.LAST_UPDATED_COLUMN, lastUpdated == null ? MainTableModel.NEVER_UPDATED :
+                lastUpdated.toLocalTime().truncatedTo(ChronoUnit.SECONDS).toString());
+    }
+
+    /**
+     * Sets a single cell, firing an update for it only if its value changed
+     * @param row The row of the cell
+     * @param column The column of the cell
+     * @param value The value of the cell
+     */
+    private void setCell(final int row, final int column, final String value) {
+        final String[] cells = this.rows.get(row);
+        if (Objects.equals(cells[column], value)) return;
+
+        cells[column] = value;
+        super.fireTableCellUpdated(row, column);
+    }
+
+    /**
+     * Returns the names of the columns
+     * @return A copy of the names of the columns
+     */
+    public Vector<String> getColumns() {
+        return new Vector<>(Arrays.asList(this.columns));
+    }
+
+    /**
+     * Renames the columns. What each column holds is fixed, so there must be one name per column
+     * @param columns The names of the columns
+     */
+    public void setColumns(final Vector<String> columns) {
+        if (columns.size() != this.columns.length)
+            throw new IllegalArgumentException("The main table has " + this.columns.length + " columns");
+
+        this.columns = columns.toArray(new String[0]);
+        super.fireTableStructureChanged();
+    }
+
+    /**
+     * Returns a copy of the cells
+     * @return The cells as a matrix of strings
+     */
+    public Vector<Vector<String>> getData() {
+        final Vector<Vector<String>> data = new Vector<>(this.rows.size());
+        for (final String[] cells : this.rows) data.add(new Vector<>(Arrays.asList(cells)));
+        return data;
+    }
+
+    /**
+     * Replaces every cell. The first cell of each row is taken to be the name of the endpoint
+     * @param data The cells as a matrix of strings
+     */
+    public void setData(final Vector<Vector<String>> data) {
+        this.rows.clear();
+        this.rowIndexes.clear();
+
+        for (final Vector<String> row : data) {
+            final String[] cells = new String[this.columns.length];
+            for (int i = 0; i < cells.length && i < row.size(); i++) cells[i] = row.get(i);
+
+            this.rowIndexes.put(cells[MainTableModel.NAME_COLUMN], this.rows.size());
+            this.rows.add(cells);
+        }
+        super.fireTableDataChanged();
+    }
+}
@@ -2,7 +2,39 @@ package com.company.view.table_pane.main_table;
 
 import com.company.view.table_pane.TablePaneInterface;
 
+import java.time.LocalDateTime;
+
 /**
- * The interface for the main table
+ * The interface for the main table. Like every Swing component, it must only be used on the event dispatch thread
  */
-public interface MainTablePaneInterface extends TablePaneInterface { }
+public interface MainTablePaneInterface extends TablePaneInterface {
+
+    /**
+     * Sets the endpoints that this table will have, one row each
+     * @param endpointNames The names of the endpoints
+     */
+    void setEndpoints(final Iterable<String> endpointNames);
+
+    /**
+     * Marks an endpoint as being updated
+     * @param name The name of the endpoint
+     */
+    void setRefreshing(final String name);
+
+    /**
+     * Shows the result of an update of an endpoint
+     * @param name The name of the endpoint
+     * @param price The mantissa of the price (FixedPointPrice.NO_PRICE if there is none)
+     * @param scale The scale of the price
+     * @param isSuccessful If the update succeeded
+     * @param lastUpdated The time of the last successful update (null if it has never succeeded)
+     */
+    void updatePrice(final String name, final long price, final int scale, final boolean isSuccessful,
+                     final LocalDateTime lastUpdated);
+
+    /**
+     * Removes every endpoint from the table
+     */
+    void clear();
+
+}
@@ -0,0 +1,273 @@
+package com.company.view.table_pane.main_table;
+
+import javax.swing.Timer;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Carries the updates of the main table from the fetch threads to the event dispatch thread. Any thread can post an
+ * update, which only adds it to a lock-free queue; the first update after a drain schedules the next one a frame
+ * later, so the queue is drained at most once per frame. A drain applies only the latest update of each endpoint, so
+ * a burst of prices for the same rows costs one pass over the table and one repaint. Replacing or clearing the rows
+ * keeps its place in the order of the updates
+ */
+final public class MainTableUpdateBus {
+
+    /* ************ *
+     *    Fields    *
+     * ************ */
+
+    /**
+     * The length of a frame in milliseconds, which is the longest an update waits to be shown
+     */
+    public static final int FRAME_MILLIS = 16;
+
+    /**
+     * The table the updates are applied to
+     */
+    private final MainTablePaneInterface table;
+
+    /**
+     * The updates that haven't been applied yet, in the order they were posted
+     */
+    private final Queue<Update> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * If a drain is scheduled, so that a burst of updates only schedules one
+     */
+    private final AtomicBoolean isDrainScheduled = new AtomicBoolean(false);
+
+    /**
+     * The timer that drains the queue on the event dispatch thread
+     */
+    private final Timer drainTimer;
+
+    /**
+     * The latest state of each endpoint's row that a drain hasn't applied yet, by name. Only used by the event
+     * dispatch thread, and reused by every drain
+     */
+    private final Map<String, PendingRow> pendingRows = new LinkedHashMap<>();
+
+
+    /* ************ *
+     * Constructors *
+     * ************ */
+
+    /**
+     * The constructor for the MainTableUpdateBus
+     * @param table The table the updates are applied to
+     */
+    public MainTableUpdateBus(final MainTablePaneInterface table) {
+        this.table = table;
+        this.drainTimer = new Timer(MainTableUpdateBus.FRAME_MILLIS, event -> this.drain());
+        this.drainTimer.setRepeats(false);
+    }
+
+
+    /* ************ *
+     *    Methods   *
+     * ************ */
+
+    /**
+     * Replaces the rows with one row per endpoint
+     * @param endpointNames The names of the endpoints
+     */
+    public void setEndpoints(final Iterable<String> endpointNames) {
+        this.post(new Update(Update.ENDPOINTS, null, endpointNames, 0L, 0, false, null));
+    }
+
+    /**
+     * Marks an endpoint as being updated
+     * @param name The name of the endpoint
+     */
+    public void setRefreshing(final String name) {
+        this.post(new Update(Update.REFRESHING, name, null, 0L, 0, false, null));
+    }
+
+    /**
+     * Shows the result of an update of an endpoint
+     * @param name The name of the endpoint
+     * @param price The mantissa of the price (FixedPointPrice.NO_PRICE if there is none)
+     * @param scale The scale of the price
+     * @param isSuccessful If the update succeeded
+     * @param lastUpdated The time of the last successful update (null if it has never succeeded)
+     */
+    public void updatePrice(final String name, final long price, final int scale, final boolean isSuccessful,
+                            final LocalDateTime lastUpdated) {
+        this.post(new Update(Update.PRICE, name, null, price, scale, isSuccessful, lastUpdated));
+    }
+
+    /**
+     * Removes every row
+     */
+    public void clear() {
+        this.post(new Update(Update.CLEAR, null, null, 0L, 0, false, null));
+    }
+
+    /**
+     * Queues an update, and schedules a drain if none is
+     * @param update The update
+     */
+    private void post(final Update update) {
+        this.queue.offer(update);
+        if (this.isDrainScheduled.compareAndSet(false, true)) this.drainTimer.start();
+    }
+
+    /**
+     * Applies every queued update to the table, keeping only the latest of each row. Runs on the event dispatch thread
+     */
+    private void drain() {
+        // Cleared first, so an update posted during the drain schedules another one rather than being missed
+        this.isDrainScheduled.set(false);
+
+        Update update;
+        while ((update = this.queue.poll()) != null) {
+            switch (update.kind) {
+                case Update.PRICE:
+                    this.pendingRows.computeIfAbsent(update.name, name -> new PendingRow()).setPrice(update);
+                    break;
+                case Update.REFRESHING:
+                    this.pendingRows.computeIfAbsent(update.name, name -> new PendingRow()).isRefreshing = true;
+                    break;
+                case Update.ENDPOINTS:
+                    this.applyPendingRows();
+                    this.table.setEndpoints(update.endpointNames);
+                    break;
+                case Update.CLEAR:
+                    this.applyPendingRows();
+                    this.table.clear();
+                    break;
+            }
+        }
+        this.applyPendingRows();
+    }
+
+    /**
+     * Applies the latest state of each row that hasn't been applied yet
+     */
+    private void applyPendingRows() {
+        for (final Map.Entry<String, PendingRow> entry : this.pendingRows.entrySet()) {
+            final Update price = entry.getValue().price;
+            if (price != null)
+                this.table.updatePrice(entry.getKey(), price.price, price.scale, price.isSuccessful, price.lastUpdated);
+            if (entry.getValue().isRefreshing) this.table.setRefreshing(entry.getKey());
+        }
+        this.pendingRows.clear();
+    }
+
+
+    /* ************ *
+     *    Classes   *
+     * ************ */
+
+    /**
+     * An update posted to the bus. Never changed once posted, so it can be handed between threads through the queue
+     */
+    private static final class Update {
+
+        /**
+         * The kind of update that shows the result of an update of an endpoint
+         */
+        private static final int PRICE = 0;
+
+        /**
+         * The kind of update that marks an endpoint as being updated
+         */
+        private static final int REFRESHING = 1;
+
+        /**
+         * The kind of update that replaces the rows
+         */
+        private static final int ENDPOINTS = 2;
+
+        /**
+         * The kind of update that removes every row
+         */
+        private static final int CLEAR = 3;
+
+        /**
+         * The kind of update
+         */
+        private final int kind;
+
+        /**
+         * The name of the endpoint (null if the update isn't of a single row)
+         */
+        private final String name;
+
+        /**
+         * The names of the endpoints (null unless the rows are replaced)
+         */
+        private final Iterable<String> endpointNames;
+
+        /**
+         * The mantissa of the price
+         */
+        private final long price;
+
+        /**
+         * The scale of the price
+         */
+        private final int scale;
+
+        /**
+         * If the update of the endpoint succeeded
+         */
+        private final boolean isSuccessful;
+
+        /**
+         * The time of the last successful update of the endpoint
+         */
+        private final LocalDateTime lastUpdated;
+
+        /**
+         * The constructor for an Update
+         * @param kind The kind of update
+         * @param name The name of the endpoint
+         * @param endpointNames The names of the endpoints
+         * @param price The mantissa of the price
+         * @param scale The scale of the price
+         * @param isSuccessful If the update of the endpoint succeeded
+         * @param lastUpdated The time of the last successful update of the endpoint
+         */
+        private Update(final int kind, final String name, final Iterable<String> endpointNames, final long price,
+                       final int scale, final boolean isSuccessful, final LocalDateTime lastUpdated) {
+            this.kind = kind;
+            this.name = name;
+            this.endpointNames = endpointNames;
+            this.price = price;
+            this.scale = scale;
+            this.isSuccessful = isSuccessful;
+            this.lastUpdated = lastUpdated;
+        }
+    }
+
+    /**
+     * The latest state of a row that a drain hasn't applied yet
+     */
+    private static final class PendingRow {
+
+        /**
+         * The latest price of the endpoint (null if there was none)
+         */
+        private Update price;
+
+        /**
+         * If the endpoint was marked as being updated after its latest price
+         */
+        private boolean isRefreshing;
+
+        /**
+         * Takes a newer price, which replaces the older one and whatever status came before it
+         * @param price The newer price
+         */
+        private void setPrice(final Update price) {
+            this.price = price;
+            this.isRefreshing = false;
+        }
+    }
+}
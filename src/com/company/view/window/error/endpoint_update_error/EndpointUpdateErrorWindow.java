@@ -49,6 +49,17 @@ final public class EndpointUpdateErrorWindow extends AbstractJFrameErrorWindow i
                 EndpointUpdateErrorWindow.MESSAGE);
     }
 
+    /**
+     * The constructor for the window that displays an endpoint update error along with the name of the connection that
+     * caused the error, when the update covered more than a single pair
+     * @param controller The controller in charge of the window
+     * @param name The name of the endpoint that caused the error
+     */
+    public EndpointUpdateErrorWindow(final ControllerInterface controller, final String name) {
+        super(controller, EndpointUpdateErrorWindow.TITLE, EndpointUpdateErrorWindow.WIDTH,
+                EndpointUpdateErrorWindow.HEIGHT, messageWithName(name));
+    }
+
     /**
      * The constructor for the window that displays an endpoint update error along with the name of the connection that caused the error
      * @param controller The controller in charge of the window
@@ -65,6 +76,16 @@ final public class EndpointUpdateErrorWindow extends AbstractJFrameErrorWindow i
      *    Methods   *
      * ************ */
 
+    /**
+     * Returns the message formatted to hold the name of the endpoint that tried to call a network connection
+     * @param name The name of the endpoint that tried to call a network connection
+     * @return The message formatted to hold the name of the endpoint that tried to call a network connection
+     */
+    private static String messageWithName(final String name) {
+        return "There was an error while getting the prices for an endpoint. This error occurred while trying to " +
+                "connect to " + name + ".\nPlease check your connection and try again.";
+    }
+
     /**
      * Returns the message formatted to hold the cryptocurrency's name that tried to call a network connection
      * @param name The name of the endpoint that tried to call a network connection
@@ -49,6 +49,17 @@ public class ParseErrorWindow extends AbstractJFrameErrorWindow implements Parse
                 ParseErrorWindow.MESSAGE);
     }
 
+    /**
+     * The constructor for the window that displays a parse error along with the name of the connection that caused the
+     * error, when the call covered more than a single pair
+     * @param controller The controller in charge of the window
+     * @param name The name of the endpoint that caused the error
+     */
+    public ParseErrorWindow(final ControllerInterface controller, final String name) {
+        super(controller, ParseErrorWindow.TITLE, ParseErrorWindow.WIDTH, ParseErrorWindow.HEIGHT,
+                messageWithName(name));
+    }
+
     /**
      * The constructor for the window that displays a parse error along with the name of the connection that caused the error
      * @param controller The controller in charge of the window
@@ -60,6 +71,16 @@ public class ParseErrorWindow extends AbstractJFrameErrorWindow implements Parse
                 ParseErrorWindow.HEIGHT, messageWithName(name, crypto, fiat));
     }
 
+    /**
+     * Returns the message formatted to hold the name of the endpoint that failed parsing
+     * @param name The name of the endpoint that failed in parsing
+     * @return The message formatted to hold the name of the endpoint that failed parsing
+     */
+    private static String messageWithName(final String name) {
+        return "There was an error while getting the prices for an endpoint. This error occurred while trying to " +
+                "parse " + name + ".\nPlease inform Alex that this app needs to be updated.";
+    }
+
     /**
      * Returns the message formatted to hold the cryptocurrency's name that failed parsing
      * @param name The name of the endpoint that failed in parsing
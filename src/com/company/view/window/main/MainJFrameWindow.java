@@ -7,17 +7,18 @@ import com.company.api_call.APICallerInterface;
 import com.company.view.combo_box.crypto_dropdown.CryptoDropdownJComboBox;
 import com.company.view.combo_box.fiat_dropdown.FiatDropdownJComboBox;
 import com.company.view.menu_bar.main_menu.MainJMenuBar;
+import com.company.view.table_pane.error_table.ErrorJScrollPane;
 import com.company.view.table_pane.main_table.MainJScrollPane;
 import com.company.view.table_pane.main_table.MainTablePaneInterface;
+import com.company.view.table_pane.main_table.MainTableUpdateBus;
 import com.company.view.button.refresh.RefreshJButton;
 import com.company.view.button.refresh.RefreshButtonInterface;
 import com.company.view.window.AbstractJFrameWindow;
 
 import javax.swing.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Vector;
 
 /**
  * The main window to display for the application
@@ -83,14 +84,14 @@ final public class MainJFrameWindow extends AbstractJFrameWindow implements Main
     private MainControllerInterface mainController;
 
     /**
-     * The data to be displayed in the main table
+     * The main table that displays all the information
      */
-    private final Vector<Vector<String>> data = new Vector<>();
+    private MainTablePaneInterface table;
 
     /**
-     * The main table that displays all the information
+     * The bus that carries the updates of the main table onto the event dispatch thread
      */
-    private MainTablePaneInterface table;
+    private MainTableUpdateBus tableUpdates;
 
     /**
      * The dropdown to choose the fiat currency
@@ -130,13 +131,22 @@ final public class MainJFrameWindow extends AbstractJFrameWindow implements Main
 
         super.setLocation(MainJFrameWindow.DEFAULT_X, MainJFrameWindow.DEFAULT_Y);
 
-        this.table = new MainJScrollPane(this.data);
+        // Stop the background work before the application exits
+        super.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(final WindowEvent event) {
+                MainJFrameWindow.this.mainController.shutdown();
+            }
+        });
+
+        this.table = new MainJScrollPane();
+        this.tableUpdates = new MainTableUpdateBus(this.table);
 
         super.setJMenuBar(new MainJMenuBar(this.mainController));
 
         final RefreshButtonInterface refreshButton = new RefreshJButton(this.mainController);
-        this.fiatDropdown = new FiatDropdownJComboBox(FiatCurrencies.toStringArray(), this.mainController);
-        this.cryptoDropdown = new CryptoDropdownJComboBox(CryptoCurrencies.toStringArray(), this.mainController);
+        this.fiatDropdown = new FiatDropdownJComboBox(this.mainController);
+        this.cryptoDropdown = new CryptoDropdownJComboBox(this.mainController);
 
         final JTextField fiat_dropdown_text = new JTextField(MainJFrameWindow.FIAT_DROPDOWN_TEXT);
         fiat_dropdown_text.setEditable(false);
@@ -150,6 +160,7 @@ final public class MainJFrameWindow extends AbstractJFrameWindow implements Main
         // TODO: Figure out how to resize the image
         this.panel.add((JButton) refreshButton);
         this.panel.add((JScrollPane) this.table);
+        this.panel.add(new ErrorJScrollPane(this.mainController.getErrorAggregator()));
         this.add(this.panel);
 
 
@@ -164,71 +175,19 @@ final public class MainJFrameWindow extends AbstractJFrameWindow implements Main
     }
 
     @Override
-    public void clear() {
-        this.data.clear();
-        // TODO: This should be done in the main table
-        this.table.setData(this.data);
-    }
+    public void clear() { this.tableUpdates.clear(); }
 
-    // TODO: This should be done in the main table
     @Override
-    public void setRefreshing(final String name) {
+    public void setRefreshing(final String name) { this.tableUpdates.setRefreshing(name); }
 
-        for (final Vector<String> website : this.data) {
-            if (website.firstElement().equals(name)) {
-                website.set(2, "Refreshing");
-                this.table.setData(this.data);
-                return;
-            }
-        }
-    }
-
-    // TODO: There should probably be a better way to update this
-    // TODO: This should be done in the main table
     @Override
-    public void updatePrice(final String name, final double price, final boolean hasSucceeded,
+    public void updatePrice(final String name, final long price, final int scale, final boolean hasSucceeded,
                             final LocalDateTime lastUpdated) {
-        for (final Vector<String> website : this.data) {
-            if (website.firstElement().equals(name)) {
-                this.setVectorizedWebsite(website, price, hasSucceeded, lastUpdated);
-                this.table.setData(this.data);
-                return;
-            }
-        }
-    }
-
-    private void setVectorizedWebsite(final Vector<String> website, final double price, final boolean hasSucceeded,
-                                      final LocalDateTime lastUpdated) {
-        // TODO: This should be moved into the table
-        if (hasSucceeded) {
-            website.set(2, "Successful");
-        } else {
-            website.set(2, "Failed");
-        }
-
-        website.set(1, String.valueOf(price));
-        try {
-            website.set(3, lastUpdated.toLocalTime().truncatedTo(ChronoUnit.SECONDS).toString());
-        } catch (final NullPointerException exception) {
-            website.set(3, "Never");
-        }
+        this.tableUpdates.updatePrice(name, price, scale, hasSucceeded, lastUpdated);
     }
 
     @Override
-    public void setEndpoints(final Iterable<String> endpointNames) {
-        // TODO: This should be moved into the table
-        this.clear();
-
-        for (final String name : endpointNames) {
-            final Vector<String> endpointVec = new Vector<>();
-            endpointVec.add(name);
-            endpointVec.add("");
-            endpointVec.add("Nothing");
-            endpointVec.add("");
-            this.data.add(endpointVec);
-        }
-        this.table.setData(this.data);
-    }
+    public void setEndpoints(final Iterable<String> endpointNames) { this.tableUpdates.setEndpoints(endpointNames); }
 
     /**
      * Closes the window and the application
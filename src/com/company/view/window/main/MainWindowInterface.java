@@ -11,7 +11,16 @@ import java.time.LocalDateTime;
  */
 public interface MainWindowInterface extends WindowInterface {
 
-    void updatePrice(final String name, final double price, final boolean isSuccessful, final LocalDateTime lastUpdate);
+    /**
+     * Shows the result of an update of an endpoint
+     * @param name The name of the endpoint
+     * @param price The mantissa of the price (FixedPointPrice.NO_PRICE if there is none)
+     * @param scale The scale of the price
+     * @param isSuccessful If the update succeeded
+     * @param lastUpdate The time of the last successful update (null if it has never succeeded)
+     */
+    void updatePrice(final String name, final long price, final int scale, final boolean isSuccessful,
+                     final LocalDateTime lastUpdate);
 
     void setRefreshing(final String name);
 
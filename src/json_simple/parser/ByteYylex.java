@@ -0,0 +1,344 @@
+package json_simple.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A lexer for UTF-8 encoded JSON text that scans the bytes of an InputStream directly, without decoding them into
+ * characters first. It produces the same tokens as Yylex. A string is decoded only once it has been fully scanned,
+ * and a number is converted straight from its bytes by DecimalParser, without building a String in between.
+ */
+public class ByteYylex {
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final Yytoken LEFT_BRACE = new Yytoken(Yytoken.TYPE_LEFT_BRACE, null);
+	private static final Yytoken RIGHT_BRACE = new Yytoken(Yytoken.TYPE_RIGHT_BRACE, null);
+	private static final Yytoken LEFT_SQUARE = new Yytoken(Yytoken.TYPE_LEFT_SQUARE, null);
+	private static final Yytoken RIGHT_SQUARE = new Yytoken(Yytoken.TYPE_RIGHT_SQUARE, null);
+	private static final Yytoken COMMA = new Yytoken(Yytoken.TYPE_COMMA, null);
+	private static final Yytoken COLON = new Yytoken(Yytoken.TYPE_COLON, null);
+
+	/**
+	 * The text of Long.MIN_VALUE, the one integer the scaled parser can't tell apart from invalid text.
+	 */
+	private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.ISO_8859_1);
+
+	private InputStream in;
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	private int bufferPosition;
+	private int bufferLimit;
+
+	/**
+	 * The number of bytes read before the start of the buffer.
+	 */
+	private int bufferOffset;
+
+	/**
+	 * The position of the first byte of the current token.
+	 */
+	private int tokenPosition;
+
+	/**
+	 * The bytes of the string or number being scanned.
+	 */
+	private byte[] scratch = new byte[64];
+	private int scratchLength;
+
+	/**
+	 * The length of the text of the current token in scratch, or -1 if it isn't there (see getTextLength).
+	 */
+	private int textLength = -1;
+
+	/**
+	 * The characters of a string holding escapes, which are decoded as they are met.
+	 */
+	private final StringBuilder sb = new StringBuilder();
+
+	public ByteYylex(InputStream in){
+		yyreset(in);
+	}
+
+	/**
+	 * Resets the scanner to read from a new byte stream, keeping its buffers.
+	 * Does not close the old stream.
+	 *
+	 * @param in - The new byte stream.
+	 */
+	public void yyreset(InputStream in){
+		this.in = in;
+		bufferPosition = bufferLimit = 0;
+		bufferOffset = 0;
+		tokenPosition = 0;
+		scratchLength = 0;
+		textLength = -1;
+	}
+
+	int getPosition(){
+		return tokenPosition;
+	}
+
+	/**
+	 * @return The bytes holding the text of the current token, from index 0. They are overwritten by the next token.
+	 */
+	byte[] getText(){
+		return scratch;
+	}
+
+	/**
+	 * @return The length of the text of the current token if it is a number, or a string without escapes (its text
+	 * being what is between the quotes), and -1 otherwise.
+	 */
+	int getTextLength(){
+		return textLength;
+	}
+
+	/**
+	 * Scans the next token.
+	 *
+	 * @return The next token, or null at the end of the input.
+	 */
+	public Yytoken yylex() throws IOException, ParseException{
+		int c;
+		do{
+			c = read();
+		}while(c == ' ' || c == '\t' || c == '\n' || c == '\r');
+		tokenPosition = bufferOffset + bufferPosition - 1;
+		textLength = -1;
+
+		switch(c){
+		case -1:
+			return null;
+		case '{':
+			return LEFT_BRACE;
+		case '}':
+			return RIGHT_BRACE;
+		case '[':
+			return LEFT_SQUARE;
+		case ']':
+			return RIGHT_SQUARE;
+		case ',':
+			return COMMA;
+		case ':':
+			return COLON;
+		case '"':
+			return new Yytoken(Yytoken.TYPE_VALUE, readString());
+		case 't':
+			expect('r', 'u', 'e');
+			return new Yytoken(Yytoken.TYPE_VALUE, Boolean.TRUE);
+		case 'f':
+			expect('a', 'l', 's', 'e');
+			return new Yytoken(Yytoken.TYPE_VALUE, Boolean.FALSE);
+		case 'n':
+			expect('u', 'l', 'l');
+			return new Yytoken(Yytoken.TYPE_VALUE, null);
+		default:
+			if(c == '-' || isDigit(c))
+				return new Yytoken(Yytoken.TYPE_VALUE, readNumber(c));
+			throw unexpectedChar(c);
+		}
+	}
+
+	private int read() throws IOException{
+		if(bufferPosition == bufferLimit && !fill())
+			return -1;
+		return buffer[bufferPosition++] & 0xFF;
+	}
+
+	private int peek() throws IOException{
+		if(bufferPosition == bufferLimit && !fill())
+			return -1;
+		return buffer[bufferPosition] & 0xFF;
+	}
+
+	private boolean fill() throws IOException{
+		if(in == null)
+			return false;
+		bufferOffset += bufferLimit;
+		bufferPosition = bufferLimit = 0;
+
+		int read;
+		do{
+			read = in.read(buffer, 0, buffer.length);
+		}while(read == 0);
+		if(read < 0)
+			return false;
+		bufferLimit = read;
+		return true;
+	}
+
+	private void expect(char... rest) throws IOException, ParseException{
+		for(char expected : rest){
+			int c = read();
+			if(c != expected)
+				throw unexpectedChar(c);
+		}
+	}
+
+	private ParseException unexpectedChar(int c){
+		if(c == -1)
+			return new ParseException(bufferOffset + bufferPosition, ParseException.ERROR_UNEXPECTED_TOKEN,
+					new Yytoken(Yytoken.TYPE_EOF, null));
+		return new ParseException(bufferOffset + bufferPosition - 1, ParseException.ERROR_UNEXPECTED_CHAR,
+				Character.valueOf((char) c));
+	}
+
+	private static boolean isDigit(int c){
+		return c >= '0' && c <= '9';
+	}
+
+	private void appendScratch(int b){
+		if(scratchLength == scratch.length){
+			byte[] grown = new byte[scratch.length * 2];
+			System.arraycopy(scratch, 0, grown, 0, scratchLength);
+			scratch = grown;
+		}
+		scratch[scratchLength++] = (byte)b;
+	}
+
+	/**
+	 * Scans the rest of a string, the opening quote having been read.
+	 */
+	private String readString() throws IOException, ParseException{
+		scratchLength = 0;
+		boolean isAscii = true;
+		boolean hasEscapes = false;
+
+		while(true){
+			int c = read();
+			if(c == -1)
+				throw unexpectedChar(c);
+			if(c == '"')
+				break;
+			if(c != '\\'){
+				isAscii &= c < 0x80;
+				appendScratch(c);
+				continue;
+			}
+
+			// Decode what was scanned before the escape, then the escape itself
+			if(!hasEscapes){
+				sb.setLength(0);
+				hasEscapes = true;
+			}
+			sb.append(new String(scratch, 0, scratchLength, StandardCharsets.UTF_8));
+			scratchLength = 0;
+			readEscape();
+		}
+
+		if(!hasEscapes){
+			textLength = scratchLength;
+			return new String(scratch, 0, scratchLength,
+					isAscii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+		}
+		sb.append(new String(scratch, 0, scratchLength, StandardCharsets.UTF_8));
+		return sb.toString();
+	}
+
+	private void readEscape() throws IOException, ParseException{
+		int c = read();
+		switch(c){
+		case '"':
+		case '\\':
+		case '/':
+			sb.append((char)c);
+			break;
+		case 'b':
+			sb.append('\b');
+			break;
+		case 'f':
+			sb.append('\f');
+			break;
+		case 'n':
+			sb.append('\n');
+			break;
+		case 'r':
+			sb.append('\r');
+			break;
+		case 't':
+			sb.append('\t');
+			break;
+		case 'u':
+			int ch = 0;
+			for(int i = 0; i < 4; i++){
+				int hex = read();
+				int digit = Character.digit(hex, 16);
+				if(digit < 0)
+					throw unexpectedChar(hex);
+				ch = (ch << 4) | digit;
+			}
+			sb.append((char)ch);
+			break;
+		case -1:
+			throw unexpectedChar(c);
+		default:
+			// Like Yylex, keep an unknown escape as it is, scanning the escaped byte as a regular one
+			sb.append('\\');
+			bufferPosition--;
+		}
+	}
+
+	/**
+	 * Scans the rest of a number, which is a Long if it has neither a fraction nor an exponent and fits in a long, and
+	 * a Double otherwise.
+	 *
+	 * @param first - The first byte of the number.
+	 */
+	private Object readNumber(int first) throws IOException, ParseException{
+		scratchLength = 0;
+		appendScratch(first);
+		boolean isInteger = true;
+
+		if(first == '-' && !isDigit(peek()))
+			throw unexpectedChar(read());
+		readDigits();
+
+		if(peek() == '.'){
+			isInteger = false;
+			appendScratch(read());
+			if(!isDigit(peek()))
+				throw unexpectedChar(read());
+			readDigits();
+		}
+
+		int c = peek();
+		if(c == 'e' || c == 'E'){
+			isInteger = false;
+			appendScratch(read());
+			c = peek();
+			if(c == '+' || c == '-')
+				appendScratch(read());
+			if(!isDigit(peek()))
+				throw unexpectedChar(read());
+			readDigits();
+		}
+
+		textLength = scratchLength;
+		if(isInteger){
+			long value = DecimalParser.parseScaled(scratch, 0, scratchLength, 0);
+			if(value != DecimalParser.INVALID)
+				return Long.valueOf(value);
+			// INVALID is Long.MIN_VALUE itself, which is still a long
+			if(isLongMinValue())
+				return Long.valueOf(Long.MIN_VALUE);
+			// Too big for a long, so keep it as a Double rather than failing the whole parse
+			return Double.valueOf(DecimalParser.parseDouble(scratch, 0, scratchLength));
+		}
+		return Double.valueOf(DecimalParser.parseDouble(scratch, 0, scratchLength));
+	}
+
+	private boolean isLongMinValue(){
+		if(scratchLength != LONG_MIN_VALUE.length)
+			return false;
+		for(int i = 0; i < scratchLength; i++){
+			if(scratch[i] != LONG_MIN_VALUE[i])
+				return false;
+		}
+		return true;
+	}
+
+	private void readDigits() throws IOException{
+		while(isDigit(peek()))
+			appendScratch(read());
+	}
+}
@@ -0,0 +1,228 @@
+package json_simple.parser;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses decimal text (e.g. 123.45, -1e-7) from bytes or characters into a double or into a long scaled by a power of
+ * ten, without throwing on malformed text and without building a String for the common cases. A double is built
+ * exactly from its digits whenever they fit in 53 bits and the power of ten is within 1e+-22 (so the result is
+ * correctly rounded). Any other number is handed to Double.parseDouble, after validation, so that call never throws.
+ */
+public final class DecimalParser {
+	/**
+	 * The value returned by the scaled parsers for text that isn't a number, or that doesn't fit in a long.
+	 */
+	public static final long INVALID = Long.MIN_VALUE;
+
+	private static final int MAX_EXACT_POWER = 22;
+
+	/**
+	 * The powers of ten that are exactly representable as doubles.
+	 */
+	private static final double[] DOUBLE_POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	/**
+	 * The powers of ten that fit in a long.
+	 */
+	private static final long[] LONG_POWERS_OF_TEN = {
+		1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+		10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+		1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+	};
+
+	/**
+	 * The largest exponent that is tracked exactly, beyond which every number is out of range anyway.
+	 */
+	private static final int MAX_EXPONENT = 100000;
+
+	private DecimalParser(){ }
+
+	/**
+	 * @param text - The decimal text.
+	 * @return The number, or NaN if the text isn't one.
+	 */
+	public static double parseDouble(CharSequence text){
+		return parseDouble(text, 0, text.length());
+	}
+
+	/**
+	 * @param text - The characters holding the decimal text.
+	 * @param offset - The index of the first character of the number.
+	 * @param length - The number of characters of the number.
+	 * @return The number, or NaN if the text isn't one.
+	 */
+	public static double parseDouble(CharSequence text, int offset, int length){
+		return Double.longBitsToDouble(parse(null, text, offset, length, 0, false));
+	}
+
+	/**
+	 * @param bytes - The bytes holding the ASCII decimal text.
+	 * @param offset - The index of the first byte of the number.
+	 * @param length - The number of bytes of the number.
+	 * @return The number, or NaN if the bytes aren't one.
+	 */
+	public static double parseDouble(byte[] bytes, int offset, int length){
+		return Double.longBitsToDouble(parse(bytes, null, offset, length, 0, false));
+	}
+
+	/**
+	 * Parses decimal text into a fixed-point long, i.e. the number multiplied by 10^scale and rounded half away from
+	 * zero (e.g. 123.456 with a scale of 2 is 12346).
+	 *
+	 * @param text - The decimal text.
+	 * @param scale - The number of decimal places to keep.
+	 * @return The scaled number, or INVALID if the text isn't a number or the scaled number doesn't fit in a long.
+	 */
+	public static long parseScaled(CharSequence text, int scale){
+		return parse(null, text, 0, text.length(), scale, true);
+	}
+
+	/**
+	 * @see #parseScaled(CharSequence, int)
+	 */
+	public static long parseScaled(byte[] bytes, int offset, int length, int scale){
+		return parse(bytes, null, offset, length, scale, true);
+	}
+
+	/**
+	 * Parses decimal text from either bytes or characters.
+	 *
+	 * @return The scaled number if isScaled, otherwise the raw bits of the double.
+	 */
+	private static long parse(byte[] bytes, CharSequence chars, int offset, int length, int scale, boolean isScaled){
+		int end = offset + length;
+		int i = offset;
+		boolean isNegative = false;
+		if(i < end){
+			int c = charAt(bytes, chars, i);
+			if(c == '-' || c == '+'){
+				isNegative = c == '-';
+				i++;
+			}
+		}
+
+		// The leading digits that fit in a long, the power of ten they are scaled by,
+		// and the first digit that didn't fit
+		long mantissa = 0;
+		int exponent = 0;
+		int digits = 0;
+		int firstDropped = -1;
+		boolean hasDroppedNonZero = false;
+		boolean isFraction = false;
+
+		for(; i < end; i++){
+			int c = charAt(bytes, chars, i);
+			if(c == '.' && !isFraction){
+				isFraction = true;
+				continue;
+			}
+			if(c < '0' || c > '9')
+				break;
+
+			int digit = c - '0';
+			digits++;
+			if(firstDropped < 0 && mantissa <= (Long.MAX_VALUE - digit) / 10){
+				mantissa = mantissa * 10 + digit;
+				if(isFraction)
+					exponent--;
+			}
+			else{
+				if(firstDropped < 0)
+					firstDropped = digit;
+				hasDroppedNonZero |= digit != 0;
+				if(!isFraction)
+					exponent++;
+			}
+		}
+		if(digits == 0)
+			return invalid(isScaled);
+
+		if(i < end){
+			int c = charAt(bytes, chars, i);
+			if(c != 'e' && c != 'E')
+				return invalid(isScaled);
+			i++;
+
+			boolean isExponentNegative = false;
+			if(i < end){
+				c = charAt(bytes, chars, i);
+				if(c == '-' || c == '+'){
+					isExponentNegative = c == '-';
+					i++;
+				}
+			}
+			if(i == end)
+				return invalid(isScaled);
+
+			int explicit = 0;
+			for(; i < end; i++){
+				c = charAt(bytes, chars, i);
+				if(c < '0' || c > '9')
+					return invalid(isScaled);
+				if(explicit < MAX_EXPONENT)
+					explicit = explicit * 10 + (c - '0');
+			}
+			exponent += isExponentNegative ? -explicit : explicit;
+		}
+
+		if(isScaled)
+			return toScaled(mantissa, exponent + scale, firstDropped, hasDroppedNonZero, isNegative);
+
+		if(!hasDroppedNonZero && mantissa <= (1L << 53)
+				&& exponent >= -MAX_EXACT_POWER && exponent <= MAX_EXACT_POWER){
+			double value = exponent < 0 ? mantissa / DOUBLE_POWERS_OF_TEN[-exponent]
+					: mantissa * DOUBLE_POWERS_OF_TEN[exponent];
+			return Double.doubleToRawLongBits(isNegative ? -value : value);
+		}
+
+		// The text has been validated above, so this never throws
+		String text = bytes != null ? new String(bytes, offset, length, StandardCharsets.ISO_8859_1)
+				: chars.subSequence(offset, offset + length).toString();
+		return Double.doubleToRawLongBits(Double.parseDouble(text));
+	}
+
+	private static long toScaled(long mantissa, int shift, int firstDropped, boolean hasDroppedNonZero,
+			boolean isNegative){
+		long value;
+		if(shift >= 0){
+			// A digit that didn't fit would be needed, so the scaled number doesn't fit either
+			if(shift > 0 && hasDroppedNonZero)
+				return INVALID;
+			value = mantissa;
+			for(int i = 0; i < shift && value != 0; i++){
+				if(value > Long.MAX_VALUE / 10)
+					return INVALID;
+				value *= 10;
+			}
+			// Only digits past the last one kept are dropped when nothing was shifted
+			if(shift == 0 && firstDropped >= 5){
+				if(value == Long.MAX_VALUE)
+					return INVALID;
+				value++;
+			}
+		}
+		else if(-shift < LONG_POWERS_OF_TEN.length){
+			long divisor = LONG_POWERS_OF_TEN[-shift];
+			long remainder = mantissa % divisor;
+			value = mantissa / divisor;
+			if(remainder >= divisor - remainder)
+				value++;
+		}
+		else{
+			// Every digit is below the last decimal place kept, and at most the first one is worth rounding up
+			value = -shift == LONG_POWERS_OF_TEN.length && mantissa >= 5000000000000000000L ? 1 : 0;
+		}
+		return isNegative ? -value : value;
+	}
+
+	private static long invalid(boolean isScaled){
+		return isScaled ? INVALID : Double.doubleToRawLongBits(Double.NaN);
+	}
+
+	private static int charAt(byte[] bytes, CharSequence chars, int index){
+		return bytes != null ? bytes[index] : chars.charAt(index);
+	}
+}
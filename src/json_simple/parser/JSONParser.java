@@ -8,16 +8,22 @@ import json_simple.JSONArray;
 import json_simple.JSONObject;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 
 /**
  * Parser for JSON text. Please note that JSONParser is NOT thread-safe.
  * 
+ * A parser keeps its lexer, state stack and value stack between calls, so reusing one parser (e.g. the one returned by
+ * getThreadLocalParser) parses without allocating anything but the values themselves.
+ * 
  * @author FangYidong<fangyidong@yahoo.com.cn>
  */
 public class JSONParser {
@@ -30,16 +36,25 @@ public class JSONParser {
 	public static final int S_END=6;
 	public static final int S_IN_ERROR=-1;
 	
-	private LinkedList handlerStatusStack;
+	private static final ThreadLocal<JSONParser> THREAD_LOCAL_PARSER = ThreadLocal.withInitial(JSONParser::new);
+	
+	private final StatusStack statusStack = new StatusStack();
+	private final ArrayDeque<Object> valueStack = new ArrayDeque<>();
+	private StatusStack handlerStatusStack;
 	private Yylex lexer = new Yylex((Reader)null);
+	private ByteYylex byteLexer = null;
+	private boolean isReadingBytes = false;
 	private Yytoken token = null;
 	private int status = S_INIT;
 	
-	private int peekStatus(LinkedList statusStack){
-		if(statusStack.size()==0)
-			return -1;
-		Integer status=(Integer)statusStack.getFirst();
-		return status.intValue();
+	/**
+	 * Returns the parser of the calling thread, which is reset by every parse. It must not be used for a parse that is
+	 * resumed later, nor from within a ContentHandler of a parse that is using it, as the next parse would clobber it.
+	 * 
+	 * @return The parser of the calling thread.
+	 */
+	public static JSONParser getThreadLocalParser(){
+		return THREAD_LOCAL_PARSER.get();
 	}
 	
     /**
@@ -61,6 +76,22 @@ public class JSONParser {
      */
 	public void reset(Reader in){
 		lexer.yyreset(in);
+		isReadingBytes = false;
+		reset();
+	}
+	
+	/**
+	 * Reset the parser to the initial state with a new byte stream, which is read as UTF-8 without decoding it into
+	 * characters first.
+	 * 
+	 * @param in - The new byte stream.
+	 */
+	public void reset(InputStream in){
+		if(byteLexer == null)
+			byteLexer = new ByteYylex(in);
+		else
+			byteLexer.yyreset(in);
+		isReadingBytes = true;
 		reset();
 	}
 	
@@ -68,7 +99,7 @@ public class JSONParser {
 	 * @return The position of the beginning of the current token.
 	 */
 	public int getPosition(){
-		return lexer.getPosition();
+		return isReadingBytes ? byteLexer.getPosition() : lexer.getPosition();
 	}
 	
 	public Object parse(String s) throws ParseException{
@@ -110,8 +141,29 @@ public class JSONParser {
 	 */
 	public Object parse(Reader in, ContainerFactory containerFactory) throws IOException, ParseException{
 		reset(in);
-		LinkedList statusStack = new LinkedList();
-		LinkedList valueStack = new LinkedList();
+		return parse(containerFactory);
+	}
+	
+	public Object parse(InputStream in) throws IOException, ParseException{
+		return parse(in, (ContainerFactory)null);
+	}
+	
+	/**
+	 * Parse UTF-8 encoded JSON text into java object from the byte stream, without decoding it into characters first.
+	 * 
+	 * @see #parse(Reader, ContainerFactory)
+	 */
+	public Object parse(InputStream in, ContainerFactory containerFactory) throws IOException, ParseException{
+		reset(in);
+		return parse(containerFactory);
+	}
+	
+	private Object parse(ContainerFactory containerFactory) throws IOException, ParseException{
+		StatusStack statusStack = this.statusStack;
+		ArrayDeque<Object> valueStack = this.valueStack;
+		statusStack.clear();
+		valueStack.clear();
+		Object topLevelValue = null;
 		
 		try{
 			do{
@@ -121,17 +173,18 @@ public class JSONParser {
 					switch(token.type){
 					case Yytoken.TYPE_VALUE:
 						status=S_IN_FINISHED_VALUE;
-						statusStack.addFirst(new Integer(status));
-						valueStack.addFirst(token.value);
+						statusStack.push(status);
+						// The value stack can't hold null, so a lone value is kept aside
+						topLevelValue=token.value;
 						break;
 					case Yytoken.TYPE_LEFT_BRACE:
 						status=S_IN_OBJECT;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						valueStack.addFirst(createObjectContainer(containerFactory));
 						break;
 					case Yytoken.TYPE_LEFT_SQUARE:
 						status=S_IN_ARRAY;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						valueStack.addFirst(createArrayContainer(containerFactory));
 						break;
 					default:
@@ -141,7 +194,7 @@ public class JSONParser {
 					
 				case S_IN_FINISHED_VALUE:
 					if(token.type==Yytoken.TYPE_EOF)
-						return valueStack.removeFirst();
+						return valueStack.isEmpty() ? topLevelValue : valueStack.removeFirst();
 					else
 						throw new ParseException(getPosition(), ParseException.ERROR_UNEXPECTED_TOKEN, token);
 					
@@ -154,7 +207,7 @@ public class JSONParser {
 							String key=(String)token.value;
 							valueStack.addFirst(key);
 							status=S_PASSED_PAIR_KEY;
-							statusStack.addFirst(new Integer(status));
+							statusStack.push(status);
 						}
 						else{
 							status=S_IN_ERROR;
@@ -162,9 +215,9 @@ public class JSONParser {
 						break;
 					case Yytoken.TYPE_RIGHT_BRACE:
 						if(valueStack.size()>1){
-							statusStack.removeFirst();
+							statusStack.pop();
 							valueStack.removeFirst();
-							status=peekStatus(statusStack);
+							status=statusStack.peek();
 						}
 						else{
 							status=S_IN_FINISHED_VALUE;
@@ -181,30 +234,30 @@ public class JSONParser {
 					case Yytoken.TYPE_COLON:
 						break;
 					case Yytoken.TYPE_VALUE:
-						statusStack.removeFirst();
+						statusStack.pop();
 						String key=(String)valueStack.removeFirst();
 						Map parent=(Map)valueStack.getFirst();
 						parent.put(key,token.value);
-						status=peekStatus(statusStack);
+						status=statusStack.peek();
 						break;
 					case Yytoken.TYPE_LEFT_SQUARE:
-						statusStack.removeFirst();
+						statusStack.pop();
 						key=(String)valueStack.removeFirst();
 						parent=(Map)valueStack.getFirst();
 						List newArray=createArrayContainer(containerFactory);
 						parent.put(key,newArray);
 						status=S_IN_ARRAY;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						valueStack.addFirst(newArray);
 						break;
 					case Yytoken.TYPE_LEFT_BRACE:
-						statusStack.removeFirst();
+						statusStack.pop();
 						key=(String)valueStack.removeFirst();
 						parent=(Map)valueStack.getFirst();
 						Map newObject=createObjectContainer(containerFactory);
 						parent.put(key,newObject);
 						status=S_IN_OBJECT;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						valueStack.addFirst(newObject);
 						break;
 					default:
@@ -222,9 +275,9 @@ public class JSONParser {
 						break;
 					case Yytoken.TYPE_RIGHT_SQUARE:
 						if(valueStack.size()>1){
-							statusStack.removeFirst();
+							statusStack.pop();
 							valueStack.removeFirst();
-							status=peekStatus(statusStack);
+							status=statusStack.peek();
 						}
 						else{
 							status=S_IN_FINISHED_VALUE;
@@ -235,7 +288,7 @@ public class JSONParser {
 						Map newObject=createObjectContainer(containerFactory);
 						val.add(newObject);
 						status=S_IN_OBJECT;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						valueStack.addFirst(newObject);
 						break;
 					case Yytoken.TYPE_LEFT_SQUARE:
@@ -243,7 +296,7 @@ public class JSONParser {
 						List newArray=createArrayContainer(containerFactory);
 						val.add(newArray);
 						status=S_IN_ARRAY;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						valueStack.addFirst(newArray);
 						break;
 					default:
@@ -266,7 +319,7 @@ public class JSONParser {
 	}
 	
 	private void nextToken() throws ParseException, IOException{
-		token = lexer.yylex();
+		token = isReadingBytes ? byteLexer.yylex() : lexer.yylex();
 		if(token == null)
 			token = new Yytoken(Yytoken.TYPE_EOF, null);
 	}
@@ -327,19 +380,44 @@ public class JSONParser {
 	 * @throws ParseException
 	 */
 	public void parse(Reader in, ContentHandler contentHandler, boolean isResume) throws IOException, ParseException{
-		if(!isResume){
+		if(!isResume || handlerStatusStack == null)
 			reset(in);
-			handlerStatusStack = new LinkedList();
-		}
-		else{
-			if(handlerStatusStack == null){
-				isResume = false;
-				reset(in);
-				handlerStatusStack = new LinkedList();
-			}
+		parse(contentHandler);
+	}
+	
+	public void parse(InputStream in, ContentHandler contentHandler) throws IOException, ParseException{
+		parse(in, contentHandler, false);
+	}
+	
+	/**
+	 * Stream processing of UTF-8 encoded JSON text from the byte stream, without decoding it into characters first.
+	 * 
+	 * @see #parse(Reader, ContentHandler, boolean)
+	 */
+	public void parse(InputStream in, ContentHandler contentHandler, boolean isResume) throws IOException, ParseException{
+		if(!isResume || handlerStatusStack == null)
+			reset(in);
+		parse(contentHandler);
+	}
+	
+	/**
+	 * Hands the current primitive to the handler, along with its text if the handler wants it and it is available.
+	 */
+	private boolean primitive(ContentHandler contentHandler) throws IOException, ParseException{
+		if(isReadingBytes && contentHandler instanceof RawContentHandler)
+			return ((RawContentHandler)contentHandler).primitive(token.value, byteLexer.getText(), 0,
+					byteLexer.getTextLength());
+		return contentHandler.primitive(token.value);
+	}
+	
+	private void parse(ContentHandler contentHandler) throws IOException, ParseException{
+		// A reset drops the state of the previous parse, otherwise this resumes it
+		if(handlerStatusStack == null){
+			statusStack.clear();
+			handlerStatusStack = statusStack;
 		}
 		
-		LinkedList statusStack = handlerStatusStack;	
+		StatusStack statusStack = handlerStatusStack;
 		
 		try{
 			do{
@@ -350,19 +428,19 @@ public class JSONParser {
 					switch(token.type){
 					case Yytoken.TYPE_VALUE:
 						status=S_IN_FINISHED_VALUE;
-						statusStack.addFirst(new Integer(status));
-						if(!contentHandler.primitive(token.value))
+						statusStack.push(status);
+						if(!primitive(contentHandler))
 							return;
 						break;
 					case Yytoken.TYPE_LEFT_BRACE:
 						status=S_IN_OBJECT;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						if(!contentHandler.startObject())
 							return;
 						break;
 					case Yytoken.TYPE_LEFT_SQUARE:
 						status=S_IN_ARRAY;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						if(!contentHandler.startArray())
 							return;
 						break;
@@ -392,7 +470,7 @@ public class JSONParser {
 						if(token.value instanceof String){
 							String key=(String)token.value;
 							status=S_PASSED_PAIR_KEY;
-							statusStack.addFirst(new Integer(status));
+							statusStack.push(status);
 							if(!contentHandler.startObjectEntry(key))
 								return;
 						}
@@ -402,8 +480,8 @@ public class JSONParser {
 						break;
 					case Yytoken.TYPE_RIGHT_BRACE:
 						if(statusStack.size()>1){
-							statusStack.removeFirst();
-							status=peekStatus(statusStack);
+							statusStack.pop();
+							status=statusStack.peek();
 						}
 						else{
 							status=S_IN_FINISHED_VALUE;
@@ -423,26 +501,26 @@ public class JSONParser {
 					case Yytoken.TYPE_COLON:
 						break;
 					case Yytoken.TYPE_VALUE:
-						statusStack.removeFirst();
-						status=peekStatus(statusStack);
-						if(!contentHandler.primitive(token.value))
+						statusStack.pop();
+						status=statusStack.peek();
+						if(!primitive(contentHandler))
 							return;
 						if(!contentHandler.endObjectEntry())
 							return;
 						break;
 					case Yytoken.TYPE_LEFT_SQUARE:
-						statusStack.removeFirst();
-						statusStack.addFirst(new Integer(S_IN_PAIR_VALUE));
+						statusStack.pop();
+						statusStack.push(S_IN_PAIR_VALUE);
 						status=S_IN_ARRAY;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						if(!contentHandler.startArray())
 							return;
 						break;
 					case Yytoken.TYPE_LEFT_BRACE:
-						statusStack.removeFirst();
-						statusStack.addFirst(new Integer(S_IN_PAIR_VALUE));
+						statusStack.pop();
+						statusStack.push(S_IN_PAIR_VALUE);
 						status=S_IN_OBJECT;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						if(!contentHandler.startObject())
 							return;
 						break;
@@ -456,8 +534,8 @@ public class JSONParser {
 					 * S_IN_PAIR_VALUE is just a marker to indicate the end of an object entry, it doesn't proccess any token,
 					 * therefore delay consuming token until next round.
 					 */
-					statusStack.removeFirst();
-					status = peekStatus(statusStack);
+					statusStack.pop();
+					status = statusStack.peek();
 					if(!contentHandler.endObjectEntry())
 						return;
 					break;
@@ -468,13 +546,13 @@ public class JSONParser {
 					case Yytoken.TYPE_COMMA:
 						break;
 					case Yytoken.TYPE_VALUE:
-						if(!contentHandler.primitive(token.value))
+						if(!primitive(contentHandler))
 							return;
 						break;
 					case Yytoken.TYPE_RIGHT_SQUARE:
 						if(statusStack.size()>1){
-							statusStack.removeFirst();
-							status=peekStatus(statusStack);
+							statusStack.pop();
+							status=statusStack.peek();
 						}
 						else{
 							status=S_IN_FINISHED_VALUE;
@@ -484,13 +562,13 @@ public class JSONParser {
 						break;
 					case Yytoken.TYPE_LEFT_BRACE:
 						status=S_IN_OBJECT;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						if(!contentHandler.startObject())
 							return;
 						break;
 					case Yytoken.TYPE_LEFT_SQUARE:
 						status=S_IN_ARRAY;
-						statusStack.addFirst(new Integer(status));
+						statusStack.push(status);
 						if(!contentHandler.startArray())
 							return;
 						break;
@@ -530,4 +608,36 @@ public class JSONParser {
 		status = S_IN_ERROR;
 		throw new ParseException(getPosition(), ParseException.ERROR_UNEXPECTED_TOKEN, token);
 	}
+	
+	/**
+	 * A stack of parser states held in a growable int array, so that pushing a state never boxes it.
+	 */
+	private static final class StatusStack{
+		private int[] states = new int[16];
+		private int size = 0;
+		
+		void push(int state){
+			if(size == states.length)
+				states = Arrays.copyOf(states, size * 2);
+			states[size++] = state;
+		}
+		
+		void pop(){
+			if(size == 0)
+				throw new NoSuchElementException();
+			size--;
+		}
+		
+		int peek(){
+			return size == 0 ? -1 : states[size - 1];
+		}
+		
+		int size(){
+			return size;
+		}
+		
+		void clear(){
+			size = 0;
+		}
+	}
 }
@@ -0,0 +1,26 @@
+package json_simple.parser;
+
+import java.io.IOException;
+
+/**
+ * A ContentHandler that is also handed the text of each primitive, as it was scanned, when the JSON text is parsed
+ * from a byte stream. This lets a number be converted straight from its digits (e.g. to a fixed-point number) instead
+ * of from the Long or Double the lexer made of it, whether it was given bare or as a string.
+ * 
+ * @see JSONParser#parse(java.io.InputStream, ContentHandler, boolean)
+ */
+public interface RawContentHandler extends ContentHandler {
+	/**
+	 * Receive notification of the JSON primitive values, along with their text.
+	 * 
+	 * @param value - The primitive, as for ContentHandler#primitive(Object).
+	 * @param text - The bytes holding the text of the primitive, which are only valid during this call.
+	 * @param offset - The index of the first byte of the text.
+	 * @param length - The number of bytes of the text: the digits of a number, or what is between the quotes of a
+	 * 			string without escapes. It is -1 for any other primitive, whose text isn't available.
+	 * 
+	 * @return false if the handler wants to stop parsing after return.
+	 * @throws ParseException
+	 */
+	boolean primitive(Object value, byte[] text, int offset, int length) throws ParseException, IOException;
+}